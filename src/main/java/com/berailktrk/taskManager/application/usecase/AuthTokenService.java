@@ -0,0 +1,163 @@
+package com.berailktrk.taskManager.application.usecase;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.berailktrk.taskManager.domain.model.RefreshToken;
+import com.berailktrk.taskManager.domain.model.TokenRevocation;
+import com.berailktrk.taskManager.domain.model.User;
+import com.berailktrk.taskManager.domain.repository.RefreshTokenRepository;
+import com.berailktrk.taskManager.domain.repository.TokenRevocationRepository;
+import com.berailktrk.taskManager.infrastructure.invalidation.InvalidationBus;
+import com.berailktrk.taskManager.infrastructure.security.JwtProvider;
+import com.berailktrk.taskManager.infrastructure.security.TokenRevocationIndex;
+
+// Oturum token'ları: kısa ömürlü erişim token'ı (JWT) + tek kullanımlık, döndürülen refresh token.
+// İptaller hem veritabanına yazılır (açılışta yüklemek için) hem de TokenRevocationIndex'e işlenir ve
+// commit sonrası diğer instance'lara duyurulur; istek başına yapılan kontrol sadece bellekteki index'e bakar.
+@Service
+public class AuthTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthTokenService.class);
+
+    private static final int REFRESH_TOKEN_BYTES = 32;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private TokenRevocationRepository revocationRepository;
+
+    @Autowired
+    private TokenRevocationIndex revocationIndex;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpirationMs;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public record TokenPair(String accessToken, String refreshToken, long expiresInSeconds) {}
+
+    // Business Logic: Giriş veya yenileme sonrası yeni bir erişim + refresh token çifti üretir
+    @Transactional
+    public TokenPair issueTokens(User user) {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawRefreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(hash(rawRefreshToken));
+        refreshToken.setUser(user);
+        refreshToken.setCreatedAt(now);
+        refreshToken.setExpiresAt(now.plusNanos(refreshExpirationMs * 1_000_000));
+        refreshTokenRepository.save(refreshToken);
+
+        String accessToken = jwtProvider.generateToken(user.getId(), user.getRole().name());
+        return new TokenPair(accessToken, rawRefreshToken, jwtProvider.getExpirationMs() / 1000);
+    }
+
+    // Business Logic: Refresh token'ı tek kullanımlıktır; kullanılan token iptal edilip yenisi verilir.
+    // Daha önce kullanılmış bir token tekrar gelirse token çalınmış kabul edilir ve kullanıcının tüm oturumları kapatılır.
+    // Exception fırlatılmaz ki bu iptaller geri alınmasın; geçersiz token için boş döner.
+    @Transactional
+    public Optional<TokenPair> refresh(String rawRefreshToken) {
+        if (rawRefreshToken == null || rawRefreshToken.isBlank()) {
+            return Optional.empty();
+        }
+
+        Optional<RefreshToken> tokenOpt = refreshTokenRepository.findWithUserByTokenHash(hash(rawRefreshToken));
+        if (tokenOpt.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RefreshToken token = tokenOpt.get();
+        LocalDateTime now = LocalDateTime.now();
+
+        if (token.getRevokedAt() != null || refreshTokenRepository.markUsed(token.getId(), now) == 0) {
+            log.warn("Kullanılmış refresh token tekrar gönderildi, kullanıcı {} için tüm oturumlar kapatılıyor", token.getUser().getId());
+            revokeAllForUser(token.getUser().getId());
+            return Optional.empty();
+        }
+
+        if (token.getExpiresAt().isBefore(now)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(issueTokens(token.getUser()));
+    }
+
+    // Business Logic: Çıkış - bu erişim token'ı ve (verildiyse) ona ait refresh token iptal edilir
+    @Transactional
+    public void logout(String accessToken, String rawRefreshToken) {
+        Long userId = jwtProvider.getUserIdFromToken(accessToken);
+        String jti = jwtProvider.getTokenIdFromToken(accessToken);
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(jwtProvider.getExpirationFromToken(accessToken).toInstant(), ZoneId.systemDefault());
+
+        if (jti != null) {
+            long expiresAtEpochSecond = TokenRevocationIndex.toEpochSecond(expiresAt);
+            revocationRepository.save(TokenRevocation.ofToken(jti, expiresAt));
+            revocationIndex.revokeToken(jti, expiresAtEpochSecond);
+            invalidationBus.publish(TokenRevocationIndex.INVALIDATION_REGION, TokenRevocationIndex.tokenKey(jti, expiresAtEpochSecond));
+        }
+
+        if (rawRefreshToken != null && !rawRefreshToken.isBlank()) {
+            refreshTokenRepository.findWithUserByTokenHash(hash(rawRefreshToken))
+                .filter(token -> token.getUser().getId().equals(userId))
+                .ifPresent(token -> refreshTokenRepository.markUsed(token.getId(), LocalDateTime.now()));
+        }
+    }
+
+    // Business Logic: Kullanıcının şu ana kadar aldığı tüm token'lar geçersiz olur (şifre değişikliği, kullanıcı silme)
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.revokeAllByUserId(userId, now);
+        revocationRepository.save(TokenRevocation.ofUser(userId, now, now.plusNanos(jwtProvider.getExpirationMs() * 1_000_000)));
+        long notBeforeEpochMilli = TokenRevocationIndex.toEpochMilli(now);
+        revocationIndex.revokeUser(userId, notBeforeEpochMilli);
+        invalidationBus.publish(TokenRevocationIndex.INVALIDATION_REGION, TokenRevocationIndex.userKey(userId, notBeforeEpochMilli));
+    }
+
+    // Süresi dolmuş refresh token'lar ve artık hiçbir geçerli token'ı kapsamayan iptal kayıtları silinir
+    @Scheduled(fixedDelayString = "${app.token-revocation.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int refreshTokens = refreshTokenRepository.deleteExpired(now);
+        int revocations = revocationRepository.deleteExpired(now);
+        if (refreshTokens > 0 || revocations > 0) {
+            log.debug("Süresi dolan {} refresh token ve {} iptal kaydı silindi", refreshTokens, revocations);
+        }
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
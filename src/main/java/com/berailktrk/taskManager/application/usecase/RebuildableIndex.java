@@ -0,0 +1,97 @@
+package com.berailktrk.taskManager.application.usecase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+// Veritabanından yeniden kurulabilen bellek içi index'lerin ortak kısmı. Okumalar okuma, değişiklikler yazma
+// kilidiyle yapılır. Yükleme kilit dışında sürer; bu sırada uygulanan değişiklikler ayrıca kaydedilir ve yeni kopya
+// devreye alınmadan önce ona da uygulanır, yükleme sırasında commit olan yazmalar kaybolmaz.
+abstract class RebuildableIndex<S> {
+
+    // Mevcut kopyaya uygulanan değişiklik; yeniden kurulum sürüyorsa yeni kopyaya da tekrar uygulanır
+    @FunctionalInterface
+    protected interface Change<S> {
+        void applyTo(S snapshot);
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Yeniden kurulum birden fazla yerden aynı anda tetiklenebilir; değişiklik günlüğü tek bir kuruluma aittir
+    private final Object rebuildLock = new Object();
+    private List<Change<S>> pendingDuringRebuild;
+    private S current;
+    private boolean ready;
+
+    protected RebuildableIndex(S empty) {
+        this.current = empty;
+    }
+
+    protected abstract boolean isEnabled();
+
+    // Yeni kopyayı veritabanından yükler; hata fırlatırsa mevcut kopya kullanılmaya devam eder
+    protected abstract S load();
+
+    protected abstract void rebuilt(S snapshot);
+
+    protected abstract void rebuildFailed(RuntimeException e);
+
+    public void rebuild() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        synchronized (rebuildLock) {
+            writeLocked(() -> pendingDuringRebuild = new ArrayList<>());
+
+            S loaded;
+            try {
+                loaded = load();
+            } catch (RuntimeException e) {
+                writeLocked(() -> pendingDuringRebuild = null);
+                rebuildFailed(e);
+                return;
+            }
+
+            writeLocked(() -> {
+                for (Change<S> change : pendingDuringRebuild) {
+                    change.applyTo(loaded);
+                }
+                pendingDuringRebuild = null;
+                current = loaded;
+                ready = true;
+            });
+            rebuilt(loaded);
+        }
+    }
+
+    // Okuma kilidi altında mevcut kopyayı okur; index henüz kurulmadıysa boş döner (çağıran veritabanına düşer)
+    protected <R> Optional<R> read(Function<S, R> reader) {
+        lock.readLock().lock();
+        try {
+            return ready ? Optional.of(reader.apply(current)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    protected void apply(Change<S> change) {
+        writeLocked(() -> {
+            change.applyTo(current);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        });
+    }
+
+    private void writeLocked(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.berailktrk.taskManager.application.usecase;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+import com.berailktrk.taskManager.infrastructure.concurrency.SingleFlight;
+
+// total=approximate aramalarında kullanılan toplam kayıt sayılarının kısa süreli önbelleği.
+// Aynı filtreyle sayfalar arasında gezilirken COUNT sorgusu her istekte değil TTL'de bir kez çalışır;
+// eşzamanlı ıskalamalar SingleFlight ile tek sorguda birleşir. Yazmalar önbelleği geçersiz kılmaz,
+// bu yüzden dönen toplam en fazla TTL kadar eski olabilir ve yanıtta yaklaşık olarak işaretlenir.
+@Component
+public class SearchTotalCache {
+
+    // Filtrenin kendisi anahtardır (etiket ifadesi ham haliyle; index'ten çözülen id listesi değil)
+    public record Key(String title, TaskStatus status, TaskPriority priority, Long userId, String labels) {
+    }
+
+    private record Entry(long total, long loadedAtNanos) {
+    }
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final SingleFlight singleFlight;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public SearchTotalCache(SingleFlight singleFlight,
+                            @Value("${app.search.total-cache-ttl:30s}") Duration ttl,
+                            @Value("${app.search.total-cache-max-entries:10000}") int maxEntries) {
+        this.singleFlight = singleFlight;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    public long get(Key key, Supplier<Long> loader) {
+        Entry entry = entries.get(key);
+        if (entry != null && System.nanoTime() - entry.loadedAtNanos() < ttlNanos) {
+            return entry.total();
+        }
+
+        long total = singleFlight.execute("searchTotal", List.of(key), loader);
+        if (entries.size() >= maxEntries) {
+            evict();
+        }
+        entries.put(key, new Entry(total, System.nanoTime()));
+        return total;
+    }
+
+    // Önce süresi dolanlar atılır; hâlâ doluysa (çok sayıda farklı filtre) önbellek tamamen boşaltılır
+    private void evict() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> now - entry.loadedAtNanos() >= ttlNanos);
+        if (entries.size() >= maxEntries) {
+            entries.clear();
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.berailktrk.taskManager.application.usecase;
+
+import java.nio.ByteBuffer;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.DataFormatException;
+
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.berailktrk.taskManager.domain.model.Role;
+import com.berailktrk.taskManager.domain.model.Task;
+import com.berailktrk.taskManager.domain.model.TaskDailyRollup;
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+import com.berailktrk.taskManager.domain.model.TaskStatusTransition;
+import com.berailktrk.taskManager.domain.model.User;
+import com.berailktrk.taskManager.domain.repository.TaskDailyRollupRepository;
+import com.berailktrk.taskManager.domain.repository.TaskStatusTransitionRepository;
+import com.berailktrk.taskManager.domain.repository.UserRepository;
+
+// Tamamlanma hızı (throughput) ve teslim süresi (oluşturma -> tamamlanma) analitiği.
+// Durum geçişleri task_status_transitions'a yazılır; periyodik iş bunlardan gün/atanan kullanıcı/öncelik başına
+// task_daily_rollups satırlarını üretir. Sorgular sadece rollup'ları okur: maliyet görev sayısına değil tarih
+// aralığına bağlıdır. Son recompute-days gün her çalışmada baştan hesaplanır (geç commit edilen geçişler,
+// yeniden açılan görevler); daha eski günler değişmez. Bugünün rakamları rollup aralığı kadar geride kalabilir.
+@Service
+public class TaskAnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskAnalyticsService.class);
+
+    // Histogramın izleyebildiği en uzun teslim süresi (saniye); daha uzun süreler bu değere sabitlenir
+    private static final long MAX_LEAD_TIME_SECONDS = Duration.ofDays(3650).toSeconds();
+
+    public enum Interval {
+        DAY,
+        WEEK    // ISO hafta, pazartesi başlar
+    }
+
+    public enum GroupBy {
+        NONE,
+        ASSIGNEE,
+        PRIORITY,
+        ASSIGNEE_PRIORITY
+    }
+
+    public record ThroughputPoint(LocalDate periodStart, long completed) {
+    }
+
+    // Gruplanmayan boyut null'dur; atanmamış görevler ASSIGNEE gruplamasında assigneeId null satırındadır
+    public record LeadTimeGroup(
+        Long assigneeId,
+        TaskPriority priority,
+        long count,
+        double meanSeconds,
+        long maxSeconds,
+        Map<Double, Long> percentileSeconds
+    ) {
+    }
+
+    private record RollupKey(Long assigneeId, TaskPriority priority) {
+    }
+
+    @Autowired
+    private TaskStatusTransitionRepository transitionRepository;
+
+    @Autowired
+    private TaskDailyRollupRepository rollupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // Bu instance'ta kesinti sonrası eksik günler tamamlandı mı (ilk çalışmada bir kez yapılır)
+    private volatile boolean backfilled;
+
+    @Value("${app.analytics.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.analytics.recompute-days:2}")
+    private int recomputeDays;
+
+    @Value("${app.analytics.max-range-days:366}")
+    private int maxRangeDays;
+
+    @Value("${app.analytics.histogram-significant-digits:2}")
+    private int significantDigits;
+
+    public TaskAnalyticsService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Durum değiştiyse geçişi kaydeder; çağıranın transaction'ında çalışır (görev yazmasıyla birlikte commit edilir)
+    public void recordTransition(Task task, TaskStatus fromStatus, Long actorUserId) {
+        if (task.getStatus() == fromStatus) {
+            return;
+        }
+        transitionRepository.save(new TaskStatusTransition(task, fromStatus, actorUserId, LocalDateTime.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.rollup-interval-ms:300000}",
+               initialDelayString = "${app.analytics.rollup-initial-delay-ms:30000}")
+    public void scheduledRollup() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            refreshRollups(LocalDate.now());
+        } catch (RuntimeException e) {
+            log.error("Analitik rollup'ları güncellenemedi: {}", e.getMessage(), e);
+        }
+    }
+
+    // Yeniden hesaplanan gün sayısını döner. Her gün ayrı bir transaction'da silinip yeniden yazılır; birden fazla
+    // instance aynı günü aynı anda hesaplarsa benzersizlik kısıtı ikincisini reddeder (sonuç aynıdır).
+    public int refreshRollups(LocalDate today) {
+        LocalDate from = today.minusDays(Math.max(1, recomputeDays) - 1);
+
+        if (!backfilled) {
+            LocalDate lastDay = rollupRepository.findLastDay();
+            LocalDateTime firstCompletion = transitionRepository.findFirstChangedAt(TaskStatus.COMPLETED);
+            LocalDate start = lastDay != null
+                ? lastDay.minusDays(Math.max(1, recomputeDays) - 1)
+                : firstCompletion != null ? firstCompletion.toLocalDate() : today;
+            if (start.isBefore(from)) {
+                from = start;
+            }
+        }
+
+        int days = 0;
+        for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+            LocalDate current = day;
+            try {
+                transactionTemplate.executeWithoutResult(status -> rollUpDay(current));
+                days++;
+            } catch (DataIntegrityViolationException e) {
+                log.debug("{} günü başka bir instance tarafından hesaplanıyor: {}", current, e.getMessage());
+            }
+        }
+
+        backfilled = true;
+        log.debug("Analitik rollup'ları güncellendi ({} - {}, {} gün)", from, today, days);
+        return days;
+    }
+
+    private void rollUpDay(LocalDate day) {
+        List<TaskStatusTransition> completions = transitionRepository.findByToStatusBetween(
+            TaskStatus.COMPLETED, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        rollupRepository.deleteByDay(day);
+
+        Map<RollupKey, Histogram> histograms = new HashMap<>();
+        for (TaskStatusTransition completion : completions) {
+            Long assigneeId = completion.getAssignedTo() != null ? completion.getAssignedTo() : TaskDailyRollup.UNASSIGNED;
+            long seconds = Duration.between(completion.getTaskCreatedAt(), completion.getChangedAt()).toSeconds();
+            histograms.computeIfAbsent(new RollupKey(assigneeId, completion.getPriority()), key -> newHistogram())
+                .recordValue(Math.max(0, Math.min(seconds, MAX_LEAD_TIME_SECONDS)));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskDailyRollup> rollups = new ArrayList<>(histograms.size());
+        histograms.forEach((key, histogram) -> rollups.add(new TaskDailyRollup(
+            day, key.assigneeId(), key.priority(), histogram.getTotalCount(), encode(histogram), now)));
+        rollupRepository.saveAll(rollups);
+    }
+
+    // Business Logic: Gün veya hafta başına tamamlanan görev sayısı (tamamlanma olmayan dönemler 0 ile döner)
+    @Transactional(readOnly = true)
+    public List<ThroughputPoint> getThroughput(LocalDate from, LocalDate to, Interval interval,
+                                               Long assigneeId, TaskPriority priority, Long currentUserId) {
+        checkAccess(currentUserId);
+        validateRange(from, to);
+
+        Map<LocalDate, Long> completedByDay = new HashMap<>();
+        for (Object[] row : rollupRepository.sumCompletedByDay(from, to, assigneeId, priority)) {
+            completedByDay.put((LocalDate) row[0], ((Number) row[1]).longValue());
+        }
+
+        Map<LocalDate, Long> periods = new TreeMap<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            LocalDate periodStart = interval == Interval.WEEK ? day.with(DayOfWeek.MONDAY) : day;
+            periods.merge(periodStart, completedByDay.getOrDefault(day, 0L), Long::sum);
+        }
+
+        List<ThroughputPoint> points = new ArrayList<>(periods.size());
+        periods.forEach((periodStart, completed) -> points.add(new ThroughputPoint(periodStart, completed)));
+        return points;
+    }
+
+    // Business Logic: Teslim süresi yüzdelikleri. Aralıktaki günlük histogramlar gruplara göre birleştirilir;
+    // sonuçlar histogram hassasiyetindedir (significant-digits=2 için ~%1). En çok görevi olan grup önce gelir.
+    @Transactional(readOnly = true)
+    public List<LeadTimeGroup> getLeadTimes(LocalDate from, LocalDate to, GroupBy groupBy, Long assigneeId,
+                                            TaskPriority priority, List<Double> percentiles, Long currentUserId) {
+        checkAccess(currentUserId);
+        validateRange(from, to);
+        for (Double percentile : percentiles) {
+            if (percentile == null || percentile <= 0 || percentile > 100) {
+                throw new RuntimeException("Geçersiz yüzdelik: " + percentile);
+            }
+        }
+
+        boolean byAssignee = groupBy == GroupBy.ASSIGNEE || groupBy == GroupBy.ASSIGNEE_PRIORITY;
+        boolean byPriority = groupBy == GroupBy.PRIORITY || groupBy == GroupBy.ASSIGNEE_PRIORITY;
+
+        Map<RollupKey, Histogram> merged = new LinkedHashMap<>();
+        for (TaskDailyRollup rollup : rollupRepository.findInRange(from, to, assigneeId, priority)) {
+            Long rollupAssignee = rollup.getAssigneeId() == TaskDailyRollup.UNASSIGNED ? null : rollup.getAssigneeId();
+            RollupKey key = new RollupKey(byAssignee ? rollupAssignee : null, byPriority ? rollup.getPriority() : null);
+            merged.computeIfAbsent(key, k -> newHistogram()).add(decode(rollup.getLeadTimeHistogram()));
+        }
+
+        List<LeadTimeGroup> groups = new ArrayList<>(merged.size());
+        merged.forEach((key, histogram) -> {
+            Map<Double, Long> values = new LinkedHashMap<>();
+            for (Double percentile : percentiles) {
+                values.put(percentile, histogram.getValueAtPercentile(percentile));
+            }
+            groups.add(new LeadTimeGroup(key.assigneeId(), key.priority(), histogram.getTotalCount(),
+                histogram.getMean(), histogram.getMaxValue(), values));
+        });
+        groups.sort(Comparator.comparingLong(LeadTimeGroup::count).reversed());
+        return groups;
+    }
+
+    // Analitik sadece ADMIN ve MANAGER içindir
+    private void checkAccess(Long currentUserId) {
+        User currentUser = userRepository.findById(currentUserId)
+            .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
+        if (!currentUser.getRole().equals(Role.ROLE_ADMIN) && !currentUser.getRole().equals(Role.ROLE_MANAGER)) {
+            throw new RuntimeException("Analitik verilerini görüntüleme yetkiniz yok");
+        }
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new RuntimeException("Başlangıç tarihi bitiş tarihinden sonra olamaz");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > maxRangeDays) {
+            throw new RuntimeException("Tarih aralığı en fazla " + maxRangeDays + " gün olabilir");
+        }
+    }
+
+    private Histogram newHistogram() {
+        return new Histogram(MAX_LEAD_TIME_SECONDS, significantDigits);
+    }
+
+    private static byte[] encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Arrays.copyOf(buffer.array(), length);
+    }
+
+    private static Histogram decode(byte[] bytes) {
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(bytes), 0);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Rollup histogramı okunamadı", e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.berailktrk.taskManager.application.usecase;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+import com.berailktrk.taskManager.domain.repository.ArchivedTaskRepository;
+import com.berailktrk.taskManager.domain.repository.TaskRepository;
+
+// Kapanmış (COMPLETED/CANCELLED) ve min-age'den eski görevleri tasks tablosundan tasks_archive'a taşır.
+// Her parça ayrı bir transaction'dır: kilitler kısa tutulur, iş yarıda kesilirse sonraki çalışma kaldığı yerden devam eder.
+// Aday seçimi ve taşıma native SQL'dir (FOR UPDATE SKIP LOCKED, INSERT ... SELECT); sadece PostgreSQL desteklenir.
+@Service
+public class TaskArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiveService.class);
+
+    private static final List<String> CLOSED_STATUSES = List.of(TaskStatus.COMPLETED.name(), TaskStatus.CANCELLED.name());
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private TaskLabelIndex taskLabelIndex;
+
+    @Autowired
+    private TaskColumnIndex taskColumnIndex;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.archive.min-age:30d}")
+    private Duration minAge;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    public TaskArchiveService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            archiveClosedTasks();
+        } catch (RuntimeException e) {
+            log.error("Görev arşivleme başarısız: {}", e.getMessage(), e);
+        }
+    }
+
+    // Taşınan toplam görev sayısını döner
+    public int archiveClosedTasks() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        int total = 0;
+
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            total += moved;
+
+            if (moved < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("{} görev arşivlendi (cutoff: {})", total, cutoff);
+        }
+        return total;
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<Long> ids = taskRepository.findArchivableIds(CLOSED_STATUSES, cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        archivedTaskRepository.copyFromActive(ids, LocalDateTime.now());
+        taskRepository.deleteByIdIn(ids);
+        // Etiket satırları arşivde de geçerlidir (aynı id); sadece aktif görev index'inden çıkarılır
+        taskLabelIndex.onTasksRemoved(ids);
+        taskColumnIndex.onTasksRemoved(ids);
+        return ids.size();
+    }
+}
@@ -0,0 +1,450 @@
+package com.berailktrk.taskManager.application.usecase;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import javax.sql.DataSource;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.berailktrk.taskManager.domain.model.Task;
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+import com.berailktrk.taskManager.domain.repository.TaskFacets;
+import com.berailktrk.taskManager.infrastructure.invalidation.InvalidationBus;
+import com.berailktrk.taskManager.infrastructure.invalidation.InvalidationListener;
+import com.berailktrk.taskManager.infrastructure.transaction.AfterCommit;
+
+// Aktif görevlerin sayım/facet için gereken alanlarının bellekteki kolon bazlı kopyası. Her kolon, görev id'si ile
+// indekslenen bir primitive dizidir (id'ler IDENTITY ile ardışık üretilir): durum ve öncelik byte (enum sırası + 1,
+// 0 = görev yok), bitiş ve oluşturma zamanı epoch milisaniye long, oluşturan ve atanan kullanıcı int (0 = yok).
+// Bellek: id başına 1 + 1 + 8 + 8 + 4 + 4 = 26 bayt, yani en büyük görev id'sinin her milyonu için ~26 MB
+// (arşivlenen/silinen id'ler de yer kaplar). Diziler büyütülürken kısa süreliğine eski ve yeni dizi birlikte tutulur.
+// Title gibi metin alanları tutulmaz; bu filtreler veritabanına gider.
+// TaskService ve toplu işlemler değişiklikleri commit sonrası yansıtır, başka instance'lardaki değişiklikler
+// InvalidationBus ile gelir (değişen görevler veritabanından tekrar okunur).
+@Service
+public class TaskColumnIndex extends RebuildableIndex<TaskColumnIndex.Columns> implements InvalidationListener {
+
+    public static final String INVALIDATION_REGION = "task-columns";
+
+    private static final Logger log = LoggerFactory.getLogger(TaskColumnIndex.class);
+
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    // Sayım ve facet filtreleri; null alanlar filtre uygulanmaz demektir. userId doluysa kullanıcının oluşturduğu
+    // veya atandığı görevler sayılır.
+    public record Filter(TaskStatus status, TaskPriority priority, Long userId) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InvalidationBus invalidationBus;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    @Value("${app.task-columns.enabled:true}")
+    private boolean enabled;
+
+    public TaskColumnIndex(DataSource dataSource, PlatformTransactionManager transactionManager,
+                           InvalidationBus invalidationBus,
+                           @Value("${app.task-columns.load-fetch-size:10000}") int fetchSize) {
+        super(new Columns(INITIAL_CAPACITY));
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(INVALIDATION_REGION, this);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    protected Columns load() {
+        Columns loaded = new Columns(INITIAL_CAPACITY);
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+            "SELECT id, status, priority, due_date, created_at, created_by, assigned_to FROM tasks", rs -> {
+                loaded.set(position(rs.getLong(1)),
+                    (byte) (TaskStatus.valueOf(rs.getString(2)).ordinal() + 1),
+                    (byte) (TaskPriority.valueOf(rs.getString(3)).ordinal() + 1),
+                    epochMillis(rs.getObject(4, LocalDateTime.class)),
+                    epochMillis(rs.getObject(5, LocalDateTime.class)),
+                    user(rs.getLong(6)),
+                    user(rs.getLong(7)));
+            }));
+        return loaded;
+    }
+
+    @Override
+    protected void rebuilt(Columns loaded) {
+        log.info("Görev kolon index'i kuruldu ({} aktif görev, {} id kapasitesi, ~{} KB)",
+            loaded.count, loaded.capacity(), loaded.capacity() * Columns.BYTES_PER_SLOT / 1024);
+    }
+
+    @Override
+    protected void rebuildFailed(RuntimeException e) {
+        log.error("Görev kolon index'i kurulamadı, sayımlar veritabanından yapılacak: {}", e.getMessage(), e);
+    }
+
+    // Filtreye uyan aktif görev sayısı; index hazır değilse boş döner (çağıran veritabanına gider)
+    public OptionalLong count(Filter filter) {
+        Optional<Long> count = read(columns -> {
+            long[] matched = new long[1];
+            scan(columns, filter, position -> matched[0]++);
+            return matched[0];
+        });
+        return count.isPresent() ? OptionalLong.of(count.get()) : OptionalLong.empty();
+    }
+
+    // Durum ve öncelik bazında sayımlar tek taramada
+    public Optional<Counts> countByStatusAndPriority(Filter filter) {
+        return read(columns -> {
+            long[] byStatus = new long[STATUSES.length];
+            long[] byPriority = new long[PRIORITIES.length];
+            scan(columns, filter, position -> {
+                byStatus[columns.status[position] - 1]++;
+                byPriority[columns.priority[position] - 1]++;
+            });
+
+            Map<TaskStatus, Long> statusCounts = new EnumMap<>(TaskStatus.class);
+            Map<TaskPriority, Long> priorityCounts = new EnumMap<>(TaskPriority.class);
+            for (TaskStatus status : STATUSES) {
+                if (byStatus[status.ordinal()] > 0) {
+                    statusCounts.put(status, byStatus[status.ordinal()]);
+                }
+            }
+            for (TaskPriority priority : PRIORITIES) {
+                if (byPriority[priority.ordinal()] > 0) {
+                    priorityCounts.put(priority, byPriority[priority.ordinal()]);
+                }
+            }
+            return new Counts(statusCounts, priorityCounts);
+        });
+    }
+
+    public record Counts(Map<TaskStatus, Long> byStatus, Map<TaskPriority, Long> byPriority) {
+    }
+
+    // Filtreye uyan aktif görev id'leri (etiket bitmap'i ile kesiştirmek için)
+    public Optional<RoaringBitmap> matching(Filter filter) {
+        return read(columns -> {
+            RoaringBitmap result = new RoaringBitmap();
+            scan(columns, filter, result::add);
+            return result;
+        });
+    }
+
+    // Arama sonucunun facet'leri tek taramada. restrictTo verilirse (etiket filtresi) sadece o id'ler gezilir.
+    public Optional<TaskFacets> facets(Filter filter, RoaringBitmap restrictTo, TaskFacets.DueBoundaries boundaries,
+                                       int assigneeLimit) {
+        long now = epochMillis(boundaries.now());
+        long startOfTomorrow = epochMillis(boundaries.startOfTomorrow());
+        long endOfNextWeek = epochMillis(boundaries.endOfNextWeek());
+
+        return read(columns -> {
+            long[] byStatus = new long[STATUSES.length];
+            long[] byPriority = new long[PRIORITIES.length];
+            long[] byDue = new long[TaskFacets.DueBucket.values().length];
+            // Kullanıcı id'leri de ardışık olduğu için atanan sayımları id ile indekslenen bir dizide tutulur
+            long[][] byAssignee = {new long[64]};
+            long[] total = new long[1];
+
+            IntConsumer visitor = position -> {
+                total[0]++;
+                byStatus[columns.status[position] - 1]++;
+                byPriority[columns.priority[position] - 1]++;
+
+                int assignee = columns.assignedTo[position];
+                if (assignee >= byAssignee[0].length) {
+                    byAssignee[0] = Arrays.copyOf(byAssignee[0], Math.max(assignee + 1, byAssignee[0].length * 2));
+                }
+                byAssignee[0][assignee]++;
+
+                long due = columns.dueDate[position];
+                TaskFacets.DueBucket bucket = due == NO_TIME ? TaskFacets.DueBucket.NONE
+                    : due < now ? TaskFacets.DueBucket.PAST_DUE
+                    : due < startOfTomorrow ? TaskFacets.DueBucket.TODAY
+                    : due < endOfNextWeek ? TaskFacets.DueBucket.NEXT_7_DAYS
+                    : TaskFacets.DueBucket.LATER;
+                byDue[bucket.ordinal()]++;
+            };
+
+            if (restrictTo != null) {
+                Matcher matcher = new Matcher(filter);
+                restrictTo.forEach((int position) -> {
+                    if (matcher.test(columns, position)) {
+                        visitor.accept(position);
+                    }
+                });
+            } else {
+                scan(columns, filter, visitor);
+            }
+
+            TaskFacets.Builder builder = new TaskFacets.Builder().addTotal(total[0]);
+            for (TaskStatus status : STATUSES) {
+                builder.addStatus(status, byStatus[status.ordinal()]);
+            }
+            for (TaskPriority priority : PRIORITIES) {
+                builder.addPriority(priority, byPriority[priority.ordinal()]);
+            }
+            for (TaskFacets.DueBucket bucket : TaskFacets.DueBucket.values()) {
+                builder.addDue(bucket, byDue[bucket.ordinal()]);
+            }
+            long[] assignees = byAssignee[0];
+            builder.addAssignee(null, assignees[0]);
+            for (int userId = 1; userId < assignees.length; userId++) {
+                builder.addAssignee((long) userId, assignees[userId]);
+            }
+            return builder.build(assigneeLimit);
+        });
+    }
+
+    private static void scan(Columns columns, Filter filter, IntConsumer visitor) {
+        Matcher matcher = new Matcher(filter);
+        int end = columns.capacity();
+        for (int position = 1; position < end; position++) {
+            if (matcher.test(columns, position)) {
+                visitor.accept(position);
+            }
+        }
+    }
+
+    // Filtrenin kolon kodlarına çevrilmiş hali
+    private static final class Matcher {
+
+        private final byte status;
+        private final byte priority;
+        private final int user;
+
+        private Matcher(Filter filter) {
+            status = filter.status() != null ? (byte) (filter.status().ordinal() + 1) : 0;
+            priority = filter.priority() != null ? (byte) (filter.priority().ordinal() + 1) : 0;
+            user = filter.userId() != null ? user(filter.userId()) : 0;
+        }
+
+        private boolean test(Columns columns, int position) {
+            if (position <= 0 || position >= columns.capacity()) {
+                return false;
+            }
+            byte value = columns.status[position];
+            return value != 0
+                && (status == 0 || value == status)
+                && (priority == 0 || columns.priority[position] == priority)
+                && (user == 0 || columns.createdBy[position] == user || columns.assignedTo[position] == user);
+        }
+    }
+
+    // Oluşturulan veya güncellenen görev; değerler çağrı anında alınır, commit sonrası uygulanır
+    public void onTaskSaved(Task task) {
+        int position = position(task.getId());
+        byte status = (byte) (task.getStatus().ordinal() + 1);
+        byte priority = (byte) (task.getPriority().ordinal() + 1);
+        long dueDate = epochMillis(task.getDueDate());
+        long createdAt = epochMillis(task.getCreatedAt());
+        int createdBy = user(task.getCreatedBy().getId());
+        int assignedTo = task.getAssignedTo() != null ? user(task.getAssignedTo().getId()) : 0;
+
+        AfterCommit.run(() -> apply(columns -> columns.set(position, status, priority, dueDate, createdAt, createdBy, assignedTo)));
+        invalidationBus.publish(INVALIDATION_REGION, String.valueOf(task.getId()));
+    }
+
+    // Silinen veya arşive taşınan görevler
+    public void onTasksRemoved(Collection<Long> taskIds) {
+        int[] positions = positions(taskIds);
+        AfterCommit.run(() -> apply(columns -> {
+            for (int position : positions) {
+                columns.clear(position);
+            }
+        }));
+    }
+
+    // Toplu devir (offboarding)
+    public void onCreatorChanged(Collection<Long> taskIds, Long toUserId) {
+        int[] positions = positions(taskIds);
+        int user = user(toUserId);
+        AfterCommit.run(() -> apply(columns -> {
+            for (int position : positions) {
+                if (columns.isPresent(position)) {
+                    columns.createdBy[position] = user;
+                }
+            }
+        }));
+    }
+
+    public void onAssigneeChanged(Collection<Long> taskIds, Long toUserId) {
+        int[] positions = positions(taskIds);
+        int user = toUserId != null ? user(toUserId) : 0;
+        AfterCommit.run(() -> apply(columns -> {
+            for (int position : positions) {
+                if (columns.isPresent(position)) {
+                    columns.assignedTo[position] = user;
+                }
+            }
+        }));
+    }
+
+    private int[] positions(Collection<Long> taskIds) {
+        int[] positions = new int[taskIds.size()];
+        int i = 0;
+        for (Long taskId : taskIds) {
+            positions[i++] = position(taskId);
+            invalidationBus.publish(INVALIDATION_REGION, String.valueOf(taskId));
+        }
+        return positions;
+    }
+
+    // Başka instance'ta değişen görevler veritabanından tekrar okunur; aktif tabloda olmayanlar çıkarılır
+    @Override
+    public void onInvalidate(Set<String> keys) {
+        if (!enabled) {
+            return;
+        }
+
+        Set<Long> taskIds = new HashSet<>();
+        for (String key : keys) {
+            taskIds.add(Long.valueOf(key));
+        }
+
+        Columns changed = new Columns(INITIAL_CAPACITY);
+        String placeholders = String.join(",", Collections.nCopies(taskIds.size(), "?"));
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+            "SELECT id, status, priority, due_date, created_at, created_by, assigned_to FROM tasks WHERE id IN (" + placeholders + ")",
+            rs -> {
+                changed.set(position(rs.getLong(1)),
+                    (byte) (TaskStatus.valueOf(rs.getString(2)).ordinal() + 1),
+                    (byte) (TaskPriority.valueOf(rs.getString(3)).ordinal() + 1),
+                    epochMillis(rs.getObject(4, LocalDateTime.class)),
+                    epochMillis(rs.getObject(5, LocalDateTime.class)),
+                    user(rs.getLong(6)),
+                    user(rs.getLong(7)));
+            }, taskIds.toArray()));
+
+        apply(columns -> {
+            for (Long taskId : taskIds) {
+                int position = position(taskId);
+                if (changed.isPresent(position)) {
+                    columns.set(position, changed.status[position], changed.priority[position], changed.dueDate[position],
+                        changed.createdAt[position], changed.createdBy[position], changed.assignedTo[position]);
+                } else {
+                    columns.clear(position);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void onFlush() {
+        rebuild();
+    }
+
+    private long epochMillis(LocalDateTime time) {
+        return time != null ? time.atZone(zone).toInstant().toEpochMilli() : NO_TIME;
+    }
+
+    // Kolonlar int ile indekslenir; id aralığı dışına çıkan kurulumlarda index kullanılamaz
+    private static int position(long taskId) {
+        if (taskId <= 0 || taskId >= Integer.MAX_VALUE) {
+            throw new IllegalStateException("Görev id'si kolon index'inin aralığı dışında: " + taskId);
+        }
+        return (int) taskId;
+    }
+
+    // NULL kullanıcı (getLong -> 0) boş olarak saklanır
+    private static int user(long userId) {
+        return Math.toIntExact(userId);
+    }
+
+    static final class Columns {
+
+        private static final int BYTES_PER_SLOT = Byte.BYTES * 2 + Long.BYTES * 2 + Integer.BYTES * 2;
+
+        private byte[] status;
+        private byte[] priority;
+        private long[] dueDate;
+        private long[] createdAt;
+        private int[] createdBy;
+        private int[] assignedTo;
+        private long count;
+
+        private Columns(int capacity) {
+            status = new byte[capacity];
+            priority = new byte[capacity];
+            dueDate = new long[capacity];
+            createdAt = new long[capacity];
+            createdBy = new int[capacity];
+            assignedTo = new int[capacity];
+        }
+
+        private int capacity() {
+            return status.length;
+        }
+
+        private boolean isPresent(int position) {
+            return position < capacity() && status[position] != 0;
+        }
+
+        private void set(int position, byte statusValue, byte priorityValue, long dueDateValue, long createdAtValue,
+                         int createdByValue, int assignedToValue) {
+            ensureCapacity(position + 1);
+            if (status[position] == 0) {
+                count++;
+            }
+            status[position] = statusValue;
+            priority[position] = priorityValue;
+            dueDate[position] = dueDateValue;
+            createdAt[position] = createdAtValue;
+            createdBy[position] = createdByValue;
+            assignedTo[position] = assignedToValue;
+        }
+
+        private void clear(int position) {
+            if (isPresent(position)) {
+                status[position] = 0;
+                count--;
+            }
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= capacity()) {
+                return;
+            }
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8L, Math.max(required, capacity() + (capacity() >> 1)));
+            status = Arrays.copyOf(status, capacity);
+            priority = Arrays.copyOf(priority, capacity);
+            dueDate = Arrays.copyOf(dueDate, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            createdBy = Arrays.copyOf(createdBy, capacity);
+            assignedTo = Arrays.copyOf(assignedTo, capacity);
+        }
+    }
+}
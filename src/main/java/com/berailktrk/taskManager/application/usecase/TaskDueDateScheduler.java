@@ -0,0 +1,204 @@
+package com.berailktrk.taskManager.application.usecase;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.berailktrk.taskManager.domain.model.Task;
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+import com.berailktrk.taskManager.domain.repository.TaskRepository;
+import com.berailktrk.taskManager.infrastructure.transaction.AfterCommit;
+
+import jakarta.annotation.PreDestroy;
+
+// Bitiş tarihi gelen görevleri overdue olarak işaretler ve sahiplerini bilgilendirir.
+// Tablo her dakika taranmaz: sadece önümüzdeki 'window' süresinde bitecek görevler bellekteki
+// DelayQueue'da tutulur ve pencere (overdue, due_date) index'i üzerinden periyodik olarak doldurulur.
+// TaskService'teki değişiklikler commit sonrası kuyruğa yansır; eski kayıtlar kuyruktan silinmez,
+// 'scheduled' haritasıyla karşılaştırılıp tetiklenirken atlanır (lazy cancellation).
+@Service
+public class TaskDueDateScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskDueDateScheduler.class);
+
+    private static final List<TaskStatus> CLOSED_STATUSES = List.of(TaskStatus.COMPLETED, TaskStatus.CANCELLED);
+    private static final List<String> CLOSED_STATUS_NAMES = CLOSED_STATUSES.stream().map(Enum::name).toList();
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final DelayQueue<DueEntry> queue = new DelayQueue<>();
+
+    // taskId -> kuyruktaki geçerli bitiş zamanı
+    private final Map<Long, LocalDateTime> scheduled = new ConcurrentHashMap<>();
+
+    // Bu zamandan önce bitecek tüm açık görevler kuyruktadır
+    private volatile LocalDateTime windowEnd = LocalDateTime.MIN;
+
+    private volatile Thread dispatcher;
+
+    @Value("${app.due-date.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.due-date.window:10m}")
+    private Duration window;
+
+    @Value("${app.due-date.max-window-size:10000}")
+    private int maxWindowSize;
+
+    @Value("${app.due-date.batch-size:200}")
+    private int batchSize;
+
+    public TaskDueDateScheduler(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        // Açılışta geçmişte kalmış (kapalıyken kaçırılmış) bitiş tarihleri de pencereye girer
+        refillWindow();
+
+        dispatcher = new Thread(this::dispatchLoop, "task-due-date-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+    }
+
+    // Pencere süresinin yarısında bir çalışması yeterlidir; aradaki değişiklikler onTaskSaved ile gelir
+    @Scheduled(fixedDelayString = "${app.due-date.refill-interval-ms:300000}")
+    public void refillWindow() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime until = LocalDateTime.now().plus(window);
+        List<Object[]> rows = transactionTemplate.execute(status ->
+            taskRepository.findUpcomingDueDates(until, CLOSED_STATUSES, PageRequest.of(0, maxWindowSize)));
+
+        for (Object[] row : rows) {
+            schedule((Long) row[0], (LocalDateTime) row[1]);
+        }
+
+        // Sonuç sınırda kesildiyse pencere son yüklenen tarihe daraltılır; sonrası bir sonraki doldurmada gelir
+        windowEnd = rows.size() >= maxWindowSize ? (LocalDateTime) rows.get(rows.size() - 1)[1] : until;
+    }
+
+    // Görev oluşturma/güncelleme sonrası (commit'ten sonra) kuyruğu günceller
+    public void onTaskSaved(Task task) {
+        Long taskId = task.getId();
+        LocalDateTime dueDate = task.getDueDate();
+        boolean active = !task.isOverdue() && !CLOSED_STATUSES.contains(task.getStatus());
+
+        AfterCommit.run(() -> {
+            if (active && dueDate != null && dueDate.isBefore(windowEnd)) {
+                schedule(taskId, dueDate);
+            } else {
+                scheduled.remove(taskId);
+            }
+        });
+    }
+
+    public void onTaskDeleted(Long taskId) {
+        AfterCommit.run(() -> scheduled.remove(taskId));
+    }
+
+    private void schedule(Long taskId, LocalDateTime dueDate) {
+        LocalDateTime previous = scheduled.put(taskId, dueDate);
+        if (!dueDate.equals(previous)) {
+            queue.offer(new DueEntry(taskId, dueDate));
+        }
+    }
+
+    private void dispatchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<DueEntry> batch = new ArrayList<>();
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+
+                // Sonradan değişmiş veya silinmiş görevlerin eski kayıtları atlanır
+                List<Long> dueIds = batch.stream()
+                    .filter(entry -> scheduled.remove(entry.taskId(), entry.dueDate()))
+                    .map(DueEntry::taskId)
+                    .toList();
+
+                if (!dueIds.isEmpty()) {
+                    fireOverdue(dueIds);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // Başarısız grup bir sonraki pencere doldurmasında tekrar yakalanır
+                log.error("Süresi dolan görevler işaretlenemedi: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void fireOverdue(List<Long> dueIds) {
+        List<Task> overdueTasks = transactionTemplate.execute(status -> {
+            List<Long> locked = taskRepository.lockDueTasks(dueIds, LocalDateTime.now(), CLOSED_STATUS_NAMES);
+            if (locked.isEmpty()) {
+                return List.of();
+            }
+            taskRepository.markOverdue(locked);
+            return taskRepository.findWithUsersByIdIn(locked);
+        });
+
+        for (Task task : overdueTasks) {
+            notifyOwners(task);
+        }
+    }
+
+    // Bildirim kanalı olmadığından şimdilik loglanır
+    private void notifyOwners(Task task) {
+        log.info("Görevin süresi doldu: #{} '{}' (bitiş: {}), bildirilen: {}{}",
+            task.getId(), task.getTitle(), task.getDueDate(),
+            task.getCreatedBy().getUsername(),
+            task.getAssignedTo() != null && !Objects.equals(task.getAssignedTo().getId(), task.getCreatedBy().getId())
+                ? ", " + task.getAssignedTo().getUsername() : "");
+    }
+
+    private record DueEntry(Long taskId, LocalDateTime dueDate) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(LocalDateTime.now(), dueDate));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return dueDate.compareTo(((DueEntry) other).dueDate);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.berailktrk.taskManager.application.usecase;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.berailktrk.taskManager.domain.repository.LabelExpression;
+import com.berailktrk.taskManager.domain.repository.TaskLabelRepository;
+import com.berailktrk.taskManager.domain.repository.TaskRepository;
+import com.berailktrk.taskManager.infrastructure.invalidation.InvalidationBus;
+import com.berailktrk.taskManager.infrastructure.invalidation.InvalidationListener;
+import com.berailktrk.taskManager.infrastructure.transaction.AfterCommit;
+
+// Etiket filtreleri için bellekte tutulan Roaring bitmap index'i. Her etiket için, o etiketi taşıyan aktif görevlerin
+// bitmap'i tutulur; ayrıca NOT için tüm aktif görevlerin bitmap'i (allTasks) vardır. Görev id'leri IDENTITY ile
+// ardışık üretildiği için doğrudan bitmap konumu olarak kullanılır (32 bit işaretsiz aralık).
+// AND/OR/NOT ifadeleri bitmap işlemleriyle değerlendirilir; çıkan aday id'ler durum/öncelik/kullanıcı filtreleriyle
+// birlikte SQL'e verilir. Yazmalar commit sonrası yansıtılır, başka instance'lardaki değişiklikler InvalidationBus ile
+// gelir (değişen görevler veritabanından tekrar okunur). Index hazır değilse arama SQL EXISTS alt sorgularına düşer.
+@Service
+public class TaskLabelIndex extends RebuildableIndex<TaskLabelIndex.Snapshot> implements InvalidationListener {
+
+    public static final String INVALIDATION_REGION = "task-labels";
+
+    private static final Logger log = LoggerFactory.getLogger(TaskLabelIndex.class);
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final TaskRepository taskRepository;
+    private final TaskLabelRepository taskLabelRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InvalidationBus invalidationBus;
+
+    @Value("${app.labels.index-enabled:true}")
+    private boolean enabled;
+
+    public TaskLabelIndex(TaskRepository taskRepository, TaskLabelRepository taskLabelRepository, DataSource dataSource,
+                          PlatformTransactionManager transactionManager, InvalidationBus invalidationBus,
+                          @Value("${app.labels.load-fetch-size:10000}") int fetchSize) {
+        // Bitmap'ler thread-safe değildir: değerlendirmeler okuma, değişiklikler yazma kilidi altında yapılır
+        super(new Snapshot());
+        this.taskRepository = taskRepository;
+        this.taskLabelRepository = taskLabelRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(INVALIDATION_REGION, this);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    protected Snapshot load() {
+        Snapshot loaded = new Snapshot();
+        // Satırlar fetch size'lık parçalarla akıtılır; tüm tablo bellekte listeye alınmaz
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.query("SELECT id FROM tasks", rs -> {
+                loaded.allTasks.add(ordinal(rs.getLong(1)));
+            });
+            jdbcTemplate.query("SELECT l.name, tl.task_id FROM task_labels tl JOIN labels l ON l.id = tl.label_id", rs -> {
+                loaded.byLabel.computeIfAbsent(rs.getString(1), name -> new RoaringBitmap()).add(ordinal(rs.getLong(2)));
+            });
+        });
+
+        // Arşivdeki görevlerin etiket satırları da okunur; sadece aktif görevler kalır
+        for (RoaringBitmap bitmap : loaded.byLabel.values()) {
+            bitmap.and(loaded.allTasks);
+        }
+        loaded.compact();
+        return loaded;
+    }
+
+    @Override
+    protected void rebuilt(Snapshot loaded) {
+        log.info("Etiket index'i kuruldu ({} aktif görev, {} etiket, {} bayt)",
+            loaded.allTasks.getLongCardinality(), loaded.byLabel.size(), loaded.sizeInBytes());
+    }
+
+    @Override
+    protected void rebuildFailed(RuntimeException e) {
+        log.error("Etiket index'i kurulamadı, etiket filtreleri veritabanında değerlendirilecek: {}", e.getMessage(), e);
+    }
+
+    // İfadeye uyan aktif görev id'leri; index hazır değilse boş döner (çağıran SQL'e düşer)
+    public Optional<RoaringBitmap> evaluate(LabelExpression expression) {
+        // Sonuç her zaman yeni bir bitmap'tir; index'in kendi bitmap'leri kilit dışına çıkmaz
+        return read(snapshot -> RoaringBitmap.and(evaluate(snapshot, expression), snapshot.allTasks));
+    }
+
+    // Etiket başına aktif görev sayısı; index hazır değilse boş döner
+    public Optional<Map<String, Long>> labelCounts() {
+        return read(snapshot -> {
+            Map<String, Long> counts = new HashMap<>();
+            snapshot.byLabel.forEach((name, bitmap) -> counts.put(name, bitmap.getLongCardinality()));
+            return counts;
+        });
+    }
+
+    public static List<Long> toTaskIds(RoaringBitmap bitmap) {
+        List<Long> ids = new ArrayList<>(bitmap.getCardinality());
+        bitmap.forEach((int position) -> ids.add(Integer.toUnsignedLong(position)));
+        return ids;
+    }
+
+    private static RoaringBitmap evaluate(Snapshot snapshot, LabelExpression expression) {
+        if (expression instanceof LabelExpression.Label label) {
+            return snapshot.byLabel.getOrDefault(label.name(), EMPTY);
+        }
+        if (expression instanceof LabelExpression.Or or) {
+            RoaringBitmap result = new RoaringBitmap();
+            for (LabelExpression operand : or.operands()) {
+                result.or(evaluate(snapshot, operand));
+            }
+            return result;
+        }
+        if (expression instanceof LabelExpression.And and) {
+            // Olumlu terimler önce kesiştirilir, NOT terimleri sonuçtan çıkarılır (tüm görevlerin tümleyeni alınmaz)
+            RoaringBitmap result = null;
+            List<LabelExpression> negated = new ArrayList<>();
+            for (LabelExpression operand : and.operands()) {
+                if (operand instanceof LabelExpression.Not not) {
+                    negated.add(not.operand());
+                } else {
+                    RoaringBitmap bitmap = evaluate(snapshot, operand);
+                    result = result == null ? bitmap.clone() : RoaringBitmap.and(result, bitmap);
+                }
+            }
+            if (result == null) {
+                result = snapshot.allTasks.clone();
+            }
+            for (LabelExpression operand : negated) {
+                result.andNot(evaluate(snapshot, operand));
+            }
+            return result;
+        }
+        LabelExpression.Not not = (LabelExpression.Not) expression;
+        return RoaringBitmap.andNot(snapshot.allTasks, evaluate(snapshot, not.operand()));
+    }
+
+    // Yeni görev: NOT ifadelerinin evrenine eklenir
+    public void onTaskCreated(Long taskId) {
+        int position = ordinal(taskId);
+        AfterCommit.run(() -> apply(snapshot -> snapshot.allTasks.add(position)));
+        invalidationBus.publish(INVALIDATION_REGION, String.valueOf(taskId));
+    }
+
+    public void onTaskLabelsChanged(Long taskId, Collection<String> labelNames) {
+        int position = ordinal(taskId);
+        Set<String> names = Set.copyOf(labelNames);
+        AfterCommit.run(() -> apply(snapshot -> snapshot.setLabels(position, names)));
+        invalidationBus.publish(INVALIDATION_REGION, String.valueOf(taskId));
+    }
+
+    // Silinen veya arşive taşınan görevler
+    public void onTasksRemoved(Collection<Long> taskIds) {
+        RoaringBitmap removed = new RoaringBitmap();
+        for (Long taskId : taskIds) {
+            removed.add(ordinal(taskId));
+            invalidationBus.publish(INVALIDATION_REGION, String.valueOf(taskId));
+        }
+        AfterCommit.run(() -> apply(snapshot -> snapshot.remove(removed)));
+    }
+
+    // Başka instance'ta değişen görevler: aktif tabloda olanların etiketleri tekrar okunur, olmayanlar çıkarılır
+    @Override
+    public void onInvalidate(Set<String> keys) {
+        if (!enabled) {
+            return;
+        }
+
+        Set<Long> taskIds = new HashSet<>();
+        for (String key : keys) {
+            taskIds.add(Long.valueOf(key));
+        }
+
+        Snapshot changed = new Snapshot();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Long taskId : taskRepository.findExistingIds(taskIds)) {
+                changed.allTasks.add(ordinal(taskId));
+            }
+            if (!changed.allTasks.isEmpty()) {
+                for (Object[] row : taskLabelRepository.findLabelNamesByTaskIdIn(toTaskIds(changed.allTasks))) {
+                    changed.byLabel.computeIfAbsent((String) row[1], name -> new RoaringBitmap()).add(ordinal((Long) row[0]));
+                }
+            }
+        });
+
+        RoaringBitmap touched = new RoaringBitmap();
+        for (Long taskId : taskIds) {
+            touched.add(ordinal(taskId));
+        }
+        apply(snapshot -> {
+            snapshot.remove(touched);
+            snapshot.allTasks.or(changed.allTasks);
+            changed.byLabel.forEach((name, bitmap) -> snapshot.byLabel.computeIfAbsent(name, n -> new RoaringBitmap()).or(bitmap));
+        });
+    }
+
+    @Override
+    public void onFlush() {
+        rebuild();
+    }
+
+    // Görev id'si -> bitmap konumu (RoaringBitmap int değerleri işaretsiz yorumlar)
+    private static int ordinal(long taskId) {
+        if (taskId < 0 || taskId > 0xFFFFFFFFL) {
+            throw new IllegalStateException("Görev id'si etiket index'inin aralığı dışında: " + taskId);
+        }
+        return (int) taskId;
+    }
+
+    static final class Snapshot {
+
+        private final Map<String, RoaringBitmap> byLabel = new HashMap<>();
+        private final RoaringBitmap allTasks = new RoaringBitmap();
+
+        private void setLabels(int position, Set<String> names) {
+            for (Map.Entry<String, RoaringBitmap> entry : byLabel.entrySet()) {
+                if (!names.contains(entry.getKey())) {
+                    entry.getValue().remove(position);
+                }
+            }
+            for (String name : names) {
+                byLabel.computeIfAbsent(name, n -> new RoaringBitmap()).add(position);
+            }
+            byLabel.values().removeIf(RoaringBitmap::isEmpty);
+        }
+
+        private void remove(RoaringBitmap positions) {
+            allTasks.andNot(positions);
+            for (RoaringBitmap bitmap : byLabel.values()) {
+                bitmap.andNot(positions);
+            }
+            byLabel.values().removeIf(RoaringBitmap::isEmpty);
+        }
+
+        // Ardışık id blokları run container'lara çevrilir; yoğun görev aralıklarında bellek birkaç kat azalır
+        private void compact() {
+            byLabel.values().removeIf(RoaringBitmap::isEmpty);
+            allTasks.runOptimize();
+            byLabel.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        private long sizeInBytes() {
+            long bytes = allTasks.getLongSizeInBytes();
+            for (RoaringBitmap bitmap : byLabel.values()) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            return bytes;
+        }
+    }
+}
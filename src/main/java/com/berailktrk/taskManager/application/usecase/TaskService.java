@@ -1,28 +1,70 @@
 package com.berailktrk.taskManager.application.usecase;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.BeanWrapperImpl;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.berailktrk.taskManager.domain.event.TaskCreatedEvent;
+import com.berailktrk.taskManager.domain.event.TaskDeletedEvent;
+import com.berailktrk.taskManager.domain.event.TaskUpdatedEvent;
+import com.berailktrk.taskManager.domain.model.ArchivedTask;
+import com.berailktrk.taskManager.domain.model.Label;
 import com.berailktrk.taskManager.domain.model.Role;
 import com.berailktrk.taskManager.domain.model.Task;
+import com.berailktrk.taskManager.domain.model.TaskField;
+import com.berailktrk.taskManager.domain.model.TaskHistory;
+import com.berailktrk.taskManager.domain.model.TaskLabel;
 import com.berailktrk.taskManager.domain.model.TaskPriority;
 import com.berailktrk.taskManager.domain.model.TaskStatus;
 import com.berailktrk.taskManager.domain.model.User;
+import com.berailktrk.taskManager.domain.repository.ArchivedTaskRepository;
+import com.berailktrk.taskManager.domain.repository.LabelCount;
+import com.berailktrk.taskManager.domain.repository.LabelExpression;
+import com.berailktrk.taskManager.domain.repository.LabelRepository;
+import com.berailktrk.taskManager.domain.repository.SliceResult;
+import com.berailktrk.taskManager.domain.repository.TaskAccess;
+import com.berailktrk.taskManager.domain.repository.TaskFacets;
+import com.berailktrk.taskManager.domain.repository.TaskHistoryRepository;
+import com.berailktrk.taskManager.domain.repository.TaskLabelRepository;
 import com.berailktrk.taskManager.domain.repository.TaskRepository;
+import com.berailktrk.taskManager.domain.repository.TaskSearchCriteria;
 import com.berailktrk.taskManager.domain.repository.UserRepository;
+import com.berailktrk.taskManager.infrastructure.concurrency.SingleFlight;
+import com.berailktrk.taskManager.presentation.dto.TaskPatchRequest;
 import com.berailktrk.taskManager.presentation.dto.TaskRequest;
 import com.berailktrk.taskManager.presentation.dto.TaskSearchRequest;
 
+// Her public metod bir use-case transaction'ıdır; okuma metodları read-only çalışır
+// (Hibernate: FlushMode.MANUAL, read-only session -> dirty checking snapshot'ı tutulmaz).
 @Service
+@Transactional
 public class TaskService {
     
     @Autowired
@@ -31,6 +73,61 @@ public class TaskService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+    
+    @Autowired
+    private TaskHistoryRepository taskHistoryRepository;
+    
+    @Autowired
+    private TaskDueDateScheduler dueDateScheduler;
+    
+    @Autowired
+    private LabelRepository labelRepository;
+    
+    @Autowired
+    private TaskLabelRepository taskLabelRepository;
+    
+    @Autowired
+    private TaskLabelIndex taskLabelIndex;
+    
+    // Yönetici sayımları ve toplam kayıt sayıları için bellekteki kolon index'i (hazır değilse veritabanı kullanılır)
+    @Autowired
+    private TaskColumnIndex taskColumnIndex;
+    
+    // Panolar aynı anda yenilendiğinde aynı kullanıcı için gelen özdeş okumalar tek sorguda birleşir
+    @Autowired
+    private SingleFlight singleFlight;
+    
+    @Autowired
+    private SearchTotalCache searchTotalCache;
+    
+    @Autowired
+    private TaskAnalyticsService taskAnalyticsService;
+    
+    // Olaylar commit'ten sonra TaskEventBridge ile olay halkasına aktarılır
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    // Arşiv dahil aramada iki tablo bellekte birleştirildiği için gidilebilecek en derin kayıt
+    private static final int MAX_ARCHIVE_SEARCH_DEPTH = 1000;
+    
+    // Sahiplik dışında görev üzerinde yetki veren roller (kurallar repository sorgularının WHERE koşulunda uygulanır)
+    private static final List<Role> VIEW_ANY_TASK_ROLES = List.of(Role.ROLE_ADMIN, Role.ROLE_MANAGER);
+    private static final List<Role> UPDATE_ANY_TASK_ROLES = List.of(Role.ROLE_ADMIN);
+    private static final List<Role> DELETE_ANY_TASK_ROLES = List.of(Role.ROLE_ADMIN);
+    
+    // Etiket index'inden bu kadar görev çıkarsa id listesi yerine EXISTS alt sorguları kullanılır
+    @Value("${app.labels.max-candidates:10000}")
+    private int maxLabelCandidates;
+    
+    @Value("${app.labels.max-per-task:20}")
+    private int maxLabelsPerTask;
+    
+    // Atanan kullanıcı facet'inde en çok görevi olan bu kadar kullanıcı döner
+    @Value("${app.facets.assignee-limit:20}")
+    private int facetAssigneeLimit;
+    
     // Business Logic: Görev oluşturma
     public Task createTask(TaskRequest request, Long currentUserId) {
         // 1. Kullanıcı kontrolü
@@ -70,19 +167,29 @@ public class TaskService {
         task.setAssignedTo(assignedUser);
         task.setDueDate(request.getDueDate());
         
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        taskAnalyticsService.recordTransition(savedTask, null, currentUserId);
+        dueDateScheduler.onTaskSaved(savedTask);
+        taskColumnIndex.onTaskSaved(savedTask);
+        taskLabelIndex.onTaskCreated(savedTask.getId());
+        eventPublisher.publishEvent(new TaskCreatedEvent(
+            savedTask.getId(),
+            currentUserId,
+            LocalDateTime.now(),
+            savedTask.getVersion(),
+            savedTask.getStatus(),
+            savedTask.getPriority(),
+            currentUserId,
+            assignedUser != null ? assignedUser.getId() : null,
+            savedTask.getDueDate()
+        ));
+        return savedTask;
     }
     
     // Business Logic: Görev güncelleme
     public Task updateTask(Long taskId, TaskRequest request, Long currentUserId) {
-        // 1. Görev kontrolü
-        Task task = taskRepository.findById(taskId)
-            .orElseThrow(() -> new RuntimeException("Görev bulunamadı"));
-        
-        // 2. Sahiplik kontrolü
-        if (!canUpdateTask(task, currentUserId)) {
-            throw new RuntimeException("Bu görevi güncelleme yetkiniz yok");
-        }
+        // 1-2. Görev ve sahiplik kontrolü (tek sorgu)
+        Task task = findTaskForUpdate(taskId, currentUserId);
         
         // 3. Veri doğrulama
         validateTaskRequest(request);
@@ -92,6 +199,9 @@ public class TaskService {
             throw new RuntimeException("Bu duruma geçiş yapamazsınız");
         }
         
+        Map<String, String> before = snapshotFields(task);
+        TaskStatus previousStatus = task.getStatus();
+        
         // 5. Görev atama kontrolü
         if (request.getAssignedToUserId() != null) {
             User assignedUser = userRepository.findById(request.getAssignedToUserId())
@@ -109,34 +219,121 @@ public class TaskService {
         if (request.getDescription() != null) task.setDescription(request.getDescription());
         if (request.getStatus() != null) task.setStatus(request.getStatus());
         if (request.getPriority() != null) task.setPriority(request.getPriority());
-        if (request.getDueDate() != null) task.setDueDate(request.getDueDate());
+        if (request.getDueDate() != null && !request.getDueDate().equals(task.getDueDate())) {
+            task.setDueDate(request.getDueDate());
+            task.setOverdue(false);
+        }
         
-        return taskRepository.save(task);
+        // @Version flush sırasında artar; yanıttaki sürüm (ETag) yeni sürüm olsun diye hemen flush edilir
+        Task savedTask = taskRepository.saveAndFlush(task);
+        taskAnalyticsService.recordTransition(savedTask, previousStatus, currentUserId);
+        dueDateScheduler.onTaskSaved(savedTask);
+        taskColumnIndex.onTaskSaved(savedTask);
+        publishUpdatedEvent(savedTask, before, currentUserId);
+        return savedTask;
+    }
+    
+    // Business Logic: Kısmi görev güncelleme (PATCH)
+    // Sadece gönderilen alanlar değişir; @DynamicUpdate ile UPDATE de sadece bu kolonları yazar.
+    // expectedVersion verilmişse ve güncel değilse çakışma hemen bildirilir, commit sırasında
+    // başka bir transaction araya girerse @Version kontrolü aynı hatayı üretir.
+    public Task patchTask(Long taskId, TaskPatchRequest request, Long expectedVersion, Long currentUserId) {
+        // 1-2. Görev ve sahiplik kontrolü (tek sorgu)
+        Task task = findTaskForUpdate(taskId, currentUserId);
+        
+        // 3. Sürüm kontrolü
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new OptimisticLockingFailureException("Görev başka bir kullanıcı tarafından güncellendi (güncel sürüm: "
+                + task.getVersion() + ")");
+        }
+        
+        // 4. Veri doğrulama (sadece gelen alanlar)
+        validateTaskPatch(request);
+        
+        // 5. Durum geçiş kontrolü
+        if (request.has("status") && request.getStatus() != null && !canChangeStatus(task, request.getStatus(), currentUserId)) {
+            throw new RuntimeException("Bu duruma geçiş yapamazsınız");
+        }
+        
+        Map<String, String> before = snapshotFields(task);
+        TaskStatus previousStatus = task.getStatus();
+        
+        // 6. Görev atama kontrolü
+        if (request.has("assignedToUserId")) {
+            if (!canAssignTask(getCurrentUserRole(currentUserId))) {
+                throw new RuntimeException("Görev atama yetkiniz yok");
+            }
+            
+            if (request.getAssignedToUserId() == null) {
+                task.setAssignedTo(null);
+            } else if (task.getAssignedTo() == null || !task.getAssignedTo().getId().equals(request.getAssignedToUserId())) {
+                User assignedUser = userRepository.findById(request.getAssignedToUserId())
+                    .orElseThrow(() -> new RuntimeException("Atanacak kullanıcı bulunamadı"));
+                task.setAssignedTo(assignedUser);
+            }
+        }
+        
+        // 7. Sadece değişen alanları uygula
+        if (request.has("title") && !Objects.equals(task.getTitle(), request.getTitle())) task.setTitle(request.getTitle());
+        if (request.has("description") && !Objects.equals(task.getDescription(), request.getDescription())) task.setDescription(request.getDescription());
+        if (request.has("status") && request.getStatus() != task.getStatus()) task.setStatus(request.getStatus());
+        if (request.has("priority") && request.getPriority() != task.getPriority()) task.setPriority(request.getPriority());
+        if (request.has("dueDate") && !Objects.equals(task.getDueDate(), request.getDueDate())) {
+            task.setDueDate(request.getDueDate());
+            task.setOverdue(false);
+        }
+        
+        taskAnalyticsService.recordTransition(task, previousStatus, currentUserId);
+        dueDateScheduler.onTaskSaved(task);
+        taskColumnIndex.onTaskSaved(task);
+        publishUpdatedEvent(task, before, currentUserId);
+        
+        // @Version flush sırasında artar; yanıttaki sürüm (ETag) yeni sürüm olsun diye hemen flush edilir
+        return taskRepository.saveAndFlush(task);
     }
     
     // Business Logic: Görev silme
+    // Sahiplik kuralı DELETE'in koşulunda uygulanır; başarılı silmeden önce görev okunmaz.
     public boolean deleteTask(Long taskId, Long currentUserId) {
-        // 1. Görev kontrolü
-        Task task = taskRepository.findById(taskId)
-            .orElseThrow(() -> new RuntimeException("Görev bulunamadı"));
+        // 1. Koşullu silme (oluşturan veya ADMIN)
+        int deleted = taskRepository.deleteIfPermitted(taskId, currentUserId, DELETE_ANY_TASK_ROLES);
         
-        // 2. Sahiplik kontrolü
-        if (!canDeleteTask(task, currentUserId)) {
-            throw new RuntimeException("Bu görevi silme yetkiniz yok");
+        // 2. Silinmediyse: görev var ama yetki yok mu, yoksa görev hiç yok mu
+        if (deleted == 0) {
+            if (taskRepository.existsById(taskId)) {
+                throw new RuntimeException("Bu görevi silme yetkiniz yok");
+            }
+            throw new RuntimeException("Görev bulunamadı");
         }
         
-        // 3. Görev silme
-        taskRepository.delete(task);
+        taskLabelRepository.deleteByTaskIdIn(List.of(taskId));
+        taskLabelIndex.onTasksRemoved(List.of(taskId));
+        taskColumnIndex.onTasksRemoved(List.of(taskId));
+        dueDateScheduler.onTaskDeleted(taskId);
+        // Silinen satırın sürümü okunmadığı için olay sürümsüz yayınlanır
+        eventPublisher.publishEvent(new TaskDeletedEvent(taskId, currentUserId, LocalDateTime.now(), null));
         return true;
     }
     
     // Business Logic: Görev detayı getirme
+    // Aktif tabloda yoksa arşive bakılır; arşivlenmiş görevler id ile her zaman erişilebilir
+    // (güncelleme/silme ise sadece aktif görevlerde yapılır).
+    @Transactional(readOnly = true)
     public Task getTaskById(Long taskId, Long currentUserId) {
-        // 1. Görev kontrolü
-        Task task = taskRepository.findById(taskId)
+        // 1. Aktif görev ve görüntüleme yetkisi (tek sorgu)
+        TaskAccess access = taskRepository.findWithAccess(taskId, currentUserId, VIEW_ANY_TASK_ROLES).orElse(null);
+        if (access != null) {
+            if (!access.isPermitted()) {
+                throw new RuntimeException("Bu görevi görme yetkiniz yok");
+            }
+            return access.getTask();
+        }
+        
+        // 2. Arşiv kontrolü
+        Task task = archivedTaskRepository.findById(taskId)
+            .map(ArchivedTask::toTask)
             .orElseThrow(() -> new RuntimeException("Görev bulunamadı"));
         
-        // 2. Görüntüleme yetkisi kontrolü
         if (!canViewTask(task, currentUserId)) {
             throw new RuntimeException("Bu görevi görme yetkiniz yok");
         }
@@ -144,12 +341,113 @@ public class TaskService {
         return task;
     }
     
+    // Business Logic: Görev geçmişi (en yeni değişiklik önce)
+    // Geçmiş kayıtları commit'ten sonra asenkron yazıldığı için son değişiklik kısa bir süre görünmeyebilir.
+    @Transactional(readOnly = true)
+    public Page<TaskHistory> getTaskHistory(Long taskId, int page, int size, Long currentUserId) {
+        if (taskRepository.existsById(taskId) || archivedTaskRepository.existsById(taskId)) {
+            // Görüntüleme yetkisi görevin kendisi üzerinden kontrol edilir (arşivdekiler dahil)
+            getTaskById(taskId, currentUserId);
+        } else {
+            // Silinmiş görev: geçmiş satırları kalır; yetki CREATED kaydını yazan kullanıcıdan veya rolden gelir
+            authorizeDeletedTaskHistory(taskId, currentUserId);
+        }
+        
+        return taskHistoryRepository.findByTaskIdOrderBySeqDescIdDesc(taskId, PageRequest.of(page, size));
+    }
+    
+    // Business Logic: Görevin etiketleri (arşivlenmiş görevler dahil)
+    @Transactional(readOnly = true)
+    public List<String> getTaskLabels(Long taskId, Long currentUserId) {
+        getTaskById(taskId, currentUserId);
+        return taskLabelRepository.findLabelNamesByTaskId(taskId);
+    }
+    
+    // Business Logic: Görevin etiketlerini değiştirme. Verilen liste görevin etiketlerinin tamamıdır;
+    // olmayan etiketler oluşturulur, listede olmayanlar görevden kaldırılır.
+    public List<String> setTaskLabels(Long taskId, List<String> labels, Long currentUserId) {
+        // 1. Görev ve güncelleme yetkisi
+        findTaskForUpdate(taskId, currentUserId);
+        
+        // 2. Etiket adlarını doğrula
+        Set<String> names = new TreeSet<>();
+        for (String label : labels != null ? labels : List.<String>of()) {
+            names.add(LabelExpression.normalizeName(label));
+        }
+        if (names.size() > maxLabelsPerTask) {
+            throw new RuntimeException("Bir göreve en fazla " + maxLabelsPerTask + " etiket eklenebilir");
+        }
+        
+        List<String> previous = taskLabelRepository.findLabelNamesByTaskId(taskId);
+        if (names.equals(new TreeSet<>(previous))) {
+            return List.copyOf(names);
+        }
+        
+        // 3. Eski ve yeni etiketlerin id'leri tek sorguda, eksik etiketler oluşturulur
+        Set<String> involved = new TreeSet<>(names);
+        involved.addAll(previous);
+        Map<String, Long> labelIds = new HashMap<>();
+        labelRepository.findByNameIn(involved).forEach(label -> labelIds.put(label.getName(), label.getId()));
+        Set<String> missing = new TreeSet<>(names);
+        missing.removeAll(labelIds.keySet());
+        if (!missing.isEmpty()) {
+            // Aynı etiketi eşzamanlı oluşturan istekler çakışmaz: ekleme çakışırsa atlanır, id'ler tekrar okunur.
+            // Adlar sıralı eklenir; iki istek aynı etiketleri beklerken birbirini kilitlemez.
+            LocalDateTime now = LocalDateTime.now();
+            for (String name : missing) {
+                labelRepository.insertIfAbsent(name, now);
+            }
+            labelRepository.findByNameIn(missing).forEach(label -> labelIds.put(label.getName(), label.getId()));
+        }
+        
+        // 4. Sadece farkı yaz
+        List<Long> removed = previous.stream().filter(name -> !names.contains(name)).map(labelIds::get).toList();
+        if (!removed.isEmpty()) {
+            taskLabelRepository.deleteByTaskIdAndLabelIdIn(taskId, removed);
+        }
+        List<TaskLabel> added = new ArrayList<>();
+        for (String name : names) {
+            if (!previous.contains(name)) {
+                added.add(new TaskLabel(taskId, labelIds.get(name)));
+            }
+        }
+        taskLabelRepository.saveAll(added);
+        
+        taskLabelIndex.onTaskLabelsChanged(taskId, names);
+        // Etiketler görev satırında olmadığı için sürüm artmaz; olay sürümsüz yayınlanır
+        eventPublisher.publishEvent(new TaskUpdatedEvent(taskId, currentUserId, LocalDateTime.now(), null,
+            Map.of("labels", new TaskUpdatedEvent.FieldChange(String.join(",", previous), String.join(",", names)))));
+        return List.copyOf(names);
+    }
+    
+    // Business Logic: Tüm etiketler. Görev sayıları sadece tüm görevleri görebilen roller için doldurulur.
+    @Transactional(readOnly = true)
+    public List<LabelCount> getLabels(Long currentUserId) {
+        User currentUser = userRepository.findById(currentUserId)
+            .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
+        
+        Map<String, Long> counts = null;
+        if (VIEW_ANY_TASK_ROLES.contains(currentUser.getRole())) {
+            counts = taskLabelIndex.labelCounts().orElseGet(() -> taskLabelRepository.countActiveTasksByLabel().stream()
+                .collect(Collectors.toMap(row -> (String) row[0], row -> (Long) row[1])));
+        }
+        
+        List<LabelCount> result = new ArrayList<>();
+        for (Label label : labelRepository.findAllByOrderByNameAsc()) {
+            result.add(new LabelCount(label.getName(), counts != null ? counts.getOrDefault(label.getName(), 0L) : null));
+        }
+        return result;
+    }
+    
     // Business Logic: Kullanıcının görevlerini listeleme
+    @Transactional(readOnly = true)
     public List<Task> getUserTasks(Long currentUserId) {
-        return taskRepository.findByCreatedByOrAssignedToUserId(currentUserId);
+        return singleFlight.execute("getUserTasks", List.of(currentUserId),
+            () -> List.copyOf(taskRepository.findByCreatedByOrAssignedToUserId(currentUserId)));
     }
     
     // Business Logic: Tüm görevleri listeleme (Admin/Manager)
+    @Transactional(readOnly = true)
     public List<Task> getAllTasks(Long currentUserId) {
         User currentUser = userRepository.findById(currentUserId)
             .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
@@ -164,6 +462,7 @@ public class TaskService {
     }
     
     // Business Logic: Görev arama ve filtreleme
+    @Transactional(readOnly = true)
     public Page<Task> searchTasks(TaskSearchRequest searchRequest, Long currentUserId) {
         User currentUser = userRepository.findById(currentUserId)
             .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
@@ -174,8 +473,26 @@ public class TaskService {
         
         Page<Task> tasks;
         
+        boolean canSeeAllTasks = currentUser.getRole().equals(Role.ROLE_ADMIN) || currentUser.getRole().equals(Role.ROLE_MANAGER);
+        
+        // Varsayılan aramalar sadece aktif tabloya gider; arşiv açıkça istenirse eklenir
+        if (Boolean.TRUE.equals(searchRequest.getIncludeArchived())) {
+            if (hasLabelFilter(searchRequest)) {
+                throw new RuntimeException("labels ve includeArchived birlikte kullanılamaz");
+            }
+            return searchTasksIncludingArchive(searchRequest, sort, canSeeAllTasks, currentUserId);
+        }
+        
+        // Etiket filtresi diğer filtrelerle birlikte Criteria sorgusuna eklenir
+        if (hasLabelFilter(searchRequest)) {
+            return taskRepository.findTasks(labelSearchCriteria(searchRequest, canSeeAllTasks ? null : currentUserId), pageable);
+        }
+        
+        // total=exact: toplam her zaman COUNT ile kesin hesaplanır. Kolon index'i commit sonrası güncellendiği için
+        // eşzamanlı yazmalarda kısa süre geride kalabilir; index'ten gelen toplam sadece total=approximate'te kullanılır.
+        
         // Admin/Manager tüm görevleri görebilir, diğer kullanıcılar sadece kendi görevlerini
-        if (currentUser.getRole().equals(Role.ROLE_ADMIN) || currentUser.getRole().equals(Role.ROLE_MANAGER)) {
+        if (canSeeAllTasks) {
             tasks = taskRepository.findAllTasksWithFilters(
                 searchRequest.getTitle(), 
                 searchRequest.getStatus(), 
@@ -195,28 +512,276 @@ public class TaskService {
         return tasks;
     }
     
+    // Aktif ve arşiv tablolarından ilk (page + 1) * size kaydı aynı sıralamayla alıp birleştirir
+    private Page<Task> searchTasksIncludingArchive(TaskSearchRequest searchRequest, Sort sort, boolean canSeeAllTasks, Long currentUserId) {
+        int page = searchRequest.getPage();
+        int size = searchRequest.getSize();
+        int depth = (page + 1) * size;
+        
+        if (depth > MAX_ARCHIVE_SEARCH_DEPTH) {
+            throw new RuntimeException("Arşiv dahil aramada en fazla " + MAX_ARCHIVE_SEARCH_DEPTH + " kayıt sayfalanabilir");
+        }
+        
+        Pageable head = PageRequest.of(0, depth, sort);
+        Page<Task> active;
+        Page<ArchivedTask> archived;
+        
+        if (canSeeAllTasks) {
+            active = taskRepository.findAllTasksWithFilters(
+                searchRequest.getTitle(), searchRequest.getStatus(), searchRequest.getPriority(), head);
+            archived = archivedTaskRepository.findAllArchivedTasksWithFilters(
+                searchRequest.getTitle(), searchRequest.getStatus(), searchRequest.getPriority(), head);
+        } else {
+            active = taskRepository.findTasksWithFilters(
+                searchRequest.getTitle(), searchRequest.getStatus(), searchRequest.getPriority(), currentUserId, head);
+            archived = archivedTaskRepository.findArchivedTasksWithFilters(
+                searchRequest.getTitle(), searchRequest.getStatus(), searchRequest.getPriority(), currentUserId, head);
+        }
+        
+        List<Task> content = Stream.concat(active.getContent().stream(), archived.getContent().stream().map(ArchivedTask::toTask))
+            .sorted(comparatorFor(sort))
+            .skip((long) page * size)
+            .limit(size)
+            .toList();
+        
+        return new PageImpl<>(content, PageRequest.of(page, size, sort), active.getTotalElements() + archived.getTotalElements());
+    }
+    
+    // Veritabanı sıralamasının bellekteki karşılığı (enum'lar STRING olarak saklandığı için isme göre)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Comparator<Task> comparatorFor(Sort sort) {
+        Comparator<Task> comparator = (a, b) -> 0;
+        
+        for (Sort.Order order : sort) {
+            Comparator<Task> byProperty = Comparator.comparing(task -> {
+                Object value = new BeanWrapperImpl(task).getPropertyValue(order.getProperty());
+                return (Comparable) (value instanceof Enum<?> e ? e.name() : value);
+            }, Comparator.nullsLast(Comparator.naturalOrder()));
+            comparator = comparator.thenComparing(order.isDescending() ? byProperty.reversed() : byProperty);
+        }
+        
+        return comparator.thenComparing(Task::getId);
+    }
+    
+    // Business Logic: Alan seçimli arama (fields=). Sadece istenen kolonlar ve join'ler sorgulanır.
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> searchTaskFields(TaskSearchRequest searchRequest, Set<TaskField> fields, Long currentUserId) {
+        User currentUser = userRepository.findById(currentUserId)
+            .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
+        
+        if (Boolean.TRUE.equals(searchRequest.getIncludeArchived())) {
+            throw new RuntimeException("fields ve includeArchived birlikte kullanılamaz");
+        }
+        
+        Sort sort = Sort.by(Sort.Direction.fromString(searchRequest.getSortDirection()), searchRequest.getSortBy());
+        Pageable pageable = PageRequest.of(searchRequest.getPage(), searchRequest.getSize(), sort);
+        
+        // Admin/Manager tüm görevleri görebilir, diğer kullanıcılar sadece kendi görevlerini
+        boolean canSeeAllTasks = currentUser.getRole().equals(Role.ROLE_ADMIN) || currentUser.getRole().equals(Role.ROLE_MANAGER);
+        TaskSearchCriteria criteria = hasLabelFilter(searchRequest)
+            ? labelSearchCriteria(searchRequest, canSeeAllTasks ? null : currentUserId)
+            : new TaskSearchCriteria(
+                searchRequest.getTitle(),
+                searchRequest.getStatus(),
+                searchRequest.getPriority(),
+                canSeeAllTasks ? null : currentUserId
+            );
+        
+        return taskRepository.findFields(criteria, fields, pageable);
+    }
+    
+    // Business Logic: Arama sonucunun facet sayımları (durum, öncelik, atanan kullanıcı, bitiş tarihi aralığı).
+    // Başlık filtresi yoksa kolon index'inde tek taramayla hesaplanır (etiket filtresi varsa sadece etiket bitmap'indeki
+    // görevler gezilir); aksi halde veya index hazır değilse tek bir gruplu sorguyla.
+    @Transactional(readOnly = true)
+    public TaskFacets searchTaskFacets(TaskSearchRequest searchRequest, Long currentUserId) {
+        User currentUser = userRepository.findById(currentUserId)
+            .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
+        
+        if (Boolean.TRUE.equals(searchRequest.getIncludeArchived())) {
+            throw new RuntimeException("facets ve includeArchived birlikte kullanılamaz");
+        }
+        
+        boolean canSeeAllTasks = currentUser.getRole().equals(Role.ROLE_ADMIN) || currentUser.getRole().equals(Role.ROLE_MANAGER);
+        Long userId = canSeeAllTasks ? null : currentUserId;
+        TaskFacets.DueBoundaries boundaries = TaskFacets.DueBoundaries.at(LocalDateTime.now());
+        
+        if (searchRequest.getTitle() == null || searchRequest.getTitle().isEmpty()) {
+            Optional<RoaringBitmap> labelMatches = Optional.empty();
+            boolean indexable = true;
+            if (hasLabelFilter(searchRequest)) {
+                labelMatches = taskLabelIndex.evaluate(LabelExpression.parse(searchRequest.getLabels()));
+                indexable = labelMatches.isPresent();
+            }
+            if (indexable) {
+                Optional<TaskFacets> facets = taskColumnIndex.facets(
+                    new TaskColumnIndex.Filter(searchRequest.getStatus(), searchRequest.getPriority(), userId),
+                    labelMatches.orElse(null), boundaries, facetAssigneeLimit);
+                if (facets.isPresent()) {
+                    return facets.get();
+                }
+            }
+        }
+        
+        TaskSearchCriteria criteria = hasLabelFilter(searchRequest)
+            ? labelSearchCriteria(searchRequest, userId)
+            : new TaskSearchCriteria(searchRequest.getTitle(), searchRequest.getStatus(), searchRequest.getPriority(), userId);
+        return taskRepository.countFacets(criteria, boundaries, facetAssigneeLimit);
+    }
+    
+    private boolean hasLabelFilter(TaskSearchRequest searchRequest) {
+        return searchRequest.getLabels() != null && !searchRequest.getLabels().isBlank();
+    }
+    
+    // Etiket ifadesi bitmap index'te değerlendirilir ve aday id'ler diğer filtrelerle SQL'e verilir.
+    // Aday sayısı sınırı aşarsa (veya index hazır değilse) ifade EXISTS alt sorgularına çevrilir.
+    private TaskSearchCriteria labelSearchCriteria(TaskSearchRequest searchRequest, Long userId) {
+        LabelExpression expression = LabelExpression.parse(searchRequest.getLabels());
+        Optional<RoaringBitmap> matches = taskLabelIndex.evaluate(expression);
+        
+        // Durum/öncelik/kullanıcı filtreleri kolon index'inde uygulanıp etiket sonucuyla kesiştirilir; aday listesi küçülür
+        // (aynı filtreler SQL'de de kalır)
+        if (matches.isPresent()) {
+            taskColumnIndex.matching(new TaskColumnIndex.Filter(searchRequest.getStatus(), searchRequest.getPriority(), userId))
+                .ifPresent(matches.get()::and);
+        }
+        
+        if (matches.isPresent() && matches.get().getLongCardinality() <= maxLabelCandidates) {
+            return new TaskSearchCriteria(searchRequest.getTitle(), searchRequest.getStatus(), searchRequest.getPriority(),
+                userId, TaskLabelIndex.toTaskIds(matches.get()), null);
+        }
+        return new TaskSearchCriteria(searchRequest.getTitle(), searchRequest.getStatus(), searchRequest.getPriority(),
+            userId, null, expression);
+    }
+    
+    // Business Logic: Kullanıcının görevleri, sadece istenen alanlarla
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getUserTaskFields(Long currentUserId, Set<TaskField> fields) {
+        return taskRepository.findFields(TaskSearchCriteria.forUser(currentUserId), fields, Pageable.unpaged()).getContent();
+    }
+    
+    // Business Logic: Kullanıcının görevleri, sayfalı ve sadece istenen alanlarla
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getUserTaskFieldsPaginated(Long currentUserId, int page, int size, Set<TaskField> fields) {
+        return taskRepository.findFields(TaskSearchCriteria.forUser(currentUserId), fields, PageRequest.of(page, size));
+    }
+    
     // Business Logic: Kullanıcının görevlerini sayfalama ile getirme
+    @Transactional(readOnly = true)
     public Page<Task> getUserTasksPaginated(Long currentUserId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         return taskRepository.findByCreatedByIdOrAssignedToId(currentUserId, pageable);
     }
     
+    // Business Logic: COUNT sorgusu çalıştırmayan arama (total=none|approximate).
+    // size + 1 satır okunup sonraki sayfanın varlığı belirlenir; approximate'te toplam ayrıca eklenir.
+    @Transactional(readOnly = true)
+    public SliceResult<Task> searchTasksSlice(TaskSearchRequest searchRequest, SliceResult.TotalMode totalMode, Long currentUserId) {
+        TaskSearchCriteria criteria = sliceSearchCriteria(searchRequest, currentUserId);
+        Slice<Task> slice = taskRepository.findTaskSlice(criteria, searchPageable(searchRequest));
+        return withTotal(slice, totalMode, criteria, searchRequest.getLabels());
+    }
+    
+    // Business Logic: Alan seçimli aramanın COUNT çalıştırmayan hali
+    @Transactional(readOnly = true)
+    public SliceResult<Map<String, Object>> searchTaskFieldsSlice(TaskSearchRequest searchRequest, Set<TaskField> fields,
+                                                                  SliceResult.TotalMode totalMode, Long currentUserId) {
+        TaskSearchCriteria criteria = sliceSearchCriteria(searchRequest, currentUserId);
+        Slice<Map<String, Object>> slice = taskRepository.findFieldsSlice(criteria, fields, searchPageable(searchRequest));
+        return withTotal(slice, totalMode, criteria, searchRequest.getLabels());
+    }
+    
+    // Business Logic: Kullanıcının görevleri, COUNT çalıştırmadan sayfalı
+    @Transactional(readOnly = true)
+    public SliceResult<Task> getUserTasksSlice(Long currentUserId, int page, int size, SliceResult.TotalMode totalMode) {
+        TaskSearchCriteria criteria = TaskSearchCriteria.forUser(currentUserId);
+        return withTotal(taskRepository.findTaskSlice(criteria, PageRequest.of(page, size)), totalMode, criteria, null);
+    }
+    
+    // Business Logic: Kullanıcının görevleri, sadece istenen alanlarla ve COUNT çalıştırmadan sayfalı
+    @Transactional(readOnly = true)
+    public SliceResult<Map<String, Object>> getUserTaskFieldsSlice(Long currentUserId, int page, int size, Set<TaskField> fields,
+                                                                   SliceResult.TotalMode totalMode) {
+        TaskSearchCriteria criteria = TaskSearchCriteria.forUser(currentUserId);
+        return withTotal(taskRepository.findFieldsSlice(criteria, fields, PageRequest.of(page, size)), totalMode, criteria, null);
+    }
+    
+    private TaskSearchCriteria sliceSearchCriteria(TaskSearchRequest searchRequest, Long currentUserId) {
+        User currentUser = userRepository.findById(currentUserId)
+            .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
+        
+        // Arşiv dahil arama iki tablonun toplamını birleştirdiği için sadece total=exact ile desteklenir
+        if (Boolean.TRUE.equals(searchRequest.getIncludeArchived())) {
+            throw new RuntimeException("total=none/approximate ve includeArchived birlikte kullanılamaz");
+        }
+        
+        boolean canSeeAllTasks = currentUser.getRole().equals(Role.ROLE_ADMIN) || currentUser.getRole().equals(Role.ROLE_MANAGER);
+        Long userId = canSeeAllTasks ? null : currentUserId;
+        return hasLabelFilter(searchRequest)
+            ? labelSearchCriteria(searchRequest, userId)
+            : new TaskSearchCriteria(searchRequest.getTitle(), searchRequest.getStatus(), searchRequest.getPriority(), userId);
+    }
+    
+    private Pageable searchPageable(TaskSearchRequest searchRequest) {
+        Sort sort = Sort.by(Sort.Direction.fromString(searchRequest.getSortDirection()), searchRequest.getSortBy());
+        return PageRequest.of(searchRequest.getPage(), searchRequest.getSize(), sort);
+    }
+    
+    // approximate: başlık ve etiket filtresi yoksa toplam kolon index'inden (commit sonrası güncel), aksi halde
+    // veya index hazır değilse kısa süreli toplam önbelleğinden gelir. Son sayfada toplam kesin olarak bilinir.
+    private <T> SliceResult<T> withTotal(Slice<T> slice, SliceResult.TotalMode totalMode, TaskSearchCriteria criteria, String labels) {
+        if (totalMode != SliceResult.TotalMode.APPROXIMATE) {
+            return new SliceResult<>(slice, null, false);
+        }
+        if (!slice.hasNext() && (slice.hasContent() || slice.getNumber() == 0)) {
+            return new SliceResult<>(slice, slice.getPageable().getOffset() + slice.getNumberOfElements(), false);
+        }
+        
+        String normalizedLabels = labels == null || labels.isBlank() ? null : labels.trim();
+        if ((criteria.title() == null || criteria.title().isEmpty()) && normalizedLabels == null) {
+            OptionalLong total = taskColumnIndex.count(
+                new TaskColumnIndex.Filter(criteria.status(), criteria.priority(), criteria.userId()));
+            if (total.isPresent()) {
+                return new SliceResult<>(slice, total.getAsLong(), true);
+            }
+        }
+        
+        SearchTotalCache.Key key = new SearchTotalCache.Key(
+            criteria.title(), criteria.status(), criteria.priority(), criteria.userId(), normalizedLabels);
+        long total = searchTotalCache.get(key, () -> taskRepository.countTasks(criteria));
+        return new SliceResult<>(slice, total, true);
+    }
+    
     // Business Logic: Görev istatistikleri
+    @Transactional(readOnly = true)
     public Map<String, Object> getTaskStatistics(Long currentUserId) {
-        List<Task> tasks = getUserTasks(currentUserId);
+        // Sayımlar veritabanında gruplanır; görevlerin kendisi yüklenmez
+        return singleFlight.execute("getTaskStatistics", List.of(currentUserId), () -> loadTaskStatistics(currentUserId));
+    }
+    
+    private Map<String, Object> loadTaskStatistics(Long currentUserId) {
+        // Kolon index'i hazırsa her iki sayım tek bellek taramasıyla yapılır
+        Optional<TaskColumnIndex.Counts> counts = taskColumnIndex.countByStatusAndPriority(
+            new TaskColumnIndex.Filter(null, null, currentUserId));
+        if (counts.isPresent()) {
+            return Map.of("statusCounts", Map.copyOf(counts.get().byStatus()),
+                "priorityCounts", Map.copyOf(counts.get().byPriority()));
+        }
         
         // Durum bazında sayım
-        Map<TaskStatus, Long> statusMap = tasks.stream()
-            .collect(Collectors.groupingBy(Task::getStatus, Collectors.counting()));
+        Map<TaskStatus, Long> statusMap = taskRepository.getTaskCountsByStatus(currentUserId).stream()
+            .collect(Collectors.toMap(row -> (TaskStatus) row[0], row -> (Long) row[1]));
         
         // Öncelik bazında sayım
-        Map<TaskPriority, Long> priorityMap = tasks.stream()
-            .collect(Collectors.groupingBy(Task::getPriority, Collectors.counting()));
+        Map<TaskPriority, Long> priorityMap = taskRepository.getTaskCountsByPriority(currentUserId).stream()
+            .collect(Collectors.toMap(row -> (TaskPriority) row[0], row -> (Long) row[1]));
         
-        return Map.of("statusCounts", statusMap, "priorityCounts", priorityMap);
+        // Sonuç eşzamanlı çağıranlarla paylaşılabildiği için değiştirilemez döner
+        return Map.of("statusCounts", Map.copyOf(statusMap), "priorityCounts", Map.copyOf(priorityMap));
     }
     
     // Business Logic: Hızlı arama
+    @Transactional(readOnly = true)
     public List<Task> quickSearch(String searchTerm, Long currentUserId) {
         User currentUser = userRepository.findById(currentUserId)
             .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
@@ -236,6 +801,37 @@ public class TaskService {
     
     // Helper Methods - Business Logic Rules
     
+    // Olaylarda takip edilen alanların karşılaştırılabilir (String) kopyası
+    private Map<String, String> snapshotFields(Task task) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("title", task.getTitle());
+        fields.put("description", task.getDescription());
+        fields.put("status", task.getStatus() != null ? task.getStatus().name() : null);
+        fields.put("priority", task.getPriority() != null ? task.getPriority().name() : null);
+        fields.put("assignedToUserId", task.getAssignedTo() != null ? String.valueOf(task.getAssignedTo().getId()) : null);
+        fields.put("dueDate", task.getDueDate() != null ? task.getDueDate().toString() : null);
+        return fields;
+    }
+    
+    // Değişen alan yoksa olay yayınlanmaz. Olaydaki sürümün commit sonrası sürümle aynı olması için
+    // değişiklikler burada flush edilir (@Version artışı flush sırasında olur).
+    private void publishUpdatedEvent(Task task, Map<String, String> before, Long currentUserId) {
+        Map<String, TaskUpdatedEvent.FieldChange> changes = new LinkedHashMap<>();
+        snapshotFields(task).forEach((field, newValue) -> {
+            String oldValue = before.get(field);
+            if (!Objects.equals(oldValue, newValue)) {
+                changes.put(field, new TaskUpdatedEvent.FieldChange(oldValue, newValue));
+            }
+        });
+        
+        if (changes.isEmpty()) {
+            return;
+        }
+        
+        taskRepository.flush();
+        eventPublisher.publishEvent(new TaskUpdatedEvent(task.getId(), currentUserId, LocalDateTime.now(), task.getVersion(), changes));
+    }
+    
     private void validateTaskRequest(TaskRequest request) {
         if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
             throw new RuntimeException("Görev başlığı boş olamaz");
@@ -254,39 +850,60 @@ public class TaskService {
         }
     }
     
+    private void validateTaskPatch(TaskPatchRequest request) {
+        if (request.has("title")) {
+            if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
+                throw new RuntimeException("Görev başlığı boş olamaz");
+            }
+            if (request.getTitle().length() > 100) {
+                throw new RuntimeException("Görev başlığı 100 karakterden uzun olamaz");
+            }
+        }
+        
+        if (request.has("status") && request.getStatus() == null) {
+            throw new RuntimeException("Görev durumu boş olamaz");
+        }
+        
+        if (request.has("priority") && request.getPriority() == null) {
+            throw new RuntimeException("Görev önceliği boş olamaz");
+        }
+        
+        if (request.getDescription() != null && request.getDescription().length() > 500) {
+            throw new RuntimeException("Görev açıklaması 500 karakterden uzun olamaz");
+        }
+        
+        if (request.getDueDate() != null && request.getDueDate().isBefore(LocalDateTime.now())) {
+            throw new RuntimeException("Bitiş tarihi geçmiş bir tarih olamaz");
+        }
+    }
+    
     private boolean canAssignTask(Role userRole) {
         return userRole.equals(Role.ROLE_ADMIN) || userRole.equals(Role.ROLE_MANAGER);
     }
     
-    private boolean canUpdateTask(Task task, Long currentUserId) {
-        User currentUser = userRepository.findById(currentUserId)
-            .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
-        
-        // Görevi oluşturan kişi güncelleyebilir
-        if (task.getCreatedBy().getId().equals(currentUserId)) {
-            return true;
-        }
+    // Güncellenecek görevi yükler; yetki (oluşturan, atanan veya ADMIN) aynı sorguda hesaplanır
+    private Task findTaskForUpdate(Long taskId, Long currentUserId) {
+        TaskAccess access = taskRepository.findWithAccess(taskId, currentUserId, UPDATE_ANY_TASK_ROLES)
+            .orElseThrow(() -> new RuntimeException("Görev bulunamadı"));
         
-        // Göreve atanan kişi güncelleyebilir
-        if (task.getAssignedTo() != null && task.getAssignedTo().getId().equals(currentUserId)) {
-            return true;
+        if (!access.isPermitted()) {
+            throw new RuntimeException("Bu görevi güncelleme yetkiniz yok");
         }
         
-        // ADMIN her görevi güncelleyebilir
-        return currentUser.getRole().equals(Role.ROLE_ADMIN);
+        return access.getTask();
     }
     
-    private boolean canDeleteTask(Task task, Long currentUserId) {
-        User currentUser = userRepository.findById(currentUserId)
-            .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
-        
-        // Görevi oluşturan kişi silebilir
-        if (task.getCreatedBy().getId().equals(currentUserId)) {
-            return true;
+    // Silinmiş görevin geçmişini görevi oluşturan veya ADMIN/MANAGER görebilir
+    private void authorizeDeletedTaskHistory(Long taskId, Long currentUserId) {
+        Optional<TaskHistory> created = taskHistoryRepository.findFirstByTaskIdAndAction(taskId, TaskHistory.Action.CREATED);
+        if (created.isEmpty() && !taskHistoryRepository.existsByTaskId(taskId)) {
+            throw new RuntimeException("Görev bulunamadı");
         }
         
-        // ADMIN her görevi silebilir
-        return currentUser.getRole().equals(Role.ROLE_ADMIN);
+        boolean creator = created.map(h -> currentUserId.equals(h.getChangedBy())).orElse(false);
+        if (!creator && !VIEW_ANY_TASK_ROLES.contains(getCurrentUserRole(currentUserId))) {
+            throw new RuntimeException("Bu görevi görme yetkiniz yok");
+        }
     }
     
     private boolean canViewTask(Task task, Long currentUserId) {
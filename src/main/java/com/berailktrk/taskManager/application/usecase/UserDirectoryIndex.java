@@ -0,0 +1,171 @@
+package com.berailktrk.taskManager.application.usecase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.berailktrk.taskManager.domain.model.User;
+import com.berailktrk.taskManager.domain.repository.UserRepository;
+import com.berailktrk.taskManager.domain.repository.UserSummary;
+import com.berailktrk.taskManager.infrastructure.invalidation.InvalidationBus;
+import com.berailktrk.taskManager.infrastructure.invalidation.InvalidationListener;
+import com.berailktrk.taskManager.infrastructure.transaction.AfterCommit;
+
+// Kullanıcı adı otomatik tamamlaması için bellekte tutulan önek index'i.
+// Anahtarlar küçük harfli kullanıcı adına göre sıralı bir ağaçtadır; önek araması tek bir alt aralık taramasıdır.
+// UserService ve UserOffboardingService değişiklikleri commit sonrası yansıtır. Başka instance'larda yapılan
+// değişiklikler InvalidationBus ile gelir (değişen kullanıcılar veritabanından tekrar okunur); mesaj kaçırılmasına
+// karşı index ayrıca periyodik olarak yeniden kurulur.
+@Service
+public class UserDirectoryIndex extends RebuildableIndex<UserDirectoryIndex.Directory> implements InvalidationListener {
+
+    public static final String INVALIDATION_REGION = "user";
+
+    private static final Logger log = LoggerFactory.getLogger(UserDirectoryIndex.class);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final InvalidationBus invalidationBus;
+
+    @Value("${app.user-directory.enabled:true}")
+    private boolean enabled;
+
+    public UserDirectoryIndex(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                              InvalidationBus invalidationBus) {
+        super(new Directory());
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(INVALIDATION_REGION, this);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.user-directory.refresh-interval-ms:600000}",
+               initialDelayString = "${app.user-directory.refresh-interval-ms:600000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    protected Directory load() {
+        Directory loaded = new Directory();
+        for (UserSummary user : transactionTemplate.execute(status -> userRepository.findAllSummaries())) {
+            loaded.put(user);
+        }
+        return loaded;
+    }
+
+    @Override
+    protected void rebuilt(Directory loaded) {
+        log.debug("Kullanıcı dizini index'i kuruldu ({} kullanıcı)", loaded.keyById.size());
+    }
+
+    @Override
+    protected void rebuildFailed(RuntimeException e) {
+        log.error("Kullanıcı dizini index'i yeniden kurulamadı: {}", e.getMessage(), e);
+    }
+
+    // Büyük/küçük harf duyarsız önek araması, kullanıcı adına göre sıralı
+    public List<UserSummary> search(String prefix, int limit) {
+        String from = prefix.toLowerCase(Locale.ROOT);
+        return read(directory -> {
+            List<UserSummary> result = new ArrayList<>(limit);
+            for (Map.Entry<String, UserSummary> entry : directory.byKey.tailMap(from, true).entrySet()) {
+                if (!entry.getKey().startsWith(from) || result.size() >= limit) {
+                    break;
+                }
+                result.add(entry.getValue());
+            }
+            return result;
+        }).orElse(List.of());
+    }
+
+    // Kayıt ve kullanıcı adı değişikliği
+    public void onUserSaved(User user) {
+        UserSummary summary = new UserSummary(user.getId(), user.getUsername(), user.getRole());
+        AfterCommit.run(() -> apply(directory -> directory.put(summary)));
+        invalidationBus.publish(INVALIDATION_REGION, String.valueOf(user.getId()));
+    }
+
+    public void onUserDeleted(Long userId) {
+        AfterCommit.run(() -> apply(directory -> directory.remove(userId)));
+        invalidationBus.publish(INVALIDATION_REGION, String.valueOf(userId));
+    }
+
+    // Başka instance'ta kaydedilen/silinen kullanıcılar: veritabanında olmayanlar index'ten çıkarılır
+    @Override
+    public void onInvalidate(Set<String> keys) {
+        if (!enabled) {
+            return;
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        for (String key : keys) {
+            userIds.add(Long.valueOf(key));
+        }
+
+        List<UserSummary> users = transactionTemplate.execute(status -> userRepository.findSummariesByIdIn(userIds));
+        for (UserSummary user : users) {
+            userIds.remove(user.id());
+        }
+        apply(directory -> {
+            users.forEach(directory::put);
+            userIds.forEach(directory::remove);
+        });
+    }
+
+    @Override
+    public void onFlush() {
+        rebuild();
+    }
+
+    static final class Directory {
+
+        private final TreeMap<String, UserSummary> byKey = new TreeMap<>();
+        private final Map<Long, String> keyById = new HashMap<>();
+
+        private void put(UserSummary summary) {
+            remove(summary.id());
+            String key = key(summary.username(), summary.id());
+            byKey.put(key, summary);
+            keyById.put(summary.id(), key);
+        }
+
+        private void remove(Long userId) {
+            String key = keyById.remove(userId);
+            if (key != null) {
+                byKey.remove(key);
+            }
+        }
+
+        // Küçük harfli ad + id: farklı büyük/küçük harfle yazılmış aynı adlar çakışmaz
+        private static String key(String username, Long id) {
+            return username.toLowerCase(Locale.ROOT) + '\u0000' + id;
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.berailktrk.taskManager.application.usecase;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.berailktrk.taskManager.domain.event.TaskDeletedEvent;
+import com.berailktrk.taskManager.domain.event.TaskUpdatedEvent;
+import com.berailktrk.taskManager.domain.model.Role;
+import com.berailktrk.taskManager.domain.model.User;
+import com.berailktrk.taskManager.domain.model.UserOffboardingJob;
+import com.berailktrk.taskManager.domain.repository.ArchivedTaskRepository;
+import com.berailktrk.taskManager.domain.repository.RefreshTokenRepository;
+import com.berailktrk.taskManager.domain.repository.TaskLabelRepository;
+import com.berailktrk.taskManager.domain.repository.TaskRepository;
+import com.berailktrk.taskManager.domain.repository.UserDetailsRepository;
+import com.berailktrk.taskManager.domain.repository.UserOffboardingJobRepository;
+import com.berailktrk.taskManager.domain.repository.UserRepository;
+
+import jakarta.annotation.PreDestroy;
+
+// Kullanıcı silme (offboarding). Kullanıcının görevleri devredilir veya silinir, ardından kullanıcı silinir.
+// Görevler entity entity değil, parça parça (batch-size) UPDATE/DELETE statement'larıyla işlenir; her parça ayrı
+// bir transaction'dır, bu yüzden binlerce görevi olan kullanıcılar tabloyu uzun süre kilitlemez.
+// İşler tek bir arka plan thread'inde sırayla çalışır. İş kaydı ve sayaçlar veritabanında tutulur; ilerleme her
+// instance'tan getJob ile okunur. Yarım kalan iş (yeniden başlatma, çöken instance) heartbeat'i eskiyince
+// kaldığı yerden devam ettirilir: her parça görevleri güncel duruma göre seçtiği için tekrar çalıştırmak güvenlidir.
+@Service
+public class UserOffboardingService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserOffboardingService.class);
+
+    // İş sürerken kullanıcı yeni görev oluşturursa görevler tekrar taranır
+    private static final int MAX_ROUNDS = 3;
+
+    private static final List<UserOffboardingJob.Status> UNFINISHED =
+        List.of(UserOffboardingJob.Status.PENDING, UserOffboardingJob.Status.RUNNING);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDetailsRepository userDetailsRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private TaskDueDateScheduler dueDateScheduler;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private UserDirectoryIndex userDirectoryIndex;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private AuthTokenService authTokenService;
+
+    @Autowired
+    private TaskLabelRepository taskLabelRepository;
+
+    @Autowired
+    private TaskLabelIndex taskLabelIndex;
+
+    @Autowired
+    private TaskColumnIndex taskColumnIndex;
+
+    @Autowired
+    private UserOffboardingJobRepository jobRepository;
+
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-offboarding");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${app.offboarding.batch-size:500}")
+    private int batchSize;
+
+    // Biten işlerin durumu bu süre boyunca sorgulanabilir
+    @Value("${app.offboarding.job-retention:1h}")
+    private Duration jobRetention;
+
+    // Bu süre heartbeat gelmeyen bitmemiş iş, yürüten instance durmuş sayılıp devralınır
+    @Value("${app.offboarding.lease:2m}")
+    private Duration lease;
+
+    public UserOffboardingService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.shutdownNow();
+    }
+
+    // Business Logic: Kullanıcı silme işini başlatır. Doğrulamalar hemen yapılır, görevler arka planda işlenir.
+    // REASSIGN için hedef verilmezse görevler silme işlemini yapan admin'e devredilir.
+    public UserOffboardingJob startOffboarding(Long currentUserId, Long targetUserId,
+                                               UserOffboardingJob.TaskAction taskAction, Long reassignToUserId) {
+        User currentUser = userRepository.findById(currentUserId)
+            .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
+
+        if (!currentUser.getRole().equals(Role.ROLE_ADMIN)) {
+            throw new RuntimeException("Kullanıcı silme yetkiniz yok");
+        }
+
+        if (currentUserId.equals(targetUserId)) {
+            throw new RuntimeException("Kendinizi silemezsiniz");
+        }
+
+        if (!userRepository.existsById(targetUserId)) {
+            throw new RuntimeException("Silinecek kullanıcı bulunamadı");
+        }
+
+        Long reassignTo = null;
+        if (taskAction == UserOffboardingJob.TaskAction.REASSIGN) {
+            reassignTo = reassignToUserId != null ? reassignToUserId : currentUserId;
+
+            if (reassignTo.equals(targetUserId)) {
+                throw new RuntimeException("Görevler silinen kullanıcıya devredilemez");
+            }
+            if (!userRepository.existsById(reassignTo)) {
+                throw new RuntimeException("Görevlerin devredileceği kullanıcı bulunamadı");
+            }
+        }
+
+        // Aynı kullanıcı için ikinci bir iş başlatılmaz
+        if (jobRepository.existsByUserIdAndStatusIn(targetUserId, UNFINISHED)) {
+            throw new RuntimeException("Bu kullanıcı için devam eden bir silme işlemi var");
+        }
+
+        long totalTasks = transactionTemplate.execute(status ->
+            taskRepository.countByCreatedByOrAssignedToUserId(targetUserId)
+                + archivedTaskRepository.countByCreatedByOrAssignedToUserId(targetUserId));
+
+        // Silinen kullanıcı, iş sürerken de token'larıyla işlem yapamasın
+        authTokenService.revokeAllForUser(targetUserId);
+
+        UserOffboardingJob job = jobRepository.save(
+            new UserOffboardingJob(targetUserId, taskAction, reassignTo, currentUserId, totalTasks));
+        worker.execute(() -> resume(job.getId()));
+        return job;
+    }
+
+    public Optional<UserOffboardingJob> getJob(String jobId) {
+        return jobRepository.findById(jobId);
+    }
+
+    // Yarım kalmış işleri devralır (açılışta da çalışır) ve saklama süresi dolan bitmiş işleri siler
+    @Scheduled(fixedDelayString = "${app.offboarding.recovery-interval-ms:60000}")
+    public void recoverStaleJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> jobRepository.deleteFinishedBefore(now.minus(jobRetention)));
+
+        for (String jobId : jobRepository.findStaleIds(UNFINISHED, now.minus(lease))) {
+            worker.execute(() -> resume(jobId));
+        }
+    }
+
+    // İşi sahiplenip çalıştırır; başka bir instance yürütüyorsa veya iş bittiyse bir şey yapmaz
+    private void resume(String jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status -> jobRepository.claim(jobId, now, now.minus(lease)));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+
+        jobRepository.findById(jobId).ifPresent(this::run);
+    }
+
+    private void run(UserOffboardingJob job) {
+        log.info("Kullanıcı {} siliniyor ({} görev satırı, işlem: {})", job.getUserId(), job.getTotalTasks(), job.getTaskAction());
+
+        try {
+            for (int round = 1; ; round++) {
+                processActiveTasks(job);
+                processArchivedTasks(job);
+
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> deleteUserIfNoTasks(job.getUserId())))) {
+                    break;
+                }
+                if (round >= MAX_ROUNDS) {
+                    throw new IllegalStateException("Kullanıcının görevleri işlenirken yeni görevler oluşturuldu");
+                }
+            }
+
+            transactionTemplate.executeWithoutResult(status ->
+                jobRepository.finish(job.getId(), UserOffboardingJob.Status.COMPLETED, LocalDateTime.now(), null));
+            jobRepository.findById(job.getId()).ifPresent(done -> log.info(
+                "Kullanıcı {} silindi (devredilen: {}, silinen: {}, ataması kaldırılan: {})",
+                done.getUserId(), done.getReassignedTasks(), done.getDeletedTasks(), done.getUnassignedTasks()));
+        } catch (RuntimeException e) {
+            String error = e.getMessage() != null && e.getMessage().length() > 500
+                ? e.getMessage().substring(0, 500) : e.getMessage();
+            transactionTemplate.executeWithoutResult(status ->
+                jobRepository.finish(job.getId(), UserOffboardingJob.Status.FAILED, LocalDateTime.now(), error));
+            log.error("Kullanıcı {} silinemedi: {}", job.getUserId(), e.getMessage(), e);
+        }
+    }
+
+    // Aktif görevler: her parçada id'ler kilitlenir, tek statement ile güncellenir/silinir ve
+    // geçmiş kaydı ile bitiş tarihi zamanlayıcısı için görev başına olay yayınlanır
+    private void processActiveTasks(UserOffboardingJob job) {
+        Long userId = job.getUserId();
+        boolean reassign = job.getTaskAction() == UserOffboardingJob.TaskAction.REASSIGN;
+
+        while (true) {
+            Integer processed = transactionTemplate.execute(status -> {
+                List<Long> ids = taskRepository.lockIdsCreatedBy(userId, batchSize);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+
+                if (reassign) {
+                    taskRepository.reassignCreator(ids, job.getReassignToUserId());
+                    taskColumnIndex.onCreatorChanged(ids, job.getReassignToUserId());
+                    publishUpdated(ids, "createdByUserId", userId, job.getReassignToUserId(), job.getRequestedBy());
+                    progress(job, ids.size(), 0, 0);
+                } else {
+                    taskRepository.deleteByIdIn(ids);
+                    taskLabelRepository.deleteByTaskIdIn(ids);
+                    taskLabelIndex.onTasksRemoved(ids);
+                    taskColumnIndex.onTasksRemoved(ids);
+                    LocalDateTime now = LocalDateTime.now();
+                    for (Long id : ids) {
+                        dueDateScheduler.onTaskDeleted(id);
+                        eventPublisher.publishEvent(new TaskDeletedEvent(id, job.getRequestedBy(), now, null));
+                    }
+                    progress(job, 0, ids.size(), 0);
+                }
+                return ids.size();
+            });
+
+            if (processed < batchSize) {
+                break;
+            }
+        }
+
+        while (true) {
+            Integer processed = transactionTemplate.execute(status -> {
+                List<Long> ids = taskRepository.lockIdsAssignedTo(userId, batchSize);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+
+                if (reassign) {
+                    taskRepository.reassignAssignee(ids, job.getReassignToUserId());
+                    taskColumnIndex.onAssigneeChanged(ids, job.getReassignToUserId());
+                    publishUpdated(ids, "assignedToUserId", userId, job.getReassignToUserId(), job.getRequestedBy());
+                    progress(job, ids.size(), 0, 0);
+                } else {
+                    taskRepository.clearAssignee(ids);
+                    taskColumnIndex.onAssigneeChanged(ids, null);
+                    publishUpdated(ids, "assignedToUserId", userId, null, job.getRequestedBy());
+                    progress(job, 0, 0, ids.size());
+                }
+                return ids.size();
+            });
+
+            if (processed < batchSize) {
+                break;
+            }
+        }
+    }
+
+    // Arşiv satırları değiştirilemez kayıtlar olduğu için olay yayınlanmaz; her parça tek bir statement'tır
+    private void processArchivedTasks(UserOffboardingJob job) {
+        Long userId = job.getUserId();
+        boolean reassign = job.getTaskAction() == UserOffboardingJob.TaskAction.REASSIGN;
+
+        while (true) {
+            Integer processed = transactionTemplate.execute(status -> {
+                if (reassign) {
+                    int count = archivedTaskRepository.reassignCreatorChunk(userId, job.getReassignToUserId(), batchSize);
+                    progress(job, count, 0, 0);
+                    return count;
+                }
+                taskLabelRepository.deleteForArchivedCreatedByChunk(userId, batchSize);
+                int count = archivedTaskRepository.deleteCreatedByChunk(userId, batchSize);
+                progress(job, 0, count, 0);
+                return count;
+            });
+
+            if (processed < batchSize) {
+                break;
+            }
+        }
+
+        while (true) {
+            Integer processed = transactionTemplate.execute(status -> {
+                if (reassign) {
+                    int count = archivedTaskRepository.reassignAssigneeChunk(userId, job.getReassignToUserId(), batchSize);
+                    progress(job, count, 0, 0);
+                    return count;
+                }
+                int count = archivedTaskRepository.clearAssigneeChunk(userId, batchSize);
+                progress(job, 0, 0, count);
+                return count;
+            });
+
+            if (processed < batchSize) {
+                break;
+            }
+        }
+    }
+
+    // user_details ve refresh_tokens kullanıcıya bağlı olduğu için önce silinir. Kalan görev varsa (iş sürerken oluşturulmuş)
+    // kullanıcı silinmez ve görevler tekrar işlenir.
+    private boolean deleteUserIfNoTasks(Long userId) {
+        if (taskRepository.countByCreatedByOrAssignedToUserId(userId) > 0
+                || archivedTaskRepository.countByCreatedByOrAssignedToUserId(userId) > 0) {
+            return false;
+        }
+
+        userDetailsRepository.deleteByUserIdInBulk(userId);
+        refreshTokenRepository.deleteByUserIdInBulk(userId);
+        userRepository.deleteByIdInBulk(userId);
+        userDirectoryIndex.onUserDeleted(userId);
+        return true;
+    }
+
+    private void publishUpdated(List<Long> ids, String field, Long oldUserId, Long newUserId, Long actorUserId) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, TaskUpdatedEvent.FieldChange> changes = Map.of(field, new TaskUpdatedEvent.FieldChange(
+            String.valueOf(oldUserId), newUserId != null ? String.valueOf(newUserId) : null));
+
+        // Toplu UPDATE yeni sürümü okumadığı için olaylar sürümsüzdür (geçmiş kaydının seq'i yazıcıda verilir)
+        for (Long id : ids) {
+            eventPublisher.publishEvent(new TaskUpdatedEvent(id, actorUserId, now, null, changes));
+        }
+    }
+
+    // Parçanın transaction'ı içinde: sayaçlar ve heartbeat işlenen satırlarla birlikte commit edilir
+    private void progress(UserOffboardingJob job, long reassigned, long deleted, long unassigned) {
+        jobRepository.addProgress(job.getId(), reassigned, deleted, unassigned, LocalDateTime.now());
+    }
+}
@@ -1,30 +1,46 @@
 package com.berailktrk.taskManager.application.usecase;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.berailktrk.taskManager.domain.model.Role;
 import com.berailktrk.taskManager.domain.model.User;
 import com.berailktrk.taskManager.domain.model.UserDetails;
 import com.berailktrk.taskManager.domain.repository.UserDetailsRepository;
 import com.berailktrk.taskManager.domain.repository.UserRepository;
+import com.berailktrk.taskManager.domain.repository.UserSummary;
 import com.berailktrk.taskManager.presentation.dto.RegisterRequest;
 
 
 @Service
+@Transactional
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserDetailsRepository userDetailsRepository;
+    private final UserDirectoryIndex userDirectoryIndex;
+    private final AuthTokenService authTokenService;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, UserDetailsRepository userDetailsRepository) {
+    private static final int MAX_DIRECTORY_PAGE_SIZE = 100;
+    private static final int MAX_AUTOCOMPLETE_LIMIT = 20;
+
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, UserDetailsRepository userDetailsRepository,
+                       UserDirectoryIndex userDirectoryIndex, AuthTokenService authTokenService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.userDetailsRepository = userDetailsRepository;
+        this.userDirectoryIndex = userDirectoryIndex;
+        this.authTokenService = authTokenService;
     }
 
     public User register(RegisterRequest request) {
@@ -42,12 +58,16 @@ public class UserService {
         userDetails.setBirthDate(request.getBirthDate());
         userDetails.setPhoneNumber(request.getPhoneNumber());
 
-        // Bağlantıyı kur
-        userDetails.setUser(user);
-        user.setUserDetails(userDetails); // Cascade.ALL sayesinde userDetails da kaydedilecek
+        // Önce kullanıcı kaydedilir, detaylar oluşan kullanıcıya bağlanır
+        User saved = userRepository.save(user);
+        userDetails.setUser(saved);
+        userDetailsRepository.save(userDetails);
 
-        return userRepository.save(user); // İki tabloya da kayıt yapılır
+        userDirectoryIndex.onUserSaved(saved);
+        return saved;
     }
+    // Bilinçli olarak read-only değil (sınıf seviyesindeki transaction): yeni kayıt olan kullanıcı
+    // replica gecikmesi yüzünden giriş yapamamasın
     public Optional<User> authenticate(String username, String rawPassword) {
             Optional<User> userOpt = userRepository.findByUsername(username);
             if (userOpt.isPresent()) {
@@ -58,6 +78,7 @@ public class UserService {
             }
             return Optional.empty();
         }
+    @Transactional(readOnly = true)
     public Optional<User> findByUsername(String username) {
         return userRepository.findByUsername(username);
     }
@@ -66,28 +87,42 @@ public class UserService {
         Optional<User> userOpt = userRepository.findById(id);
         if (userOpt.isPresent()) {
             User user = userOpt.get();
-            if (newUsername != null && !newUsername.isBlank()) {
+            boolean renamed = newUsername != null && !newUsername.isBlank();
+            if (renamed) {
                 user.setUsername(newUsername);
             }
             if (newPassword != null && !newPassword.isBlank()) {
                 user.setPassword(passwordEncoder.encode(newPassword));
             }
             userRepository.save(user);
+            if (renamed) {
+                userDirectoryIndex.onUserSaved(user);
+            }
             return Optional.of(user);
         }
         return Optional.empty();
     }
 
+    @Transactional(readOnly = true)
     public Optional<User> findById(Long id) {
         return userRepository.findById(id);
     }
 
+    // Id -> kullanıcı adı (silinmiş kullanıcılar haritada yer almaz)
+    @Transactional(readOnly = true)
+    public Map<Long, String> getUsernames(Collection<Long> userIds) {
+        return userRepository.findAllById(userIds).stream()
+            .collect(Collectors.toMap(User::getId, User::getUsername));
+    }
+
+    // Dönen detayların kullanıcısı da yüklüdür (getUser transaction dışında kullanılabilir)
+    @Transactional(readOnly = true)
     public Optional<UserDetails> getUserProfile(Long userId) {
-        return userDetailsRepository.findByUserId(userId);
+        return userDetailsRepository.findWithUserByUserId(userId);
     }
 
     public Optional<UserDetails> updateUserProfile(Long userId, String address, String phoneNumber, LocalDate birthDate) {
-        Optional<UserDetails> detailsOpt = userDetailsRepository.findByUserId(userId);
+        Optional<UserDetails> detailsOpt = userDetailsRepository.findWithUserByUserId(userId);
         if (detailsOpt.isPresent()) {
             UserDetails details = detailsOpt.get();
             if (address != null) details.setAddress(address);
@@ -106,6 +141,8 @@ public class UserService {
             if (passwordEncoder.matches(currentPassword, user.getPassword())) {
                 user.setPassword(passwordEncoder.encode(newPassword));
                 userRepository.save(user);
+                // Eski şifreyle alınmış tüm oturumlar kapatılır
+                authTokenService.revokeAllForUser(userId);
                 return true;
             }
         }
@@ -118,52 +155,35 @@ public class UserService {
             User user = userOpt.get();
             user.setUsername(newUsername);
             userRepository.save(user);
+            userDirectoryIndex.onUserSaved(user);
             return true;
         }
         return false;
     }
 
-    public boolean deleteUser(Long currentUserId, Long targetUserId) {
-        // Kullanıcı kendisini silemesin
-        if (currentUserId.equals(targetUserId)) {
-            return false;
-        }
-        
-        // Hedef kullanıcıyı bul
-        Optional<User> targetUserOpt = userRepository.findById(targetUserId);
-        if (!targetUserOpt.isPresent()) {
-            return false;
-        }
-        
-        // Mevcut kullanıcıyı bul
-        Optional<User> currentUserOpt = userRepository.findById(currentUserId);
-        if (!currentUserOpt.isPresent()) {
-            return false;
-        }
-        
-        User currentUser = currentUserOpt.get();
-        User targetUser = targetUserOpt.get();
-        
-        // Sadece ADMIN başka kullanıcıları silebilir
-        if (!currentUser.getRole().equals(Role.ROLE_ADMIN)) {
-            return false;
-        }
-        
-        // Admin kendisini silemesin
-        if (currentUser.getRole().equals(Role.ROLE_ADMIN) && currentUserId.equals(targetUserId)) {
-            return false;
+    // Kullanıcı dizini: kullanıcı adına göre keyset sayfalama. 'after' bir önceki sayfanın son kullanıcı adıdır;
+    // username üzerindeki unique index hem aralığı hem sıralamayı karşıladığı için OFFSET taraması olmaz.
+    // Önek araması büyük/küçük harf duyarlıdır ve aynı index üzerinde bir aralık taramasına çevrilir.
+    @Transactional(readOnly = true)
+    public Slice<UserSummary> getUserDirectory(String prefix, String after, int size) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(size, MAX_DIRECTORY_PAGE_SIZE)));
+        String cursor = after != null ? after : "";
+
+        if (prefix == null || prefix.isEmpty()) {
+            return userRepository.findDirectoryPage(cursor, page);
         }
-        
-        // Kullanıcıyı sil
-        userRepository.delete(targetUser);
-        
-        // Kullanıcı detaylarını da sil
-        userDetailsRepository.findByUserId(targetUserId).ifPresent(userDetailsRepository::delete);
-        
-        return true;
+
+        // LIKE joker karakterleri kaçışlanır; önek birebir eşleşir
+        String pattern = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+
+        return userRepository.findDirectoryPageByPrefix(pattern, cursor, page);
     }
 
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    // Otomatik tamamlama bellekteki index'ten okunur, veritabanına gitmez
+    public List<UserSummary> autocomplete(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return userDirectoryIndex.search(prefix.trim(), Math.max(1, Math.min(limit, MAX_AUTOCOMPLETE_LIMIT)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.berailktrk.taskManager.domain.event;
+
+import java.time.LocalDateTime;
+
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+
+public record TaskCreatedEvent(
+    Long taskId,
+    Long actorUserId,
+    LocalDateTime occurredAt,
+    Long version,
+    TaskStatus status,
+    TaskPriority priority,
+    Long createdByUserId,
+    Long assignedToUserId,
+    LocalDateTime dueDate
+) implements TaskEvent {
+}
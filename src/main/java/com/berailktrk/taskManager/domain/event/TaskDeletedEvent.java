@@ -0,0 +1,11 @@
+package com.berailktrk.taskManager.domain.event;
+
+import java.time.LocalDateTime;
+
+public record TaskDeletedEvent(
+    Long taskId,
+    Long actorUserId,
+    LocalDateTime occurredAt,
+    Long version
+) implements TaskEvent {
+}
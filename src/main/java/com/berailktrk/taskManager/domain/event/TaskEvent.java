@@ -0,0 +1,18 @@
+package com.berailktrk.taskManager.domain.event;
+
+import java.time.LocalDateTime;
+
+// Görev değişikliklerinin tipli olay akışı. TaskService tarafından yayınlanır,
+// commit'ten sonra olay halkasına (EventRing) aktarılır ve tüketiciler kendi thread'lerinde işler.
+public sealed interface TaskEvent permits TaskCreatedEvent, TaskUpdatedEvent, TaskDeletedEvent {
+
+    Long taskId();
+
+    // Değişikliği yapan kullanıcı
+    Long actorUserId();
+
+    LocalDateTime occurredAt();
+
+    // Değişiklik sonrası görev sürümü (koşullu silmede satır okunmadığı için null)
+    Long version();
+}
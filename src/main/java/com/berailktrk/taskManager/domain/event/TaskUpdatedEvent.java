@@ -0,0 +1,17 @@
+package com.berailktrk.taskManager.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// Sadece gerçekten değişen alanları taşır (alan adı -> eski/yeni değer)
+public record TaskUpdatedEvent(
+    Long taskId,
+    Long actorUserId,
+    LocalDateTime occurredAt,
+    Long version,
+    Map<String, FieldChange> changes
+) implements TaskEvent {
+
+    public record FieldChange(String oldValue, String newValue) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.berailktrk.taskManager.domain.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Görev etiketi. Adlar küçük harfle saklanır ve tekildir; etiketler ilk kullanıldıklarında oluşturulur.
+@Entity
+@Table(name = "labels")
+@Getter
+@NoArgsConstructor
+public class Label {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String name;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public Label(String name) {
+        this.name = name;
+        this.createdAt = LocalDateTime.now();
+    }
+}
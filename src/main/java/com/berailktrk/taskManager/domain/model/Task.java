@@ -2,6 +2,8 @@ package com.berailktrk.taskManager.domain.model;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -10,15 +12,24 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "tasks")
+// Arşivleme işi kapanmış ve eski görevleri (status, updated_at), bitiş tarihi zamanlayıcısı
+// yaklaşan görevleri (overdue, due_date) üzerinden seçer
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_status_updated_at", columnList = "status, updated_at"),
+    @Index(name = "idx_tasks_overdue_due_date", columnList = "overdue, due_date")
+})
+@DynamicUpdate // UPDATE sadece değişen kolonları yazar (örn. durum değişikliğinde TEXT açıklama gönderilmez)
 @Data
 @NoArgsConstructor
 public class Task {
@@ -58,6 +69,19 @@ public class Task {
     @Column(name = "due_date")
     private LocalDateTime dueDate;
     
+    // Bitiş tarihi geçtiğinde TaskDueDateScheduler tarafından işaretlenir; bitiş tarihi değişince sıfırlanır
+    @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private boolean overdue;
+    
+    // Optimistic locking: eşzamanlı güncellemeler satır kilidi olmadan çakışma olarak yakalanır
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+    
+    // Kayıt tasks_archive tablosundan geldiyse true (bkz. ArchivedTask.toTask); kolon değildir
+    @Transient
+    private boolean archived;
+    
     // Constructor with default values
     public Task(String title, String description, User createdBy) {
         this.createdAt = LocalDateTime.now();
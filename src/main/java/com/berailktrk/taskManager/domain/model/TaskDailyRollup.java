@@ -0,0 +1,64 @@
+package com.berailktrk.taskManager.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Gün, atanan kullanıcı ve öncelik başına tamamlanan görev sayısı ve oluşturma -> tamamlanma süresinin
+// HDR histogramı (sıkıştırılmış). Histogramlar birleştirilebilir: bir tarih aralığının yüzdelikleri
+// aralıktaki satırların histogramları toplanarak hesaplanır. Atanmamış görevler assignee_id = 0 satırındadır
+// (NULL benzersizlik kısıtında ayrı değerler sayıldığı için).
+@Entity
+@Table(name = "task_daily_rollups",
+       uniqueConstraints = @UniqueConstraint(name = "uk_task_daily_rollups_day_assignee_priority",
+                                             columnNames = {"rollup_day", "assignee_id", "priority"}))
+@Getter
+@NoArgsConstructor
+public class TaskDailyRollup {
+
+    public static final long UNASSIGNED = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rollup_day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "assignee_id", nullable = false)
+    private Long assigneeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskPriority priority;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+
+    @Column(name = "lead_time_histogram", nullable = false, length = 65536)
+    private byte[] leadTimeHistogram;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    public TaskDailyRollup(LocalDate day, Long assigneeId, TaskPriority priority, long completedCount,
+                           byte[] leadTimeHistogram, LocalDateTime computedAt) {
+        this.day = day;
+        this.assigneeId = assigneeId;
+        this.priority = priority;
+        this.completedCount = completedCount;
+        this.leadTimeHistogram = leadTimeHistogram;
+        this.computedAt = computedAt;
+    }
+}
@@ -0,0 +1,61 @@
+package com.berailktrk.taskManager.domain.model;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+// fields= parametresiyle seçilebilen görev alanları (JSON adı -> Task yolu).
+// Kullanıcı adı alanları ilgili users join'ini gerektirir; id alanları tasks tablosundaki FK kolonundan okunur.
+public enum TaskField {
+    ID("id", "id"),
+    TITLE("title", "title"),
+    DESCRIPTION("description", "description"),
+    STATUS("status", "status"),
+    PRIORITY("priority", "priority"),
+    ASSIGNED_TO_USER_ID("assignedToUserId", "assignedTo.id"),
+    ASSIGNED_TO_USERNAME("assignedToUsername", "assignedTo.username"),
+    CREATED_BY_USER_ID("createdByUserId", "createdBy.id"),
+    CREATED_BY_USERNAME("createdByUsername", "createdBy.username"),
+    CREATED_AT("createdAt", "createdAt"),
+    UPDATED_AT("updatedAt", "updatedAt"),
+    DUE_DATE("dueDate", "dueDate"),
+    OVERDUE("overdue", "overdue"),
+    VERSION("version", "version");
+
+    private final String jsonName;
+    private final String path;
+
+    TaskField(String jsonName, String path) {
+        this.jsonName = jsonName;
+        this.path = path;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    // "id,title,status" -> {ID, TITLE, STATUS}; id her zaman dahildir
+    public static Set<TaskField> parse(String fields) {
+        Set<TaskField> result = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            result.add(fromJsonName(trimmed));
+        }
+        return result;
+    }
+
+    private static TaskField fromJsonName(String jsonName) {
+        for (TaskField field : values()) {
+            if (field.jsonName.equals(jsonName)) {
+                return field;
+            }
+        }
+        throw new RuntimeException("Geçersiz alan: " + jsonName);
+    }
+}
@@ -0,0 +1,59 @@
+package com.berailktrk.taskManager.domain.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Görev değişikliklerinin salt eklemeli kaydı. Güncellemelerde değişen her alan ayrı bir satırdır.
+// Satırlar TaskHistoryWriter tarafından toplu INSERT ile yazılır; görev silinse/arşivlense de kalır (FK yok).
+@Entity
+@Immutable
+@Table(name = "task_history", indexes = @Index(name = "idx_task_history_task_seq", columnList = "task_id, seq"))
+@Getter
+@NoArgsConstructor
+public class TaskHistory {
+
+    public enum Action { CREATED, UPDATED, DELETED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    // Değişiklik sonrası görev sürümü; aynı görev için artan sıra numarası
+    @Column(nullable = false)
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Action action;
+
+    @Column(length = 32)
+    private String field;
+
+    @Column(name = "old_value", columnDefinition = "TEXT")
+    private String oldValue;
+
+    @Column(name = "new_value", columnDefinition = "TEXT")
+    private String newValue;
+
+    @Column(name = "changed_by")
+    private Long changedBy;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
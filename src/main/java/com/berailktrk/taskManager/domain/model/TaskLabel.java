@@ -0,0 +1,38 @@
+package com.berailktrk.taskManager.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Görev-etiket ilişkisi. Görev arşive taşındığında satırlar kalır (arşiv aynı id'yi kullanır), bu yüzden
+// tasks tablosuna FK yoktur; görev kalıcı olarak silindiğinde satırlar da açıkça silinir.
+@Entity
+@Table(name = "task_labels",
+       uniqueConstraints = @UniqueConstraint(name = "uk_task_labels_task_label", columnNames = {"task_id", "label_id"}),
+       indexes = @Index(name = "idx_task_labels_label", columnList = "label_id"))
+@Getter
+@NoArgsConstructor
+public class TaskLabel {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "label_id", nullable = false)
+    private Long labelId;
+
+    public TaskLabel(Long taskId, Long labelId) {
+        this.taskId = taskId;
+        this.labelId = labelId;
+    }
+}
@@ -0,0 +1,72 @@
+package com.berailktrk.taskManager.domain.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Görevin durum geçişleri; görev yazmasıyla aynı transaction'da eklenir ve değiştirilmez.
+// Analitik rollup'ları bu tablodan üretilir: görevin oluşturulma zamanı, atanan kullanıcısı ve önceliği
+// geçiş anındaki halleriyle kopyalanır, böylece görev sonradan silinse veya arşivlense de rollup yeniden hesaplanabilir.
+@Entity
+@Table(name = "task_status_transitions",
+       indexes = {
+           @Index(name = "idx_task_status_transitions_to_status_changed_at", columnList = "to_status, changed_at"),
+           @Index(name = "idx_task_status_transitions_task", columnList = "task_id")
+       })
+@Getter
+@NoArgsConstructor
+public class TaskStatusTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    // Görev oluşturulurken null
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status")
+    private TaskStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private TaskStatus toStatus;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    @Column(name = "changed_by")
+    private Long changedBy;
+
+    @Column(name = "task_created_at", nullable = false)
+    private LocalDateTime taskCreatedAt;
+
+    @Column(name = "assigned_to")
+    private Long assignedTo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskPriority priority;
+
+    public TaskStatusTransition(Task task, TaskStatus fromStatus, Long changedBy, LocalDateTime changedAt) {
+        this.taskId = task.getId();
+        this.fromStatus = fromStatus;
+        this.toStatus = task.getStatus();
+        this.changedAt = changedAt;
+        this.changedBy = changedBy;
+        this.taskCreatedAt = task.getCreatedAt();
+        this.assignedTo = task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+        this.priority = task.getPriority();
+    }
+}
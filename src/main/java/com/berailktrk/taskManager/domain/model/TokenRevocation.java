@@ -0,0 +1,58 @@
+package com.berailktrk.taskManager.domain.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// İptal edilen erişim token'ları. Satır ya tek bir token'ı (jti) ya da bir kullanıcının belirli bir andan önce
+// üretilmiş tüm token'larını (notBefore) iptal eder. Açılışta TokenRevocationIndex'e yüklenir; istek başına
+// okunmaz. Kapsadığı token'ların süresi dolunca (expiresAt) silinir.
+@Entity
+@Immutable
+@Table(name = "token_revocations", indexes = @Index(name = "idx_token_revocations_expires", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 36)
+    private String jti;
+
+    // Kullanıcı silindikten sonra da kayıt kalmalı (FK yok)
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "not_before")
+    private LocalDateTime notBefore;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public static TokenRevocation ofToken(String jti, LocalDateTime expiresAt) {
+        TokenRevocation revocation = new TokenRevocation();
+        revocation.jti = jti;
+        revocation.expiresAt = expiresAt;
+        return revocation;
+    }
+
+    public static TokenRevocation ofUser(Long userId, LocalDateTime notBefore, LocalDateTime expiresAt) {
+        TokenRevocation revocation = new TokenRevocation();
+        revocation.userId = userId;
+        revocation.notBefore = notBefore;
+        revocation.expiresAt = expiresAt;
+        return revocation;
+    }
+}
@@ -1,6 +1,5 @@
 package com.berailktrk.taskManager.domain.model;
 
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -8,7 +7,6 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -35,7 +33,7 @@ public class User {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private Role role;
-    
-    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL)
-    private UserDetails userDetails;
+
+    // UserDetails ile ilişki sadece UserDetails tarafında tutulur. İlişkinin sahibi olmayan (mappedBy) bir
+    // OneToOne lazy yüklenemediği için her User yüklemesinde ek bir user_details sorgusu çalışıyordu.
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.berailktrk.taskManager.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Bir kullanıcı silme (offboarding) işinin durumu. Sayaçlar her parçanın transaction'ı içinde artırılır, böylece
+// ilerleme her instance'tan okunabilir ve yeniden başlatmadan sonra iş kaldığı yerden devam eder.
+// İşi yürüten instance heartbeatAt'i günceller; güncellenmeyen iş başka bir instance tarafından devralınır.
+@Entity
+@Table(name = "user_offboarding_jobs", indexes = @Index(name = "idx_user_offboarding_jobs_status", columnList = "status"))
+@Getter
+@NoArgsConstructor
+public class UserOffboardingJob {
+
+    public enum TaskAction {
+        REASSIGN,   // görevler başka bir kullanıcıya devredilir
+        DELETE      // oluşturduğu görevler silinir, atandığı görevlerde atama kaldırılır
+    }
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    // Kullanıcı silindikten sonra da iş kaydı kalmalı (FK yok)
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "task_action", nullable = false, length = 16)
+    private TaskAction taskAction;
+
+    @Column(name = "reassign_to_user_id")
+    private Long reassignToUserId;
+
+    @Column(name = "requested_by", nullable = false)
+    private Long requestedBy;
+
+    @Column(name = "total_tasks", nullable = false)
+    private long totalTasks;
+
+    @Column(name = "reassigned_tasks", nullable = false)
+    private long reassignedTasks;
+
+    @Column(name = "deleted_tasks", nullable = false)
+    private long deletedTasks;
+
+    @Column(name = "unassigned_tasks", nullable = false)
+    private long unassignedTasks;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error_message", length = 500)
+    private String error;
+
+    public UserOffboardingJob(Long userId, TaskAction taskAction, Long reassignToUserId, Long requestedBy, long totalTasks) {
+        this.id = UUID.randomUUID().toString();
+        this.userId = userId;
+        this.taskAction = taskAction;
+        this.reassignToUserId = reassignToUserId;
+        this.requestedBy = requestedBy;
+        this.totalTasks = totalTasks;
+        this.status = Status.PENDING;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    // İşlenen görev satırı sayısı (aktif + arşiv)
+    public long getProcessedTasks() {
+        return reassignedTasks + deletedTasks + unassignedTasks;
+    }
+}
@@ -0,0 +1,88 @@
+package com.berailktrk.taskManager.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.berailktrk.taskManager.domain.model.ArchivedTask;
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
+    Optional<ArchivedTask> findById(Long id);
+
+    // Aktif tablodaki satırları arşive kopyalar (aynı transaction'da TaskRepository.deleteAllByIdIn ile silinir)
+    @Modifying
+    @Query(value = "INSERT INTO tasks_archive " +
+           "(id, title, description, status, priority, assigned_to, created_by, created_at, updated_at, due_date, overdue, version, archived_at) " +
+           "SELECT id, title, description, status, priority, assigned_to, created_by, created_at, updated_at, due_date, overdue, version, :archivedAt " +
+           "FROM tasks WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromActive(@Param("ids") List<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    // Kullanıcının arşivdeki görevlerini filtreleme (includeArchived=true aramaları için)
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
+    @Query("SELECT t FROM ArchivedTask t WHERE " +
+           "(:title IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
+           "(:status IS NULL OR t.status = :status) AND " +
+           "(:priority IS NULL OR t.priority = :priority) AND " +
+           "(t.createdBy.id = :currentUserId OR t.assignedTo.id = :currentUserId)")
+    Page<ArchivedTask> findArchivedTasksWithFilters(
+        @Param("title") String title,
+        @Param("status") TaskStatus status,
+        @Param("priority") TaskPriority priority,
+        @Param("currentUserId") Long currentUserId,
+        Pageable pageable
+    );
+
+    // Admin/Manager için arşivdeki tüm görevleri filtreleme
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
+    @Query("SELECT t FROM ArchivedTask t WHERE " +
+           "(:title IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
+           "(:status IS NULL OR t.status = :status) AND " +
+           "(:priority IS NULL OR t.priority = :priority)")
+    Page<ArchivedTask> findAllArchivedTasksWithFilters(
+        @Param("title") String title,
+        @Param("status") TaskStatus status,
+        @Param("priority") TaskPriority priority,
+        Pageable pageable
+    );
+
+    // ========== KULLANICI SİLME (OFFBOARDING) ==========
+    // Arşiv satırları için olay yayınlanmaz; her çağrı en fazla 'limit' satırı değiştiren tek bir statement'tır
+
+    @Query("SELECT COUNT(t) FROM ArchivedTask t WHERE t.createdBy.id = :userId OR t.assignedTo.id = :userId")
+    long countByCreatedByOrAssignedToUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE tasks_archive SET created_by = :toUserId WHERE id IN " +
+           "(SELECT id FROM tasks_archive WHERE created_by = :userId ORDER BY id LIMIT :limit)", nativeQuery = true)
+    int reassignCreatorChunk(@Param("userId") Long userId, @Param("toUserId") Long toUserId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE tasks_archive SET assigned_to = :toUserId WHERE id IN " +
+           "(SELECT id FROM tasks_archive WHERE assigned_to = :userId ORDER BY id LIMIT :limit)", nativeQuery = true)
+    int reassignAssigneeChunk(@Param("userId") Long userId, @Param("toUserId") Long toUserId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE tasks_archive SET assigned_to = NULL WHERE id IN " +
+           "(SELECT id FROM tasks_archive WHERE assigned_to = :userId ORDER BY id LIMIT :limit)", nativeQuery = true)
+    int clearAssigneeChunk(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM tasks_archive WHERE id IN " +
+           "(SELECT id FROM tasks_archive WHERE created_by = :userId ORDER BY id LIMIT :limit)", nativeQuery = true)
+    int deleteCreatedByChunk(@Param("userId") Long userId, @Param("limit") int limit);
+}
@@ -0,0 +1,5 @@
+package com.berailktrk.taskManager.domain.repository;
+
+// Etiket ve o etiketi taşıyan aktif görev sayısı (sayıyı görme yetkisi yoksa null)
+public record LabelCount(String name, Long taskCount) {
+}
@@ -0,0 +1,185 @@
+package com.berailktrk.taskManager.domain.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// Etiket filtresi ifadesi, ör. "backend AND urgent-customer NOT blocked" veya "(api OR web) AND NOT wontfix".
+// Anahtar kelimeler büyük/küçük harf duyarsızdır; yan yana yazılan terimler AND ile bağlanır.
+// Öncelik sırası: NOT > AND > OR.
+public sealed interface LabelExpression {
+
+    int MAX_EXPRESSION_LENGTH = 500;
+    int MAX_NAME_LENGTH = 64;
+
+    Pattern NAME_PATTERN = Pattern.compile("[a-z0-9][a-z0-9_.-]*");
+    Set<String> KEYWORDS = Set.of("and", "or", "not");
+
+    record Label(String name) implements LabelExpression {
+    }
+
+    record And(List<LabelExpression> operands) implements LabelExpression {
+    }
+
+    record Or(List<LabelExpression> operands) implements LabelExpression {
+    }
+
+    record Not(LabelExpression operand) implements LabelExpression {
+    }
+
+    // İfadede geçen etiket adları
+    default Set<String> labelNames() {
+        Set<String> names = new LinkedHashSet<>();
+        collectNames(this, names);
+        return names;
+    }
+
+    private static void collectNames(LabelExpression expression, Set<String> names) {
+        if (expression instanceof Label label) {
+            names.add(label.name());
+        } else if (expression instanceof And and) {
+            and.operands().forEach(operand -> collectNames(operand, names));
+        } else if (expression instanceof Or or) {
+            or.operands().forEach(operand -> collectNames(operand, names));
+        } else if (expression instanceof Not not) {
+            collectNames(not.operand(), names);
+        }
+    }
+
+    // Etiket adını küçük harfe çevirip doğrular (görev etiketleri de aynı kurala uyar)
+    static String normalizeName(String raw) {
+        String name = raw == null ? "" : raw.trim().toLowerCase(Locale.ROOT);
+        if (name.isEmpty() || name.length() > MAX_NAME_LENGTH || !NAME_PATTERN.matcher(name).matches() || KEYWORDS.contains(name)) {
+            throw new RuntimeException("Geçersiz etiket adı: '" + raw + "' (harf, rakam, '_', '.' veya '-', en fazla "
+                + MAX_NAME_LENGTH + " karakter)");
+        }
+        return name;
+    }
+
+    static LabelExpression parse(String text) {
+        if (text == null || text.isBlank()) {
+            throw new RuntimeException("Geçersiz etiket ifadesi: ifade boş");
+        }
+        if (text.length() > MAX_EXPRESSION_LENGTH) {
+            throw new RuntimeException("Geçersiz etiket ifadesi: en fazla " + MAX_EXPRESSION_LENGTH + " karakter olabilir");
+        }
+        return new Parser(tokenize(text)).parse();
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else {
+                int start = i;
+                while (i < text.length() && !Character.isWhitespace(text.charAt(i))
+                        && text.charAt(i) != '(' && text.charAt(i) != ')') {
+                    i++;
+                }
+                tokens.add(text.substring(start, i));
+            }
+        }
+        return tokens;
+    }
+
+    // or  := and ("OR" and)*
+    // and := not (["AND"] not)*
+    // not := "NOT" not | primary
+    // primary := "(" or ")" | etiket
+    final class Parser {
+
+        private final List<String> tokens;
+        private int position;
+
+        private Parser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        private LabelExpression parse() {
+            LabelExpression expression = parseOr();
+            if (position < tokens.size()) {
+                throw error("beklenmeyen '" + tokens.get(position) + "'");
+            }
+            return expression;
+        }
+
+        private LabelExpression parseOr() {
+            List<LabelExpression> operands = new ArrayList<>();
+            operands.add(parseAnd());
+            while (acceptKeyword("or")) {
+                operands.add(parseAnd());
+            }
+            return operands.size() == 1 ? operands.get(0) : new Or(List.copyOf(operands));
+        }
+
+        private LabelExpression parseAnd() {
+            List<LabelExpression> operands = new ArrayList<>();
+            operands.add(parseNot());
+            while (true) {
+                if (acceptKeyword("and")) {
+                    operands.add(parseNot());
+                } else if (position < tokens.size() && !isKeyword(peek(), "or") && !peek().equals(")")) {
+                    operands.add(parseNot());
+                } else {
+                    break;
+                }
+            }
+            return operands.size() == 1 ? operands.get(0) : new And(List.copyOf(operands));
+        }
+
+        private LabelExpression parseNot() {
+            if (acceptKeyword("not")) {
+                return new Not(parseNot());
+            }
+            return parsePrimary();
+        }
+
+        private LabelExpression parsePrimary() {
+            if (position >= tokens.size()) {
+                throw error("ifade eksik");
+            }
+            String token = tokens.get(position++);
+            if (token.equals("(")) {
+                LabelExpression inner = parseOr();
+                if (position >= tokens.size() || !tokens.get(position).equals(")")) {
+                    throw error("')' eksik");
+                }
+                position++;
+                return inner;
+            }
+            if (token.equals(")") || KEYWORDS.contains(token.toLowerCase(Locale.ROOT))) {
+                throw error("beklenmeyen '" + token + "'");
+            }
+            return new Label(normalizeName(token));
+        }
+
+        private boolean acceptKeyword(String keyword) {
+            if (position < tokens.size() && isKeyword(peek(), keyword)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private String peek() {
+            return tokens.get(position);
+        }
+
+        private static boolean isKeyword(String token, String keyword) {
+            return token.equalsIgnoreCase(keyword);
+        }
+
+        private static RuntimeException error(String detail) {
+            return new RuntimeException("Geçersiz etiket ifadesi: " + detail);
+        }
+    }
+}
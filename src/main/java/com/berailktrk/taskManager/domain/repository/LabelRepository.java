@@ -0,0 +1,24 @@
+package com.berailktrk.taskManager.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.berailktrk.taskManager.domain.model.Label;
+
+public interface LabelRepository extends JpaRepository<Label, Long> {
+
+    List<Label> findByNameIn(Collection<String> names);
+
+    List<Label> findAllByOrderByNameAsc();
+
+    // Aynı etiket eşzamanlı olarak başka bir istekte oluşturulduysa ekleme hata vermeden atlanır (0 döner)
+    @Modifying
+    @Query(value = "INSERT INTO labels (name, created_at) VALUES (:name, :createdAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("createdAt") LocalDateTime createdAt);
+}
@@ -0,0 +1,21 @@
+package com.berailktrk.taskManager.domain.repository;
+
+import java.util.function.Function;
+
+import org.springframework.data.domain.Slice;
+
+// COUNT sorgusu çalıştırılmadan okunan sayfa. total istenmediyse null'dur; totalApproximate ise toplamın
+// kısa süreli önbellekten veya bellekteki index'ten geldiğini, o anki kesin sayı olmayabileceğini belirtir.
+public record SliceResult<T>(Slice<T> slice, Long total, boolean totalApproximate) {
+
+    // Sayfalı listelerde toplamın nasıl hesaplanacağı
+    public enum TotalMode {
+        EXACT,          // her istekte COUNT (Page)
+        NONE,           // toplam yok, sadece hasNext (size + 1 satır)
+        APPROXIMATE     // hasNext + önbellekten/index'ten yaklaşık toplam
+    }
+
+    public <R> SliceResult<R> map(Function<? super T, ? extends R> mapper) {
+        return new SliceResult<>(slice.map(mapper), total, totalApproximate);
+    }
+}
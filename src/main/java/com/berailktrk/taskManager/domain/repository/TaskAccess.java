@@ -0,0 +1,11 @@
+package com.berailktrk.taskManager.domain.repository;
+
+import com.berailktrk.taskManager.domain.model.Task;
+
+// Görev ve çağıranın o görev üzerindeki yetkisi; ikisi tek sorguda hesaplanır (bkz. TaskRepository.findWithAccess)
+public interface TaskAccess {
+
+    Task getTask();
+
+    boolean isPermitted();
+}
@@ -0,0 +1,40 @@
+package com.berailktrk.taskManager.domain.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.berailktrk.taskManager.domain.model.TaskDailyRollup;
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+
+public interface TaskDailyRollupRepository extends JpaRepository<TaskDailyRollup, Long> {
+
+    // Günlük tamamlanma sayıları: [gün, sayı] (sadece tamamlanma olan günler)
+    @Query("SELECT r.day, SUM(r.completedCount) FROM TaskDailyRollup r WHERE r.day BETWEEN :from AND :to " +
+           "AND (:assigneeId IS NULL OR r.assigneeId = :assigneeId) " +
+           "AND (:priority IS NULL OR r.priority = :priority) " +
+           "GROUP BY r.day ORDER BY r.day")
+    List<Object[]> sumCompletedByDay(@Param("from") LocalDate from,
+                                     @Param("to") LocalDate to,
+                                     @Param("assigneeId") Long assigneeId,
+                                     @Param("priority") TaskPriority priority);
+
+    @Query("SELECT r FROM TaskDailyRollup r WHERE r.day BETWEEN :from AND :to " +
+           "AND (:assigneeId IS NULL OR r.assigneeId = :assigneeId) " +
+           "AND (:priority IS NULL OR r.priority = :priority)")
+    List<TaskDailyRollup> findInRange(@Param("from") LocalDate from,
+                                      @Param("to") LocalDate to,
+                                      @Param("assigneeId") Long assigneeId,
+                                      @Param("priority") TaskPriority priority);
+
+    @Query("SELECT MAX(r.day) FROM TaskDailyRollup r")
+    LocalDate findLastDay();
+
+    @Modifying
+    @Query("DELETE FROM TaskDailyRollup r WHERE r.day = :day")
+    int deleteByDay(@Param("day") LocalDate day);
+}
@@ -0,0 +1,103 @@
+package com.berailktrk.taskManager.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+
+// Bir aramanın facet sayımları: durum, öncelik, atanan kullanıcı (en çok görevi olanlar) ve bitiş tarihi aralığı.
+// Tüm enum değerleri sıfır dahil döner; atanmamış görevler userId null olan satırda sayılır.
+public record TaskFacets(
+    long total,
+    Map<TaskStatus, Long> status,
+    Map<TaskPriority, Long> priority,
+    List<AssigneeCount> assignee,
+    Map<DueBucket, Long> due
+) {
+
+    public enum DueBucket {
+        PAST_DUE,       // bitiş tarihi geçmiş (durumdan bağımsız)
+        TODAY,          // bugün içinde
+        NEXT_7_DAYS,    // yarından itibaren 7 gün
+        LATER,
+        NONE            // bitiş tarihi yok
+    }
+
+    public record AssigneeCount(Long userId, long count) {
+    }
+
+    // Aralık sınırları istek anında bir kez hesaplanır; bellek ve SQL yolları aynı sınırları kullanır
+    public record DueBoundaries(LocalDateTime now, LocalDateTime startOfTomorrow, LocalDateTime endOfNextWeek) {
+
+        public static DueBoundaries at(LocalDateTime now) {
+            LocalDateTime startOfTomorrow = now.toLocalDate().plusDays(1).atStartOfDay();
+            return new DueBoundaries(now, startOfTomorrow, startOfTomorrow.plusDays(7));
+        }
+    }
+
+    // Sayımları toplayan yardımcı; bellek taramasının dizileri ve gruplu sorgunun satırları buraya eklenir
+    public static final class Builder {
+
+        private long total;
+        private final Map<TaskStatus, Long> status = new EnumMap<>(TaskStatus.class);
+        private final Map<TaskPriority, Long> priority = new EnumMap<>(TaskPriority.class);
+        private final Map<Long, Long> assignee = new HashMap<>();
+        private final Map<DueBucket, Long> due = new EnumMap<>(DueBucket.class);
+
+        public Builder() {
+            for (TaskStatus value : TaskStatus.values()) {
+                status.put(value, 0L);
+            }
+            for (TaskPriority value : TaskPriority.values()) {
+                priority.put(value, 0L);
+            }
+            for (DueBucket value : DueBucket.values()) {
+                due.put(value, 0L);
+            }
+        }
+
+        public Builder addTotal(long count) {
+            total += count;
+            return this;
+        }
+
+        public Builder addStatus(TaskStatus value, long count) {
+            status.merge(value, count, Long::sum);
+            return this;
+        }
+
+        public Builder addPriority(TaskPriority value, long count) {
+            priority.merge(value, count, Long::sum);
+            return this;
+        }
+
+        public Builder addAssignee(Long userId, long count) {
+            if (count > 0) {
+                assignee.merge(userId, count, Long::sum);
+            }
+            return this;
+        }
+
+        public Builder addDue(DueBucket value, long count) {
+            due.merge(value, count, Long::sum);
+            return this;
+        }
+
+        // Atanan kullanıcılar görev sayısına göre azalan sırada, en fazla assigneeLimit kişi
+        public TaskFacets build(int assigneeLimit) {
+            List<AssigneeCount> assignees = new ArrayList<>();
+            assignee.forEach((userId, count) -> assignees.add(new AssigneeCount(userId, count)));
+            assignees.sort(Comparator.comparingLong(AssigneeCount::count).reversed()
+                .thenComparing(AssigneeCount::userId, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+            return new TaskFacets(total, status, priority,
+                List.copyOf(assignees.subList(0, Math.min(assigneeLimit, assignees.size()))), due);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.berailktrk.taskManager.domain.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.berailktrk.taskManager.domain.model.TaskHistory;
+
+@Repository
+public interface TaskHistoryRepository extends JpaRepository<TaskHistory, Long> {
+
+    // (task_id, seq) index'i üzerinden en yeni değişiklikten geriye doğru
+    Page<TaskHistory> findByTaskIdOrderBySeqDescIdDesc(Long taskId, Pageable pageable);
+
+    // Silinmiş görevlerin geçmiş yetkisi için görevi oluşturan kayıt
+    Optional<TaskHistory> findFirstByTaskIdAndAction(Long taskId, TaskHistory.Action action);
+
+    boolean existsByTaskId(Long taskId);
+}
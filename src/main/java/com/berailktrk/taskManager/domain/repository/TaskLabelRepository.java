@@ -0,0 +1,44 @@
+package com.berailktrk.taskManager.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.berailktrk.taskManager.domain.model.TaskLabel;
+
+public interface TaskLabelRepository extends JpaRepository<TaskLabel, Long> {
+
+    @Query("SELECT l.name FROM TaskLabel tl JOIN Label l ON l.id = tl.labelId WHERE tl.taskId = :taskId ORDER BY l.name")
+    List<String> findLabelNamesByTaskId(@Param("taskId") Long taskId);
+
+    @Query("SELECT tl.labelId FROM TaskLabel tl WHERE tl.taskId = :taskId")
+    List<Long> findLabelIdsByTaskId(@Param("taskId") Long taskId);
+
+    // Başka instance'ta değişen görevlerin etiketleri: [taskId, etiket adı]
+    @Query("SELECT tl.taskId, l.name FROM TaskLabel tl JOIN Label l ON l.id = tl.labelId WHERE tl.taskId IN :taskIds")
+    List<Object[]> findLabelNamesByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    // Etiket başına aktif görev sayısı: [etiket adı, sayı] (bitmap index hazır değilken kullanılır)
+    @Query("SELECT l.name, COUNT(t.id) FROM TaskLabel tl JOIN Label l ON l.id = tl.labelId " +
+           "JOIN Task t ON t.id = tl.taskId GROUP BY l.name")
+    List<Object[]> countActiveTasksByLabel();
+
+    @Modifying
+    @Query("DELETE FROM TaskLabel tl WHERE tl.taskId = :taskId AND tl.labelId IN :labelIds")
+    int deleteByTaskIdAndLabelIdIn(@Param("taskId") Long taskId, @Param("labelIds") Collection<Long> labelIds);
+
+    // Kalıcı olarak silinen görevlerin etiketleri
+    @Modifying
+    @Query("DELETE FROM TaskLabel tl WHERE tl.taskId IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    // ArchivedTaskRepository.deleteCreatedByChunk ile aynı parçayı seçer; o silmeden önce aynı transaction'da çağrılır
+    @Modifying
+    @Query(value = "DELETE FROM task_labels WHERE task_id IN " +
+           "(SELECT id FROM tasks_archive WHERE created_by = :userId ORDER BY id LIMIT :limit)", nativeQuery = true)
+    int deleteForArchivedCreatedByChunk(@Param("userId") Long userId, @Param("limit") int limit);
+}
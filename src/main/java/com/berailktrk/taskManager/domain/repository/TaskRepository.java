@@ -1,21 +1,60 @@
 package com.berailktrk.taskManager.domain.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.berailktrk.taskManager.domain.model.Role;
 import com.berailktrk.taskManager.domain.model.Task;
 import com.berailktrk.taskManager.domain.model.TaskPriority;
 import com.berailktrk.taskManager.domain.model.TaskStatus;
 import com.berailktrk.taskManager.domain.model.User;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+    
+    // Open-session-in-view kapalı: TaskResponse'un ihtiyaç duyduğu kullanıcılar transaction içinde yüklenir
+    @Override
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
+    Optional<Task> findById(Long id);
+    
+    @Override
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
+    List<Task> findAll();
+    
+    // ========== SQL İÇİNDE YETKİ KONTROLÜ ==========
+    
+    // Görev ve çağıranın yetkisi tek sorguda: oluşturan, atanan veya 'roles' içindeki bir role sahip kullanıcı.
+    // Satır yoksa görev yok, permitted=false ise görev var ama yetki yok.
+    @Query("SELECT t AS task, CASE WHEN (t.createdBy.id = :userId OR t.assignedTo.id = :userId OR " +
+           "EXISTS (SELECT 1 FROM User u WHERE u.id = :userId AND u.role IN :roles)) THEN true ELSE false END AS permitted " +
+           "FROM Task t JOIN FETCH t.createdBy LEFT JOIN FETCH t.assignedTo WHERE t.id = :taskId")
+    Optional<TaskAccess> findWithAccess(
+        @Param("taskId") Long taskId,
+        @Param("userId") Long userId,
+        @Param("roles") List<Role> roles
+    );
+    
+    // Koşullu silme: sadece oluşturan veya 'roles' içindeki bir role sahip kullanıcı silebilir.
+    // 0 dönerse görev yok veya yetki yok (ayrımı için existsById).
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id = :taskId AND (t.createdBy.id = :userId OR " +
+           "EXISTS (SELECT 1 FROM User u WHERE u.id = :userId AND u.role IN :roles))")
+    int deleteIfPermitted(
+        @Param("taskId") Long taskId,
+        @Param("userId") Long userId,
+        @Param("roles") List<Role> roles
+    );
     
     // Kullanıcının oluşturduğu görevler
     List<Task> findByCreatedBy(User createdBy);
@@ -45,12 +84,14 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByCreatedByOrAssignedTo(@Param("user") User user);
     
     // Belirli bir kullanıcının oluşturduğu veya atandığı görevler
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
     @Query("SELECT t FROM Task t WHERE (t.createdBy.id = :userId OR t.assignedTo.id = :userId)")
     List<Task> findByCreatedByOrAssignedToUserId(@Param("userId") Long userId);
     
     // ========== YENİ ARAMA VE FİLTRELEME METHODLARI ==========
     
     // Kullanıcının görevlerini filtreleme (başlık, durum, öncelik)
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
     @Query("SELECT t FROM Task t WHERE " +
            "(:title IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
            "(:status IS NULL OR t.status = :status) AND " +
@@ -65,6 +106,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     );
     
     // Admin/Manager için tüm görevleri filtreleme
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
     @Query("SELECT t FROM Task t WHERE " +
            "(:title IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
            "(:status IS NULL OR t.status = :status) AND " +
@@ -77,6 +119,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     );
     
     // Kullanıcının görevlerini sayfalama ile getirme
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
     @Query("SELECT t FROM Task t WHERE t.createdBy.id = :userId OR t.assignedTo.id = :userId")
     Page<Task> findByCreatedByIdOrAssignedToId(@Param("userId") Long userId, Pageable pageable);
     
@@ -93,6 +136,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Object[]> getTaskCountsByPriority(@Param("userId") Long userId);
     
     // Hızlı arama - kullanıcının görevlerinde başlık veya açıklama arama
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
     @Query("SELECT t FROM Task t WHERE " +
            "(t.createdBy.id = :userId OR t.assignedTo.id = :userId) AND " +
            "(LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
@@ -103,10 +147,91 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     );
     
     // Admin/Manager için tüm görevlerde başlık veya açıklama arama
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
     @Query("SELECT t FROM Task t WHERE " +
            "LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<Task> findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
         @Param("searchTerm") String searchTerm
     );
-}
\ No newline at end of file
+    
+    // ========== ARŞİVLEME ==========
+    
+    // Arşivlenecek görevlerin id'leri: kapanmış ve cutoff'tan eski. SKIP LOCKED sayesinde birden fazla
+    // instance aynı anda çalışsa da aynı satırları almaz ve kullanıcı güncellemelerini beklemez.
+    // Native SQL PostgreSQL içindir; H2 sözdizimini kabul eder ama kilit davranışı PostgreSQL ile aynı değildir.
+    @Query(value = "SELECT id FROM tasks WHERE status IN (:statuses) AND " +
+                   "((updated_at IS NOT NULL AND updated_at < :cutoff) OR (updated_at IS NULL AND created_at < :cutoff)) " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> findArchivableIds(
+        @Param("statuses") List<String> statuses,
+        @Param("cutoff") LocalDateTime cutoff,
+        @Param("limit") int limit
+    );
+    
+    // Verilen id'lerden aktif tabloda olanlar
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+    
+    // Arşive kopyalanan görevleri aktif tablodan siler
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+    
+    // ========== BİTİŞ TARİHİ ZAMANLAYICISI ==========
+    
+    // Zamanlayıcı penceresini dolduran sorgu: henüz işaretlenmemiş, açık ve bitişi 'until' öncesi görevler
+    // (geçmişte kalanlar da dahil; uygulama kapalıyken kaçırılanlar açılışta yakalanır)
+    @Query("SELECT t.id, t.dueDate FROM Task t WHERE t.overdue = false AND t.dueDate < :until " +
+           "AND t.status NOT IN :closedStatuses ORDER BY t.dueDate")
+    List<Object[]> findUpcomingDueDates(
+        @Param("until") LocalDateTime until,
+        @Param("closedStatuses") List<TaskStatus> closedStatuses,
+        Pageable pageable
+    );
+    
+    // Süresi dolan görevleri kilitler; başka bir instance aynı görevleri işliyorsa atlanır
+    @Query(value = "SELECT id FROM tasks WHERE id IN (:ids) AND overdue = FALSE AND due_date <= :now " +
+                   "AND status NOT IN (:closedStatuses) FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockDueTasks(
+        @Param("ids") List<Long> ids,
+        @Param("now") LocalDateTime now,
+        @Param("closedStatuses") List<String> closedStatuses
+    );
+    
+    // Sistem alanı olduğu için sürüm artırılmaz (kullanıcının elindeki ETag geçerli kalır)
+    @Modifying
+    @Query("UPDATE Task t SET t.overdue = true WHERE t.id IN :ids")
+    int markOverdue(@Param("ids") List<Long> ids);
+    
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids")
+    List<Task> findWithUsersByIdIn(@Param("ids") List<Long> ids);
+    
+    // ========== KULLANICI SİLME (OFFBOARDING) ==========
+    
+    // Kullanıcının oluşturduğu veya atandığı aktif görev satırı sayısı (ilerleme raporu için)
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.createdBy.id = :userId OR t.assignedTo.id = :userId")
+    long countByCreatedByOrAssignedToUserId(@Param("userId") Long userId);
+    
+    // Kullanıcının oluşturduğu görevlerden bir parça; satırlar parça transaction'ı bitene kadar kilitlenir
+    @Query(value = "SELECT id FROM tasks WHERE created_by = :userId ORDER BY id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Long> lockIdsCreatedBy(@Param("userId") Long userId, @Param("limit") int limit);
+    
+    // Kullanıcıya atanan görevlerden bir parça
+    @Query(value = "SELECT id FROM tasks WHERE assigned_to = :userId ORDER BY id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Long> lockIdsAssignedTo(@Param("userId") Long userId, @Param("limit") int limit);
+    
+    // Sahip değiştiği için sürüm artırılır (eski ETag'ler geçersiz olur)
+    @Modifying
+    @Query(value = "UPDATE tasks SET created_by = :toUserId, version = version + 1 WHERE id IN (:ids)", nativeQuery = true)
+    int reassignCreator(@Param("ids") List<Long> ids, @Param("toUserId") Long toUserId);
+    
+    @Modifying
+    @Query(value = "UPDATE tasks SET assigned_to = :toUserId, version = version + 1 WHERE id IN (:ids)", nativeQuery = true)
+    int reassignAssignee(@Param("ids") List<Long> ids, @Param("toUserId") Long toUserId);
+    
+    @Modifying
+    @Query(value = "UPDATE tasks SET assigned_to = NULL, version = version + 1 WHERE id IN (:ids)", nativeQuery = true)
+    int clearAssignee(@Param("ids") List<Long> ids);
+}
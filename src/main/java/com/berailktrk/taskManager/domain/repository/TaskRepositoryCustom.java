@@ -0,0 +1,31 @@
+package com.berailktrk.taskManager.domain.repository;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import com.berailktrk.taskManager.domain.model.Task;
+import com.berailktrk.taskManager.domain.model.TaskField;
+
+public interface TaskRepositoryCustom {
+
+    // Sadece istenen kolonları ve gerekli join'leri seçer; her satır JSON adı -> değer haritasıdır
+    Page<Map<String, Object>> findFields(TaskSearchCriteria criteria, Set<TaskField> fields, Pageable pageable);
+
+    // findFields'ın COUNT çalıştırmayan hali (size + 1 satır okunur)
+    Slice<Map<String, Object>> findFieldsSlice(TaskSearchCriteria criteria, Set<TaskField> fields, Pageable pageable);
+
+    // Görevleri oluşturan/atanan kullanıcılarla birlikte getirir (etiket filtreli arama)
+    Page<Task> findTasks(TaskSearchCriteria criteria, Pageable pageable);
+
+    // findTasks'ın COUNT çalıştırmayan hali (size + 1 satır okunur)
+    Slice<Task> findTaskSlice(TaskSearchCriteria criteria, Pageable pageable);
+
+    long countTasks(TaskSearchCriteria criteria);
+
+    // Arama filtresine uyan görevlerin facet sayımları (tek gruplu sorgu)
+    TaskFacets countFacets(TaskSearchCriteria criteria, TaskFacets.DueBoundaries boundaries, int assigneeLimit);
+}
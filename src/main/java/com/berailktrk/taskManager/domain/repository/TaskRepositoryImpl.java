@@ -0,0 +1,256 @@
+package com.berailktrk.taskManager.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.berailktrk.taskManager.domain.model.Label;
+import com.berailktrk.taskManager.domain.model.Task;
+import com.berailktrk.taskManager.domain.model.TaskField;
+import com.berailktrk.taskManager.domain.model.TaskLabel;
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+import com.berailktrk.taskManager.domain.model.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+
+// TaskRepository'nin Criteria API ile yazılmış parçası (Spring Data "Impl" son eki ile bağlar)
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findFields(TaskSearchCriteria criteria, Set<TaskField> fields, Pageable pageable) {
+        TypedQuery<Tuple> typedQuery = fieldsQuery(criteria, fields, pageable);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Map<String, Object>> content = typedQuery.getResultList().stream()
+            .map(tuple -> toMap(tuple, fields))
+            .toList();
+
+        // Son sayfa veya tek sayfa ise ayrıca COUNT sorgusu çalıştırılmaz
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(criteria));
+    }
+
+    @Override
+    public Slice<Map<String, Object>> findFieldsSlice(TaskSearchCriteria criteria, Set<TaskField> fields, Pageable pageable) {
+        TypedQuery<Tuple> typedQuery = fieldsQuery(criteria, fields, pageable);
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageable.getPageSize() + 1);
+
+        List<Map<String, Object>> content = typedQuery.getResultList().stream()
+            .map(tuple -> toMap(tuple, fields))
+            .toList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private TypedQuery<Tuple> fieldsQuery(TaskSearchCriteria criteria, Set<TaskField> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> task = query.from(Task.class);
+
+        // Kullanıcı tabloları sadece kullanıcı adı istendiğinde join edilir
+        Join<Task, User> createdBy = fields.contains(TaskField.CREATED_BY_USERNAME) ? task.join("createdBy", JoinType.INNER) : null;
+        Join<Task, User> assignedTo = fields.contains(TaskField.ASSIGNED_TO_USERNAME) ? task.join("assignedTo", JoinType.LEFT) : null;
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (TaskField field : fields) {
+            Path<?> path = switch (field) {
+                case CREATED_BY_USERNAME -> createdBy.get("username");
+                case ASSIGNED_TO_USERNAME -> assignedTo.get("username");
+                case CREATED_BY_USER_ID -> task.get("createdBy").get("id");
+                case ASSIGNED_TO_USER_ID -> task.get("assignedTo").get("id");
+                default -> task.get(field.getPath());
+            };
+            selections.add(path.alias(field.getJsonName()));
+        }
+
+        query.multiselect(selections)
+            .where(predicates(cb, query, task, criteria))
+            .orderBy(QueryUtils.toOrders(pageable.getSort(), task, cb));
+
+        return entityManager.createQuery(query);
+    }
+
+    @Override
+    public Page<Task> findTasks(TaskSearchCriteria criteria, Pageable pageable) {
+        TypedQuery<Task> typedQuery = taskQuery(criteria, pageable);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(criteria));
+    }
+
+    // COUNT sorgusu yerine bir fazla satır okunur; sonraki sayfanın varlığı bundan anlaşılır
+    @Override
+    public Slice<Task> findTaskSlice(TaskSearchCriteria criteria, Pageable pageable) {
+        TypedQuery<Task> typedQuery = taskQuery(criteria, pageable);
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageable.getPageSize() + 1);
+
+        List<Task> content = typedQuery.getResultList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private TypedQuery<Task> taskQuery(TaskSearchCriteria criteria, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+        task.fetch("createdBy", JoinType.INNER);
+        task.fetch("assignedTo", JoinType.LEFT);
+
+        query.select(task)
+            .where(predicates(cb, query, task, criteria))
+            .orderBy(QueryUtils.toOrders(pageable.getSort(), task, cb));
+
+        return entityManager.createQuery(query);
+    }
+
+    // Facet'ler tek bir gruplu sorguyla: durum, öncelik ve atanan kullanıcıya göre gruplanır, bitiş tarihi aralıkları
+    // aynı satırda koşullu COUNT ile sayılır. Her satır dört facet'e birden eklenir.
+    @Override
+    public TaskFacets countFacets(TaskSearchCriteria criteria, TaskFacets.DueBoundaries boundaries, int assigneeLimit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> task = query.from(Task.class);
+
+        Path<Long> id = task.get("id");
+        Path<LocalDateTime> due = task.get("dueDate");
+        Path<TaskStatus> status = task.get("status");
+        Path<TaskPriority> priority = task.get("priority");
+        // Yabancı anahtar kolonu doğrudan okunur; users tablosu join edilmez
+        Path<Long> assigneeId = task.get("assignedTo").get("id");
+
+        query.multiselect(
+                status, priority, assigneeId, cb.count(task),
+                cb.count(cb.<Long>selectCase().when(cb.lessThan(due, boundaries.now()), id)),
+                cb.count(cb.<Long>selectCase().when(cb.and(
+                    cb.greaterThanOrEqualTo(due, boundaries.now()), cb.lessThan(due, boundaries.startOfTomorrow())), id)),
+                cb.count(cb.<Long>selectCase().when(cb.and(
+                    cb.greaterThanOrEqualTo(due, boundaries.startOfTomorrow()), cb.lessThan(due, boundaries.endOfNextWeek())), id)),
+                cb.count(cb.<Long>selectCase().when(cb.greaterThanOrEqualTo(due, boundaries.endOfNextWeek()), id)),
+                cb.count(cb.<Long>selectCase().when(cb.isNull(due), id)))
+            .where(predicates(cb, query, task, criteria))
+            .groupBy(status, priority, assigneeId);
+
+        TaskFacets.Builder builder = new TaskFacets.Builder();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            long count = row.get(3, Long.class);
+            builder.addTotal(count)
+                .addStatus(row.get(0, TaskStatus.class), count)
+                .addPriority(row.get(1, TaskPriority.class), count)
+                .addAssignee(row.get(2, Long.class), count)
+                .addDue(TaskFacets.DueBucket.PAST_DUE, row.get(4, Long.class))
+                .addDue(TaskFacets.DueBucket.TODAY, row.get(5, Long.class))
+                .addDue(TaskFacets.DueBucket.NEXT_7_DAYS, row.get(6, Long.class))
+                .addDue(TaskFacets.DueBucket.LATER, row.get(7, Long.class))
+                .addDue(TaskFacets.DueBucket.NONE, row.get(8, Long.class));
+        }
+        return builder.build(assigneeLimit);
+    }
+
+    @Override
+    public long countTasks(TaskSearchCriteria criteria) {
+        return count(criteria);
+    }
+
+    private long count(TaskSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(cb.count(task)).where(predicates(cb, query, task, criteria));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Predicate[] predicates(CriteriaBuilder cb, AbstractQuery<?> query, Root<Task> task, TaskSearchCriteria criteria) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (criteria.title() != null) {
+            // Sunucunun varsayılan dili (örn. tr: 'I' -> 'ı') aramayı değiştirmesin diye Locale.ROOT
+            predicates.add(cb.like(cb.lower(task.get("title")), "%" + criteria.title().toLowerCase(Locale.ROOT) + "%"));
+        }
+        if (criteria.status() != null) {
+            predicates.add(cb.equal(task.get("status"), criteria.status()));
+        }
+        if (criteria.priority() != null) {
+            predicates.add(cb.equal(task.get("priority"), criteria.priority()));
+        }
+        if (criteria.userId() != null) {
+            predicates.add(cb.or(
+                cb.equal(task.get("createdBy").get("id"), criteria.userId()),
+                cb.equal(task.get("assignedTo").get("id"), criteria.userId())
+            ));
+        }
+        if (criteria.taskIds() != null) {
+            predicates.add(criteria.taskIds().isEmpty() ? cb.disjunction() : task.get("id").in(criteria.taskIds()));
+        }
+        if (criteria.labels() != null) {
+            predicates.add(labelPredicate(cb, query, task, criteria.labels()));
+        }
+
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    // Etiket ifadesinin SQL karşılığı: her etiket task_labels üzerinde bir EXISTS alt sorgusudur
+    private Predicate labelPredicate(CriteriaBuilder cb, AbstractQuery<?> query, Root<Task> task, LabelExpression expression) {
+        if (expression instanceof LabelExpression.Label label) {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<TaskLabel> taskLabel = subquery.from(TaskLabel.class);
+            Root<Label> labelRoot = subquery.from(Label.class);
+            subquery.select(taskLabel.get("id")).where(
+                cb.equal(taskLabel.get("taskId"), task.get("id")),
+                cb.equal(taskLabel.get("labelId"), labelRoot.get("id")),
+                cb.equal(labelRoot.get("name"), label.name())
+            );
+            return cb.exists(subquery);
+        }
+        if (expression instanceof LabelExpression.And and) {
+            return cb.and(and.operands().stream().map(operand -> labelPredicate(cb, query, task, operand)).toArray(Predicate[]::new));
+        }
+        if (expression instanceof LabelExpression.Or or) {
+            return cb.or(or.operands().stream().map(operand -> labelPredicate(cb, query, task, operand)).toArray(Predicate[]::new));
+        }
+        LabelExpression.Not not = (LabelExpression.Not) expression;
+        return cb.not(labelPredicate(cb, query, task, not.operand()));
+    }
+
+    private Map<String, Object> toMap(Tuple tuple, Set<TaskField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (TaskField field : fields) {
+            row.put(field.getJsonName(), tuple.get(field.getJsonName()));
+        }
+        return row;
+    }
+}
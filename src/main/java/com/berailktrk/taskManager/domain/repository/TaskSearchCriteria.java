@@ -0,0 +1,28 @@
+package com.berailktrk.taskManager.domain.repository;
+
+import java.util.Collection;
+
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+
+// Criteria API ile yazılan sorguların filtreleri. userId null ise tüm görevler (Admin/Manager),
+// doluysa kullanıcının oluşturduğu veya atandığı görevler aranır.
+// Etiket filtresi iki şekilde gelir: bitmap index'ten çıkan aday id'ler (taskIds) veya index kullanılamadığında
+// / aday sayısı çok büyük olduğunda EXISTS alt sorgularına çevrilen ifadenin kendisi (labels).
+public record TaskSearchCriteria(
+    String title,
+    TaskStatus status,
+    TaskPriority priority,
+    Long userId,
+    Collection<Long> taskIds,
+    LabelExpression labels
+) {
+
+    public TaskSearchCriteria(String title, TaskStatus status, TaskPriority priority, Long userId) {
+        this(title, status, priority, userId, null, null);
+    }
+
+    public static TaskSearchCriteria forUser(Long userId) {
+        return new TaskSearchCriteria(null, null, null, userId);
+    }
+}
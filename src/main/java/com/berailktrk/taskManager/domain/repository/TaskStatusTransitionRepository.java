@@ -0,0 +1,24 @@
+package com.berailktrk.taskManager.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+import com.berailktrk.taskManager.domain.model.TaskStatusTransition;
+
+public interface TaskStatusTransitionRepository extends JpaRepository<TaskStatusTransition, Long> {
+
+    // Bir günün tamamlanmaları: (to_status, changed_at) index'inde aralık taraması
+    @Query("SELECT t FROM TaskStatusTransition t WHERE t.toStatus = :status " +
+           "AND t.changedAt >= :from AND t.changedAt < :to")
+    List<TaskStatusTransition> findByToStatusBetween(@Param("status") TaskStatus status,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
+
+    @Query("SELECT MIN(t.changedAt) FROM TaskStatusTransition t WHERE t.toStatus = :status")
+    LocalDateTime findFirstChangedAt(@Param("status") TaskStatus status);
+}
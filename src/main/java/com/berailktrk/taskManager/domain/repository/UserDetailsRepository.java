@@ -3,9 +3,18 @@ package com.berailktrk.taskManager.domain.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.berailktrk.taskManager.domain.model.UserDetails;
 
 public interface UserDetailsRepository extends JpaRepository<UserDetails, Long> {
-    Optional<UserDetails> findByUserId(Long userId);
+    // Profil: kullanıcı ve detayları tek sorguda
+    @Query("SELECT d FROM UserDetails d JOIN FETCH d.user u WHERE u.id = :userId")
+    Optional<UserDetails> findWithUserByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM UserDetails d WHERE d.user.id = :userId")
+    int deleteByUserIdInBulk(@Param("userId") Long userId);
 } 
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.berailktrk.taskManager.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.berailktrk.taskManager.domain.model.UserOffboardingJob;
+
+public interface UserOffboardingJobRepository extends JpaRepository<UserOffboardingJob, String> {
+
+    boolean existsByUserIdAndStatusIn(Long userId, Collection<UserOffboardingJob.Status> statuses);
+
+    // Bitmemiş ve heartbeat'i eskimiş (hiç başlamamış veya yürüten instance durmuş) işler
+    @Query("SELECT j.id FROM UserOffboardingJob j WHERE j.status IN :statuses " +
+           "AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore) ORDER BY j.createdAt")
+    List<String> findStaleIds(@Param("statuses") Collection<UserOffboardingJob.Status> statuses,
+                              @Param("staleBefore") LocalDateTime staleBefore);
+
+    // İşi sahiplenir: koşullu UPDATE olduğu için aynı işi sadece bir instance alır
+    @Modifying
+    @Query("UPDATE UserOffboardingJob j SET j.status = 'RUNNING', j.heartbeatAt = :now " +
+           "WHERE j.id = :id AND j.status IN ('PENDING', 'RUNNING') " +
+           "AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)")
+    int claim(@Param("id") String id, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    // Parçanın transaction'ı içinde çağrılır; sayaçlar işlenen satırlarla birlikte commit edilir
+    @Modifying
+    @Query("UPDATE UserOffboardingJob j SET j.reassignedTasks = j.reassignedTasks + :reassigned, " +
+           "j.deletedTasks = j.deletedTasks + :deleted, j.unassignedTasks = j.unassignedTasks + :unassigned, " +
+           "j.heartbeatAt = :now WHERE j.id = :id")
+    int addProgress(@Param("id") String id, @Param("reassigned") long reassigned, @Param("deleted") long deleted,
+                    @Param("unassigned") long unassigned, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE UserOffboardingJob j SET j.status = :status, j.finishedAt = :now, j.error = :error WHERE j.id = :id")
+    int finish(@Param("id") String id, @Param("status") UserOffboardingJob.Status status,
+               @Param("now") LocalDateTime now, @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM UserOffboardingJob j WHERE j.finishedAt < :cutoff")
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,12 +1,49 @@
 package com.berailktrk.taskManager.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.berailktrk.taskManager.domain.model.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Optional<User> findById(Long id);
+
+    // Kullanıcı dizini (keyset sayfalama): 'after' önceki sayfanın son kullanıcı adıdır, ilk sayfa için boş string.
+    // Sıralama ve aralık koşulları username üzerindeki unique index'i kullanır; OFFSET yoktur.
+    @Query("SELECT new com.berailktrk.taskManager.domain.repository.UserSummary(u.id, u.username, u.role) " +
+           "FROM User u WHERE u.username > :after ORDER BY u.username")
+    Slice<UserSummary> findDirectoryPage(@Param("after") String after, Pageable pageable);
+
+    // Önek araması kaçışlı LIKE ile yapılır. [önek, önek+1) gibi bir aralık koşulu sadece bayt sıralı (C) collation'da
+    // doğrudur; veritabanının varsayılan collation'ında noktalama ve büyük/küçük harf farklı sıralandığı için eşleşen
+    // kullanıcıları dışarıda bırakabilir. Keyset koşulu ve ORDER BY aynı collation'ı kullandığı için sayfalama tutarlıdır.
+    @Query("SELECT new com.berailktrk.taskManager.domain.repository.UserSummary(u.id, u.username, u.role) " +
+           "FROM User u WHERE u.username LIKE :pattern ESCAPE '\\' AND u.username > :after ORDER BY u.username")
+    Slice<UserSummary> findDirectoryPageByPrefix(
+        @Param("pattern") String pattern,
+        @Param("after") String after,
+        Pageable pageable
+    );
+
+    // Otomatik tamamlama index'inin yeniden kurulması için
+    @Query("SELECT new com.berailktrk.taskManager.domain.repository.UserSummary(u.id, u.username, u.role) FROM User u")
+    List<UserSummary> findAllSummaries();
+
+    // Başka instance'ta değişen kullanıcılar için
+    @Query("SELECT new com.berailktrk.taskManager.domain.repository.UserSummary(u.id, u.username, u.role) FROM User u WHERE u.id IN :ids")
+    List<UserSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Entity yüklenmeden silinir (user_details önce ayrıca silinmelidir)
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id = :id")
+    int deleteByIdInBulk(@Param("id") Long id);
 }
@@ -0,0 +1,7 @@
+package com.berailktrk.taskManager.domain.repository;
+
+import com.berailktrk.taskManager.domain.model.Role;
+
+// Kullanıcı dizini ve otomatik tamamlama için hafif projection (UserDetails ve şifre yüklenmez)
+public record UserSummary(Long id, String username, Role role) {
+}
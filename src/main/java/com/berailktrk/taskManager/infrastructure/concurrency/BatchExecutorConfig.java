@@ -0,0 +1,32 @@
+package com.berailktrk.taskManager.infrastructure.concurrency;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// /api/batch alt isteklerini paralel çalıştıran sınırlı havuz.
+// Kuyruk dolduğunda alt istek çağıran (HTTP) thread'de çalışır; böylece havuz hiçbir zaman sınırsız büyümez.
+// SecurityContext (replica yönlendirmesi için) ve trace bağlamı worker thread'lere taşınır.
+@Configuration
+public class BatchExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor batchExecutor(
+        @Value("${app.batch.threads:8}") int threads,
+        @Value("${app.batch.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("batch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,66 @@
+package com.berailktrk.taskManager.infrastructure.concurrency;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Aynı anahtarla eşzamanlı gelen okumaları tek sorguda birleştirir: ilk çağıran (lider) sorguyu çalıştırır,
+// o sürerken gelenler aynı sonucu bekler. Sonuç saklanmaz; sorgu bittiği anda anahtar serbest kalır ve
+// sonraki çağrı yeni bir sorgu başlatır. Dönen nesneler çağıranlar arasında paylaşıldığı için salt okunur olmalıdır.
+@Component
+public class SingleFlight {
+
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    private record Key(String operation, List<Object> args) {
+    }
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, List<Object> args, Supplier<T> loader) {
+        Key key = new Key(operation, args);
+        CompletableFuture<Object> leader = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, leader);
+
+        if (existing != null) {
+            meterRegistry.counter("taskmanager.singleflight.coalesced", "operation", operation).increment();
+            return (T) await(existing);
+        }
+
+        try {
+            T result = loader.get();
+            // Önce anahtar bırakılır: sonuç tamamlandıktan sonra gelen çağrı eski sonucu almaz
+            inFlight.remove(key, leader);
+            leader.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, leader);
+            leader.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
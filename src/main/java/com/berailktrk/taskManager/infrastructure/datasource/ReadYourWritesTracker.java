@@ -0,0 +1,31 @@
+package com.berailktrk.taskManager.infrastructure.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Kullanıcı bazında son yazma zamanını tutar. Pencere (izin verilen replica gecikmesi)
+// dolmadan yapılan okumalar primary'ye gider, böylece kullanıcı kendi yazdığını hemen görür.
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final ConcurrentHashMap<Long, Long> lastWriteByUser = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(Long userId) {
+        lastWriteByUser.put(userId, System.nanoTime());
+    }
+
+    public boolean hasRecentWrite(Long userId) {
+        Long lastWrite = lastWriteByUser.get(userId);
+        return lastWrite != null && System.nanoTime() - lastWrite < windowNanos;
+    }
+
+    // Süresi dolmuş kayıtları temizler (ReplicaHealth kontrolü ile birlikte çağrılır)
+    public void evictExpired() {
+        long now = System.nanoTime();
+        lastWriteByUser.values().removeIf(lastWrite -> now - lastWrite >= windowNanos);
+    }
+}
@@ -0,0 +1,68 @@
+package com.berailktrk.taskManager.infrastructure.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+// Replica'nın gecikmesini periyodik olarak ölçer. Gecikme max-lag'i aşarsa
+// veya replica'ya ulaşılamazsa okumalar bir sonraki başarılı ölçüme kadar primary'ye yönlenir.
+public class ReplicaHealth {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealth.class);
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    private volatile boolean available = true;
+    private volatile double lastLagSeconds = 0;
+
+    public ReplicaHealth(DataSource replica, String lagQuery, Duration maxLag, ReadYourWritesTracker readYourWritesTracker) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public double getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    public void markDown() {
+        available = false;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        readYourWritesTracker.evictExpired();
+
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            double lag = rs.next() ? rs.getDouble(1) : 0;
+            lastLagSeconds = lag;
+            boolean healthy = lag * 1000 <= maxLag.toMillis();
+            if (healthy != available) {
+                log.info("Replica durumu değişti: {} (gecikme {} sn)", healthy ? "UP" : "LAGGING", lag);
+            }
+            available = healthy;
+        } catch (Exception e) {
+            if (available) {
+                log.warn("Replica gecikmesi ölçülemedi, okumalar primary'ye yönlendiriliyor: {}", e.getMessage());
+            }
+            available = false;
+        }
+    }
+}
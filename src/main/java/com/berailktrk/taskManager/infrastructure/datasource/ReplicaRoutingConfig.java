@@ -0,0 +1,107 @@
+package com.berailktrk.taskManager.infrastructure.datasource;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// app.datasource.replica.enabled=true iken primary + replica havuzlarını kurar.
+// Kapalıyken Spring Boot'un tek DataSource yapılandırması aynen kullanılır.
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+        DataSourceProperties properties,
+        @Value("${app.datasource.replica.url}") String url,
+        @Value("${app.datasource.replica.username:${spring.datasource.username}}") String username,
+        @Value("${app.datasource.replica.password:${spring.datasource.password}}") String password
+    ) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setReadOnly(true);
+        // Replica kapalıyken uygulama açılışı engellenmesin
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+        @Value("${app.datasource.replica.max-lag:5s}") Duration maxLag
+    ) {
+        return new ReadYourWritesTracker(maxLag);
+    }
+
+    @Bean
+    public ReplicaHealth replicaHealth(
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        @Value("${app.datasource.replica.lag-query}") String lagQuery,
+        @Value("${app.datasource.replica.max-lag:5s}") Duration maxLag,
+        ReadYourWritesTracker readYourWritesTracker,
+        MeterRegistry meterRegistry
+    ) {
+        ReplicaHealth health = new ReplicaHealth(replicaDataSource, lagQuery, maxLag, readYourWritesTracker);
+        Gauge.builder("taskmanager.datasource.replica.lag", health, ReplicaHealth::getLastLagSeconds)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("taskmanager.datasource.replica.available", health, h -> h.isAvailable() ? 1 : 0)
+            .register(meterRegistry);
+        return health;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        ReplicaHealth replicaHealth,
+        ReadYourWritesTracker readYourWritesTracker
+    ) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaHealth, readYourWritesTracker);
+    }
+
+    // Spring varsayılan olarak Hibernate bağlantısını session boyunca tutar (HOLD). Open-session-in-view
+    // açıkken bu, istekteki ilk transaction'ın seçtiği havuzun (örn. replica) sonraki yazmalarda da
+    // kullanılması demektir. Bağlantı her transaction sonunda bırakılınca yönlendirme transaction bazında yapılır.
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put("hibernate.connection.handling_mode",
+            "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+
+    // JPA ve transaction manager'ın kullandığı DataSource. Lazy proxy sayesinde gerçek bağlantı
+    // ilk SQL'de alınır; o anda transaction'ın read-only olup olmadığı bellidir.
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,93 @@
+package com.berailktrk.taskManager.infrastructure.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Read-only transaction'ları replica'ya, diğer her şeyi primary'ye yönlendirir.
+// Replica gecikmeliyse/kapalıysa veya kullanıcı az önce yazma yaptıysa okuma da primary'ye düşer.
+// LazyConnectionDataSourceProxy arkasında kullanılmalıdır; aksi halde bağlantı,
+// transaction'ın read-only bayrağı set edilmeden önce alınır.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaHealth replicaHealth;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReplicaHealth replicaHealth, ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaHealth = replicaHealth;
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // Yazma transaction'ı commit olduktan sonra kullanıcının okumaları bir süre primary'de kalsın
+            if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWritesTracker.recordWrite(userId);
+                    }
+                });
+            }
+            return Route.PRIMARY;
+        }
+
+        if (!replicaHealth.isAvailable()) {
+            return Route.PRIMARY;
+        }
+
+        if (userId != null && readYourWritesTracker.hasRecentWrite(userId)) {
+            return Route.PRIMARY;
+        }
+
+        return Route.REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Route.PRIMARY) {
+            return primary.getConnection();
+        }
+
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            // Replica'ya ulaşılamıyorsa bir sonraki lag kontrolüne kadar primary'ye geç
+            log.warn("Replica bağlantısı alınamadı, primary'ye düşülüyor: {}", e.getMessage());
+            replicaHealth.markDown();
+            return primary.getConnection();
+        }
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+}
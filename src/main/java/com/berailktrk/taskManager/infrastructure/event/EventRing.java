@@ -0,0 +1,271 @@
+package com.berailktrk.taskManager.infrastructure.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Çok üreticili, kilitsiz, sınırlı halka tampon. Üreticiler sırayı CAS ile alır; her tüketici
+// kendi thread'inde, kendi imleciyle ilerler ve olayları toplu (batch) işler.
+// Halka dolduğunda ne olacağı Backpressure ile belirlenir:
+//   BLOCK       - üretici en yavaş tüketici yer açana kadar (en fazla blockTimeout) bekler, sonra olay düşer
+//   DROP_NEWEST - yeni olay düşürülür
+//   DROP_OLDEST - en eski olayın üzerine yazılır; geride kalan tüketici atlanan olayları 'dropped' olarak sayar
+// Tüm tüketicilerin geçtiği slotlar boşaltılır; işlenmiş olaylar halkada tutulup bellekte kalmaz.
+public class EventRing<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(EventRing.class);
+
+    public enum Backpressure { BLOCK, DROP_NEWEST, DROP_OLDEST }
+
+    // Her yayın yeni bir slot nesnesidir: tüketici sırayı doğrular, boşaltma sadece aynı yayını siler
+    private record Slot<T>(long sequence, T event) {
+    }
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SPIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final String name;
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<Slot<T>> entries;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    // Bu sıraya kadar (dahil) tüm tüketicilerin işlediği slotlar boşaltıldı
+    private final AtomicLong cleared = new AtomicLong(-1);
+    private final Backpressure backpressure;
+    private final long blockTimeoutNanos;
+    private final MeterRegistry meterRegistry;
+    private final Counter publishedCounter;
+    private final Counter rejectedCounter;
+    private final List<Worker> workers = new CopyOnWriteArrayList<>();
+
+    public EventRing(String name, int requestedCapacity, Backpressure backpressure, Duration blockTimeout,
+                     MeterRegistry meterRegistry) {
+        this.name = name;
+        // İndeks hesabı maske ile yapılabilsin diye ikinin kuvvetine yuvarlanır
+        this.capacity = requestedCapacity <= 1 ? 2 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.backpressure = backpressure;
+        this.blockTimeoutNanos = blockTimeout.toNanos();
+        this.meterRegistry = meterRegistry;
+        this.publishedCounter = Counter.builder("taskmanager.events.published")
+            .tag("ring", name)
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("taskmanager.events.dropped")
+            .tag("ring", name)
+            .tag("consumer", "all")
+            .register(meterRegistry);
+    }
+
+    // start()'tan önce çağrılmalıdır
+    public void addConsumer(String consumerName, int maxBatchSize, Consumer<List<T>> handler) {
+        Worker worker = new Worker(consumerName, Math.max(1, maxBatchSize), handler);
+        workers.add(worker);
+        Gauge.builder("taskmanager.events.lag", worker, w -> claimed.get() - w.cursor.get())
+            .tag("ring", name)
+            .tag("consumer", consumerName)
+            .register(meterRegistry);
+    }
+
+    public void start() {
+        for (Worker worker : workers) {
+            worker.thread.start();
+        }
+    }
+
+    // Tüketiciler halkada kalan olayları işleyip durur
+    public void stop() {
+        for (Worker worker : workers) {
+            worker.running = false;
+            LockSupport.unpark(worker.thread);
+        }
+        for (Worker worker : workers) {
+            try {
+                worker.thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // Olay halkaya girdiyse true, backpressure politikası gereği düşürüldüyse false döner
+    public boolean publish(T event) {
+        long deadline = 0;
+
+        while (true) {
+            long current = claimed.get();
+            long next = current + 1;
+
+            if (backpressure != Backpressure.DROP_OLDEST && next - capacity > slowestCursor()) {
+                if (backpressure == Backpressure.DROP_NEWEST) {
+                    rejectedCounter.increment();
+                    return false;
+                }
+
+                long now = System.nanoTime();
+                if (deadline == 0) {
+                    deadline = now + blockTimeoutNanos;
+                } else if (now - deadline > 0) {
+                    rejectedCounter.increment();
+                    return false;
+                }
+                LockSupport.parkNanos(SPIN_PARK_NANOS);
+                continue;
+            }
+
+            if (claimed.compareAndSet(current, next)) {
+                entries.set((int) (next & mask), new Slot<>(next, event));
+                publishedCounter.increment();
+                wakeSleepingWorkers();
+                return true;
+            }
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // Halkada tutulan (henüz tüm tüketicilerce işlenmemiş) olay sayısı
+    int retainedEvents() {
+        int retained = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (entries.get(i) != null) {
+                retained++;
+            }
+        }
+        return retained;
+    }
+
+    // En yavaş tüketicinin geçtiği slotları boşaltır. Aralığı CAS ile alan tüketici boşaltır; slot bu arada
+    // yeni bir yayınla dolduysa (DROP_OLDEST) compareAndSet yeni olaya dokunmaz.
+    private void clearConsumed() {
+        long upTo = slowestCursor();
+        long from = cleared.get();
+        if (from >= upTo || !cleared.compareAndSet(from, upTo)) {
+            return;
+        }
+
+        for (long sequence = Math.max(from + 1, upTo - capacity + 1); sequence <= upTo; sequence++) {
+            int index = (int) (sequence & mask);
+            Slot<T> slot = entries.get(index);
+            if (slot != null && slot.sequence() == sequence) {
+                entries.compareAndSet(index, slot, null);
+            }
+        }
+    }
+
+    private long slowestCursor() {
+        long min = Long.MAX_VALUE;
+        for (Worker worker : workers) {
+            min = Math.min(min, worker.cursor.get());
+        }
+        return min;
+    }
+
+    private void wakeSleepingWorkers() {
+        for (Worker worker : workers) {
+            if (worker.sleeping) {
+                LockSupport.unpark(worker.thread);
+            }
+        }
+    }
+
+    private final class Worker implements Runnable {
+
+        private final String consumerName;
+        private final int maxBatchSize;
+        private final Consumer<List<T>> handler;
+        private final AtomicLong cursor = new AtomicLong(-1);
+        private final Counter droppedCounter;
+        private final Thread thread;
+        private volatile boolean running = true;
+        private volatile boolean sleeping;
+
+        private Worker(String consumerName, int maxBatchSize, Consumer<List<T>> handler) {
+            this.consumerName = consumerName;
+            this.maxBatchSize = maxBatchSize;
+            this.handler = handler;
+            this.droppedCounter = Counter.builder("taskmanager.events.dropped")
+                .tag("ring", name)
+                .tag("consumer", consumerName)
+                .register(meterRegistry);
+            this.thread = new Thread(this, name + "-" + consumerName);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            List<T> batch = new ArrayList<>(maxBatchSize);
+
+            while (true) {
+                long next = cursor.get() + 1;
+                long available = claimed.get();
+
+                if (available < next) {
+                    if (!running) {
+                        return;
+                    }
+                    idle(next);
+                    continue;
+                }
+
+                // DROP_OLDEST: üzerine yazılan olaylar atlanır
+                if (available - next >= capacity) {
+                    long skipTo = available - capacity + 1;
+                    droppedCounter.increment(skipTo - next);
+                    cursor.set(skipTo - 1);
+                    clearConsumed();
+                    continue;
+                }
+
+                long end = Math.min(available, next + maxBatchSize - 1);
+                long sequence = next;
+                for (; sequence <= end; sequence++) {
+                    Slot<T> slot = entries.get((int) (sequence & mask));
+                    if (slot == null || slot.sequence() != sequence) {
+                        break; // henüz yazılıyor veya üzerine yazıldı; bir sonraki turda netleşir
+                    }
+                    batch.add(slot.event());
+                }
+
+                if (batch.isEmpty()) {
+                    LockSupport.parkNanos(SPIN_PARK_NANOS);
+                    continue;
+                }
+
+                try {
+                    handler.accept(batch);
+                } catch (RuntimeException e) {
+                    log.error("'{}' tüketicisi {} olayı işleyemedi: {}", consumerName, batch.size(), e.getMessage(), e);
+                }
+
+                batch.clear();
+                cursor.set(sequence - 1);
+                clearConsumed();
+            }
+        }
+
+        private void idle(long next) {
+            sleeping = true;
+            if (claimed.get() < next && running) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            sleeping = false;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.berailktrk.taskManager.infrastructure.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.berailktrk.taskManager.domain.event.TaskEvent;
+
+// TaskService'in yayınladığı olayları commit'ten sonra halkaya aktarır. Rollback olan
+// transaction'ların olayları hiç yayınlanmaz; yazma isteği tüketicileri beklemez.
+@Component
+public class TaskEventBridge {
+
+    private final EventRing<TaskEvent> taskEventRing;
+
+    public TaskEventBridge(EventRing<TaskEvent> taskEventRing) {
+        this.taskEventRing = taskEventRing;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        taskEventRing.publish(event);
+    }
+}
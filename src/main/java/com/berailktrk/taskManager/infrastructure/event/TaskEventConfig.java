@@ -0,0 +1,31 @@
+package com.berailktrk.taskManager.infrastructure.event;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.berailktrk.taskManager.domain.event.TaskEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class TaskEventConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public EventRing<TaskEvent> taskEventRing(
+        List<TaskEventConsumer> consumers,
+        @Value("${app.events.ring-size:4096}") int ringSize,
+        @Value("${app.events.backpressure:DROP_OLDEST}") EventRing.Backpressure backpressure,
+        @Value("${app.events.block-timeout:50ms}") Duration blockTimeout,
+        MeterRegistry meterRegistry
+    ) {
+        EventRing<TaskEvent> ring = new EventRing<>("task-events", ringSize, backpressure, blockTimeout, meterRegistry);
+        for (TaskEventConsumer consumer : consumers) {
+            ring.addConsumer(consumer.name(), consumer.maxBatchSize(), consumer::onEvents);
+        }
+        return ring;
+    }
+}
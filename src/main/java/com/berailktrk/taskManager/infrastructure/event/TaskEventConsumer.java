@@ -0,0 +1,19 @@
+package com.berailktrk.taskManager.infrastructure.event;
+
+import java.util.List;
+
+import com.berailktrk.taskManager.domain.event.TaskEvent;
+
+// Görev olay halkasının tüketicisi. Her tüketici kendi thread'inde çalışır; olaylar
+// commit sırasıyla ve en fazla maxBatchSize'lık gruplar halinde gelir.
+public interface TaskEventConsumer {
+
+    // Thread adı ve metrik etiketi olarak kullanılır
+    String name();
+
+    void onEvents(List<TaskEvent> events);
+
+    default int maxBatchSize() {
+        return 256;
+    }
+}
@@ -0,0 +1,52 @@
+package com.berailktrk.taskManager.infrastructure.event;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.berailktrk.taskManager.domain.event.TaskCreatedEvent;
+import com.berailktrk.taskManager.domain.event.TaskDeletedEvent;
+import com.berailktrk.taskManager.domain.event.TaskEvent;
+import com.berailktrk.taskManager.domain.event.TaskUpdatedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Görev olaylarını tipine göre sayar (taskmanager.tasks.events); durum değişiklikleri ayrıca hedef duruma göre
+@Component
+public class TaskEventMetricsConsumer implements TaskEventConsumer {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter created;
+    private final Counter updated;
+    private final Counter deleted;
+
+    public TaskEventMetricsConsumer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.created = Counter.builder("taskmanager.tasks.events").tag("type", "created").register(meterRegistry);
+        this.updated = Counter.builder("taskmanager.tasks.events").tag("type", "updated").register(meterRegistry);
+        this.deleted = Counter.builder("taskmanager.tasks.events").tag("type", "deleted").register(meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return "metrics";
+    }
+
+    @Override
+    public void onEvents(List<TaskEvent> events) {
+        for (TaskEvent event : events) {
+            if (event instanceof TaskCreatedEvent) {
+                created.increment();
+            } else if (event instanceof TaskUpdatedEvent updatedEvent) {
+                updated.increment();
+                TaskUpdatedEvent.FieldChange statusChange = updatedEvent.changes().get("status");
+                if (statusChange != null) {
+                    meterRegistry.counter("taskmanager.tasks.status.transitions", "to", statusChange.newValue()).increment();
+                }
+            } else if (event instanceof TaskDeletedEvent) {
+                deleted.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.berailktrk.taskManager.infrastructure.event;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.berailktrk.taskManager.domain.event.TaskCreatedEvent;
+import com.berailktrk.taskManager.domain.event.TaskDeletedEvent;
+import com.berailktrk.taskManager.domain.event.TaskEvent;
+import com.berailktrk.taskManager.domain.event.TaskUpdatedEvent;
+import com.berailktrk.taskManager.domain.model.TaskHistory;
+
+// Görev olaylarını task_history tablosuna yazar (write-behind). Yazma isteği geçmiş kaydını beklemez;
+// halkada biriken olaylar tek transaction'da, çok satırlı INSERT'ler halinde yazılır.
+@Component
+public class TaskHistoryWriter implements TaskEventConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskHistoryWriter.class);
+
+    private static final String INSERT_PREFIX =
+        "INSERT INTO task_history (task_id, seq, action, field, old_value, new_value, changed_by, changed_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 8;
+
+    private static final long[] RETRY_BACKOFF_MS = {200, 1000};
+
+    // args[1] (seq) transaction içinde assignSeqs ile doldurulur
+    private record Row(TaskEvent event, Object[] args) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.history.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.history.rows-per-statement:200}")
+    private int rowsPerStatement;
+
+    public TaskHistoryWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public String name() {
+        return "history";
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void onEvents(List<TaskEvent> events) {
+        List<Row> rows = new ArrayList<>();
+        for (TaskEvent event : events) {
+            addRows(event, rows);
+        }
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    assignSeqs(rows);
+                    insert(rows);
+                });
+                return;
+            } catch (DataAccessException e) {
+                if (attempt >= RETRY_BACKOFF_MS.length) {
+                    log.error("{} görev geçmişi kaydı yazılamadı: {}", rows.size(), e.getMessage(), e);
+                    return;
+                }
+                log.warn("Görev geçmişi yazılamadı, tekrar denenecek: {}", e.getMessage());
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MS[attempt]);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void addRows(TaskEvent event, List<Row> rows) {
+        Timestamp changedAt = Timestamp.valueOf(event.occurredAt());
+
+        if (event instanceof TaskCreatedEvent) {
+            rows.add(row(event, TaskHistory.Action.CREATED, null, null, null, changedAt));
+        } else if (event instanceof TaskUpdatedEvent updatedEvent) {
+            for (Map.Entry<String, TaskUpdatedEvent.FieldChange> change : updatedEvent.changes().entrySet()) {
+                rows.add(row(event, TaskHistory.Action.UPDATED, change.getKey(),
+                    change.getValue().oldValue(), change.getValue().newValue(), changedAt));
+            }
+        } else if (event instanceof TaskDeletedEvent) {
+            rows.add(row(event, TaskHistory.Action.DELETED, null, null, null, changedAt));
+        }
+    }
+
+    private Row row(TaskEvent event, TaskHistory.Action action, String field,
+                    String oldValue, String newValue, Timestamp changedAt) {
+        return new Row(event, new Object[] {
+            event.taskId(), null, action.name(), field, oldValue, newValue, event.actorUserId(), changedAt
+        });
+    }
+
+    // Sürümlü olaylarda seq görevin sürümüdür. Sürümsüz olaylar (koşullu silme, etiket değişikliği, toplu atama)
+    // görevin o ana kadarki en büyük seq'inin bir fazlasını alır; bu değer tablodaki kayıtlar ve batch'te önce gelen
+    // satırlar birlikte hesaba katılarak Java'da verilir. Böylece silme kaydı aynı batch'teki güncellemelerden sonra
+    // sıralanır ve aynı görevin ardışık sürümsüz olayları farklı seq alır. Bir olayın tüm alan satırları aynı seq'i paylaşır.
+    private void assignSeqs(List<Row> rows) {
+        Set<Long> unversionedTaskIds = new LinkedHashSet<>();
+        for (Row row : rows) {
+            if (row.event().version() == null) {
+                unversionedTaskIds.add(row.event().taskId());
+            }
+        }
+        Map<Long, Long> lastSeqs = unversionedTaskIds.isEmpty() ? new HashMap<>() : loadLastSeqs(List.copyOf(unversionedTaskIds));
+
+        Map<TaskEvent, Long> eventSeqs = new IdentityHashMap<>();
+        for (Row row : rows) {
+            row.args()[1] = eventSeqs.computeIfAbsent(row.event(), event -> {
+                long seq = event.version() != null ? event.version() : lastSeqs.getOrDefault(event.taskId(), 0L) + 1;
+                lastSeqs.merge(event.taskId(), seq, Math::max);
+                return seq;
+            });
+        }
+    }
+
+    private Map<Long, Long> loadLastSeqs(List<Long> taskIds) {
+        Map<Long, Long> lastSeqs = new HashMap<>();
+        for (int from = 0; from < taskIds.size(); from += rowsPerStatement) {
+            List<Long> chunk = taskIds.subList(from, Math.min(taskIds.size(), from + rowsPerStatement));
+            String sql = "SELECT task_id, MAX(seq) FROM task_history WHERE task_id IN ("
+                + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ") GROUP BY task_id";
+            jdbcTemplate.query(sql, rs -> {
+                lastSeqs.put(rs.getLong(1), rs.getLong(2));
+            }, chunk.toArray());
+        }
+        return lastSeqs;
+    }
+
+    // Tek statement'taki parametre sayısı sürücü sınırlarının (PostgreSQL: 32767) altında tutulur
+    private void insert(List<Row> rows) {
+        for (int from = 0; from < rows.size(); from += rowsPerStatement) {
+            List<Row> chunk = rows.subList(from, Math.min(rows.size(), from + rowsPerStatement));
+
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+            Object[] args = new Object[chunk.size() * COLUMNS];
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDER);
+                System.arraycopy(chunk.get(i).args(), 0, args, i * COLUMNS, COLUMNS);
+            }
+
+            jdbcTemplate.update(sql.toString(), args);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.berailktrk.taskManager.infrastructure.invalidation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.berailktrk.taskManager.infrastructure.transaction.AfterCommit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Ortak kısım: commit sonrası mesajları biriktirir, aynı anahtarı bir kez gönderir ve periyodik olarak
+// az sayıda mesaja paketler. Bir bölgede çok fazla anahtar birikirse tek tek göndermek yerine bölge flush edilir.
+// Mesaj formatı: ilk satır gönderen instance id'si, sonraki her satır "bölge:anahtar".
+// Paketleme kendi thread'inde çalışır; uzun süren zamanlanmış işler (arşiv, analiz) paylaşılan scheduler'ı
+// meşgul etse de geçersiz kılmalar gecikmez.
+public abstract class AbstractInvalidationBus implements InvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractInvalidationBus.class);
+
+    protected final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    private final Map<String, Set<String>> pending = new ConcurrentHashMap<>();
+    private final Map<String, List<InvalidationListener>> listeners = new ConcurrentHashMap<>();
+
+    private final int maxKeysPerRegion;
+    private final int maxPayloadBytes;
+    private final long flushIntervalMs;
+    private ScheduledExecutorService flusher;
+
+    private final Counter published;
+    private final Counter received;
+    private final Counter flushes;
+
+    protected AbstractInvalidationBus(int maxKeysPerRegion, int maxPayloadBytes, long flushIntervalMs,
+                                      MeterRegistry meterRegistry) {
+        this.maxKeysPerRegion = maxKeysPerRegion;
+        this.maxPayloadBytes = maxPayloadBytes;
+        this.flushIntervalMs = flushIntervalMs;
+        this.published = meterRegistry.counter("taskmanager.invalidation.messages", "direction", "out");
+        this.received = meterRegistry.counter("taskmanager.invalidation.messages", "direction", "in");
+        this.flushes = meterRegistry.counter("taskmanager.invalidation.flushes");
+    }
+
+    @PostConstruct
+    public void startFlushing() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "invalidation-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                // Hata zamanlamayı durdurmasın
+                log.error("Önbellek geçersiz kılma mesajları paketlenemedi: {}", e.getMessage(), e);
+            }
+        }, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // Kapanırken bekleyen mesajlar son bir kez gönderilir
+    @PreDestroy
+    public void stopFlushing() {
+        if (flusher != null) {
+            flusher.shutdown();
+            flush();
+        }
+    }
+
+    @Override
+    public void publish(String region, String key) {
+        AfterCommit.run(() -> enqueue(region, key));
+    }
+
+    @Override
+    public void subscribe(String region, InvalidationListener listener) {
+        listeners.computeIfAbsent(region, r -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    // Ekleme compute içinde yapılır: flush bir bölgenin kümesini haritadan aldıktan sonra o kümeye ekleme olamaz
+    private void enqueue(String region, String key) {
+        pending.compute(region, (r, keys) -> {
+            Set<String> result = keys != null ? keys : new HashSet<>();
+            result.add(key);
+            return result;
+        });
+    }
+
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, Set<String>> batch = new LinkedHashMap<>();
+        for (String region : new ArrayList<>(pending.keySet())) {
+            Set<String> keys = pending.remove(region);
+            if (keys != null) {
+                batch.put(region, keys.size() > maxKeysPerRegion || keys.contains(FLUSH_KEY) ? Set.of(FLUSH_KEY) : keys);
+            }
+        }
+
+        List<String> payloads = encode(batch);
+        try {
+            send(payloads);
+            published.increment(batch.values().stream().mapToInt(Set::size).sum());
+        } catch (RuntimeException e) {
+            // Gönderilemeyenler bir sonraki denemeye kalır
+            log.warn("Önbellek geçersiz kılma mesajları gönderilemedi: {}", e.getMessage());
+            batch.forEach((region, keys) -> keys.forEach(key -> enqueue(region, key)));
+        }
+    }
+
+    private List<String> encode(Map<String, Set<String>> batch) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(nodeId);
+        int bytes = nodeId.length();
+
+        for (Map.Entry<String, Set<String>> entry : batch.entrySet()) {
+            for (String key : entry.getValue()) {
+                String line = "\n" + entry.getKey() + ":" + key;
+                int lineBytes = line.getBytes(StandardCharsets.UTF_8).length;
+                if (bytes + lineBytes > maxPayloadBytes && payload.length() > nodeId.length()) {
+                    payloads.add(payload.toString());
+                    payload = new StringBuilder(nodeId);
+                    bytes = nodeId.length();
+                }
+                payload.append(line);
+                bytes += lineBytes;
+            }
+        }
+        payloads.add(payload.toString());
+        return payloads;
+    }
+
+    // Gelen paketi bölgelere ayırıp dinleyicilere dağıtır
+    protected void receive(String payload) {
+        String[] lines = payload.split("\n");
+        if (lines.length < 2 || (ignoreOwnMessages() && nodeId.equals(lines[0]))) {
+            return;
+        }
+
+        Map<String, Set<String>> byRegion = new LinkedHashMap<>();
+        for (int i = 1; i < lines.length; i++) {
+            int separator = lines[i].indexOf(':');
+            if (separator > 0) {
+                byRegion.computeIfAbsent(lines[i].substring(0, separator), r -> new HashSet<>()).add(lines[i].substring(separator + 1));
+            }
+        }
+
+        byRegion.forEach((region, keys) -> {
+            received.increment(keys.size());
+            for (InvalidationListener listener : listeners.getOrDefault(region, List.of())) {
+                try {
+                    if (keys.contains(FLUSH_KEY)) {
+                        flushes.increment();
+                        listener.onFlush();
+                    } else {
+                        listener.onInvalidate(keys);
+                    }
+                } catch (RuntimeException e) {
+                    log.error("'{}' bölgesi için geçersiz kılma işlenemedi: {}", region, e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    // Mesaj kaçırılmış olabilecek durumlarda (ör. yeniden bağlanma) tüm bölgeler yeniden yüklenir
+    protected void flushAllRegions() {
+        listeners.forEach((region, regionListeners) -> {
+            for (InvalidationListener listener : regionListeners) {
+                try {
+                    flushes.increment();
+                    listener.onFlush();
+                } catch (RuntimeException e) {
+                    log.error("'{}' bölgesi yeniden yüklenemedi: {}", region, e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    // Yazan instance kendi önbelleğini zaten güncellediği için kendi mesajlarını atlar
+    protected boolean ignoreOwnMessages() {
+        return true;
+    }
+
+    protected abstract void send(List<String> payloads);
+}
@@ -0,0 +1,14 @@
+package com.berailktrk.taskManager.infrastructure.invalidation;
+
+// Instance'lar arası önbellek geçersiz kılma. Yazan instance kendi önbelleğini doğrudan günceller,
+// diğer instance'lara sadece "bu bölgede bu anahtar değişti" mesajı gider.
+public interface InvalidationBus {
+
+    // Bölgenin tamamının yeniden yüklenmesi gerektiğini bildiren anahtar
+    String FLUSH_KEY = "*";
+
+    // Transaction içinden çağrılırsa mesaj commit sonrası gönderilir (rollback olursa hiç gönderilmez)
+    void publish(String region, String key);
+
+    void subscribe(String region, InvalidationListener listener);
+}
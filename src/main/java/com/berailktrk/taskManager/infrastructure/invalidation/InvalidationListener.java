@@ -0,0 +1,13 @@
+package com.berailktrk.taskManager.infrastructure.invalidation;
+
+import java.util.Set;
+
+// Bir bölgenin (ör. "user") önbelleğini tutan bileşen. Çağrılar bus'ın kendi thread'inden gelir.
+public interface InvalidationListener {
+
+    // Bu anahtarlar başka bir instance'ta değişti
+    void onInvalidate(Set<String> keys);
+
+    // Mesaj kaçırılmış olabilir (bağlantı koptu, toplu değişiklik); bölgenin tamamı yeniden yüklenmeli
+    void onFlush();
+}
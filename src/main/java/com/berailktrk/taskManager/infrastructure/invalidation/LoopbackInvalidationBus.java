@@ -0,0 +1,35 @@
+package com.berailktrk.taskManager.infrastructure.invalidation;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Tek JVM içi bus (testler ve tek instance'lı kurulumlar). Gönderilen paketler aynı instance'taki dinleyicilere
+// geri verilir; kendi mesajları da işlendiği için yayınlama -> dinleme yolu veritabanı olmadan denenebilir.
+@Component
+@ConditionalOnProperty(name = "app.invalidation.transport", havingValue = "loopback")
+public class LoopbackInvalidationBus extends AbstractInvalidationBus {
+
+    public LoopbackInvalidationBus(
+        @Value("${app.invalidation.max-keys-per-region:500}") int maxKeysPerRegion,
+        @Value("${app.invalidation.max-payload-bytes:7900}") int maxPayloadBytes,
+        @Value("${app.invalidation.flush-interval-ms:100}") long flushIntervalMs,
+        MeterRegistry meterRegistry
+    ) {
+        super(maxKeysPerRegion, maxPayloadBytes, flushIntervalMs, meterRegistry);
+    }
+
+    @Override
+    protected void send(List<String> payloads) {
+        payloads.forEach(this::receive);
+    }
+
+    @Override
+    protected boolean ignoreOwnMessages() {
+        return false;
+    }
+}
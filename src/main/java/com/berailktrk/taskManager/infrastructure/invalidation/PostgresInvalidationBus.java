@@ -0,0 +1,156 @@
+package com.berailktrk.taskManager.infrastructure.invalidation;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+// PostgreSQL LISTEN/NOTIFY üzerinden bus. Paketler pg_notify ile gönderilir (NOTIFY commit'te teslim edildiği için
+// kısa bir transaction içinde). Dinleme, havuzdan bir bağlantıyı sürekli meşgul etmemek için ayrı bir JDBC
+// bağlantısıyla yapılır. Bağlantı koparsa artan beklemelerle yeniden bağlanılır; aradaki mesajlar kaçırılmış
+// olabileceğinden her bağlantı kurulduğunda tüm bölgeler yeniden yüklenir.
+@Component
+@ConditionalOnProperty(name = "app.invalidation.transport", havingValue = "postgres", matchIfMissing = true)
+public class PostgresInvalidationBus extends AbstractInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresInvalidationBus.class);
+
+    private static final long MAX_RECONNECT_DELAY_MS = 30_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final String channel;
+    private final int pollTimeoutMs;
+    private final long reconnectDelayMs;
+    private final Counter reconnects;
+
+    private volatile boolean running;
+    private volatile boolean supported = true;
+    private volatile Thread listener;
+
+    public PostgresInvalidationBus(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        DataSourceProperties dataSourceProperties,
+        @Value("${app.invalidation.channel:taskmanager_invalidation}") String channel,
+        @Value("${app.invalidation.poll-timeout-ms:10000}") int pollTimeoutMs,
+        @Value("${app.invalidation.reconnect-delay-ms:1000}") long reconnectDelayMs,
+        @Value("${app.invalidation.max-keys-per-region:500}") int maxKeysPerRegion,
+        @Value("${app.invalidation.max-payload-bytes:7900}") int maxPayloadBytes,
+        @Value("${app.invalidation.flush-interval-ms:100}") long flushIntervalMs,
+        MeterRegistry meterRegistry
+    ) {
+        super(maxKeysPerRegion, maxPayloadBytes, flushIntervalMs, meterRegistry);
+        // LISTEN komutunda parametre kullanılamaz, kanal adı SQL'e doğrudan yazılır
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Geçersiz kanal adı: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dataSourceProperties = dataSourceProperties;
+        this.channel = channel;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+        this.reconnects = meterRegistry.counter("taskmanager.invalidation.reconnects");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        String url = dataSourceProperties.determineUrl();
+        if (url == null || !url.startsWith("jdbc:postgresql:")) {
+            supported = false;
+            log.warn("Veritabanı PostgreSQL değil, önbellek geçersiz kılma mesajları diğer instance'lara gönderilmeyecek");
+            return;
+        }
+
+        running = true;
+        listener = new Thread(this::listenLoop, "invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    protected void send(List<String> payloads) {
+        if (!supported) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String payload : payloads) {
+                jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, payload);
+            }
+        });
+    }
+
+    private void listenLoop() {
+        long delay = reconnectDelayMs;
+
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                log.info("'{}' kanalı dinleniyor (instance {})", channel, nodeId);
+                delay = reconnectDelayMs;
+                flushAllRegions();
+
+                while (running) {
+                    // Zaman aşımında boş döner; bağlantı koptuysa SQLException fırlatır
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null && notifications.length > 0) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    } else if (!connection.isValid(5)) {
+                        // Sessizce kopan bağlantılar (ağ kesintisi) bekleme sırasında fark edilmez
+                        throw new SQLException("Dinleme bağlantısı geçersiz");
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                reconnects.increment();
+                log.warn("'{}' kanalı dinlenemiyor, {} ms sonra tekrar denenecek: {}", channel, delay, e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                delay = Math.min(delay * 2, MAX_RECONNECT_DELAY_MS);
+            }
+        }
+    }
+}
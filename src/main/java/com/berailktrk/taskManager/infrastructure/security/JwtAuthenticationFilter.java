@@ -12,6 +12,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,16 +23,24 @@ import jakarta.servlet.http.HttpServletResponse;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
+    private final ObservationRegistry observationRegistry;
 
-    public JwtAuthenticationFilter(JwtProvider jwtProvider) {
+    public JwtAuthenticationFilter(JwtProvider jwtProvider, ObservationRegistry observationRegistry) {
         this.jwtProvider = jwtProvider;
+        this.observationRegistry = observationRegistry;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         
-        try {
+        // Token doğrulama süresi ayrı bir span olarak görünsün
+        Observation observation = Observation.createNotStarted("taskmanager.filter", observationRegistry)
+            .contextualName("JwtAuthenticationFilter")
+            .lowCardinalityKeyValue("layer", "filter")
+            .start();
+
+        try (Observation.Scope scope = observation.openScope()) {
             String jwt = getJwtFromRequest(request);
 
             if (StringUtils.hasText(jwt) && jwtProvider.validateToken(jwt)) {
@@ -46,7 +56,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         } catch (Exception ex) {
+            observation.error(ex);
             logger.error("JWT token doğrulanamadı", ex);
+        } finally {
+            observation.stop();
         }
 
         filterChain.doFilter(request, response);
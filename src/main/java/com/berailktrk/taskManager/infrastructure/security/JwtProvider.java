@@ -1,6 +1,7 @@
 package com.berailktrk.taskManager.infrastructure.security;
 
 import java.util.Date;
+import java.util.UUID;
 import java.nio.charset.StandardCharsets;
 
 import javax.crypto.SecretKey;
@@ -17,22 +18,35 @@ import io.jsonwebtoken.security.Keys;
 @Component
 public class JwtProvider {
     
+    private static final String ISSUED_AT_MS_CLAIM = "iatMs";
+    
     @Value("${jwt.secret}")
     private String jwtSecret;
     
+    // Erişim token'ı kısa ömürlüdür; oturum refresh token ile uzatılır
     @Value("${jwt.expiration}")
     private long jwtExpirationMs;
+
+    private final TokenRevocationIndex revocationIndex;
+
+    public JwtProvider(TokenRevocationIndex revocationIndex) {
+        this.revocationIndex = revocationIndex;
+    }
     
     private SecretKey getSecretKey() {
         return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
     }
 
     public String generateToken(Long userId, String role) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .claim("id", userId)
                 .claim("role", role)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
+                // Standart 'iat' saniye hassasiyetindedir; iptal kontrolü milisaniyelik üretim zamanını kullanır
+                .claim(ISSUED_AT_MS_CLAIM, now)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + jwtExpirationMs))
                 .signWith(getSecretKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
@@ -55,12 +69,40 @@ public class JwtProvider {
         return claims.get("role", String.class);
     }
 
+    public String getTokenIdFromToken(String token) {
+        return parseClaims(token).getId();
+    }
+
+    public Date getExpirationFromToken(String token) {
+        return parseClaims(token).getExpiration();
+    }
+
+    public long getExpirationMs() {
+        return jwtExpirationMs;
+    }
+
+    // İmza ve süre kontrolünün yanında iptal listesine de bakılır (sadece bellek, veritabanına gidilmez)
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSecretKey()).build().parseClaimsJws(token);
-            return true;
+            Claims claims = parseClaims(token);
+            Integer userId = claims.get("id", Integer.class);
+            if (claims.getIssuedAt() == null || userId == null) {
+                return false;
+            }
+            // iatMs'siz eski token'larda 'iat' saniyenin başına yuvarlıdır; o saniyedeki iptal bu token'ı da kapsar
+            long issuedAtMs = claims.get(ISSUED_AT_MS_CLAIM) instanceof Number issuedAt
+                ? issuedAt.longValue() : claims.getIssuedAt().getTime();
+            return !revocationIndex.isRevoked(claims.getId(), userId.longValue(), issuedAtMs);
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
+
+    private Claims parseClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(getSecretKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
 }
@@ -0,0 +1,127 @@
+package com.berailktrk.taskManager.infrastructure.security;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.berailktrk.taskManager.domain.model.TokenRevocation;
+import com.berailktrk.taskManager.domain.repository.TokenRevocationRepository;
+import com.berailktrk.taskManager.infrastructure.invalidation.InvalidationBus;
+import com.berailktrk.taskManager.infrastructure.invalidation.InvalidationListener;
+
+import jakarta.annotation.PostConstruct;
+
+// İptal edilen erişim token'larının bellekteki kopyası. Her istekte JwtProvider.validateToken buraya bakar,
+// veritabanına gitmez. İki tür kayıt vardır:
+//  - jti -> token'ın bitiş zamanı (tek token iptali, ör. çıkış)
+//  - kullanıcı id -> notBefore (bu milisaniyede veya daha önce üretilmiş tüm token'lar geçersiz, ör. şifre değişikliği)
+// Token bitişi epoch saniyesi, notBefore epoch milisaniyesi olarak tutulur: saniye hassasiyetinde, iptalden hemen
+// sonra aynı saniye içinde alınan yeni token da geçersiz sayılırdı. Kapsadığı token'ların süresi dolan kayıtlar
+// periyodik olarak atılır. Başka instance'larda yapılan iptaller InvalidationBus ile gelir; anahtar iptalin kendisini
+// taşıdığı için veritabanı okunmaz ("t:<jti>:<bitiş sn>" veya "n:<kullanıcı id>:<notBefore ms>").
+@Component
+public class TokenRevocationIndex implements InvalidationListener {
+
+    public static final String INVALIDATION_REGION = "token-revocation";
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationIndex.class);
+
+    private final TokenRevocationRepository revocationRepository;
+    private final long accessTokenTtlMs;
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<Long, Long> userNotBefore = new ConcurrentHashMap<>();
+
+    public TokenRevocationIndex(TokenRevocationRepository revocationRepository, InvalidationBus invalidationBus,
+                                @Value("${jwt.expiration}") long accessTokenTtlMs) {
+        this.revocationRepository = revocationRepository;
+        this.accessTokenTtlMs = accessTokenTtlMs;
+        invalidationBus.subscribe(INVALIDATION_REGION, this);
+    }
+
+    // İstek kabul edilmeden önce yüklenmeli; bu yüzden ApplicationReadyEvent değil bean oluşturulurken
+    @PostConstruct
+    public void load() {
+        for (TokenRevocation revocation : revocationRepository.findByExpiresAtAfter(LocalDateTime.now())) {
+            if (revocation.getJti() != null) {
+                revokeToken(revocation.getJti(), toEpochSecond(revocation.getExpiresAt()));
+            } else if (revocation.getUserId() != null) {
+                revokeUser(revocation.getUserId(), toEpochMilli(revocation.getNotBefore()));
+            }
+        }
+        log.info("Token iptal listesi yüklendi ({} token, {} kullanıcı)", revokedTokens.size(), userNotBefore.size());
+    }
+
+    public void revokeToken(String jti, long expiresAtEpochSecond) {
+        revokedTokens.put(jti, expiresAtEpochSecond);
+    }
+
+    public void revokeUser(Long userId, long notBeforeEpochMilli) {
+        userNotBefore.merge(userId, notBeforeEpochMilli, Math::max);
+    }
+
+    public boolean isRevoked(String jti, Long userId, long issuedAtEpochMilli) {
+        if (jti != null && revokedTokens.containsKey(jti)) {
+            return true;
+        }
+        Long notBefore = userNotBefore.get(userId);
+        return notBefore != null && issuedAtEpochMilli <= notBefore;
+    }
+
+    public static String tokenKey(String jti, long expiresAtEpochSecond) {
+        return "t:" + jti + ":" + expiresAtEpochSecond;
+    }
+
+    public static String userKey(Long userId, long notBeforeEpochMilli) {
+        return "n:" + userId + ":" + notBeforeEpochMilli;
+    }
+
+    @Override
+    public void onInvalidate(Set<String> keys) {
+        for (String key : keys) {
+            String[] parts = key.split(":");
+            if (parts.length != 3) {
+                continue;
+            }
+            if (parts[0].equals("t")) {
+                revokeToken(parts[1], Long.parseLong(parts[2]));
+            } else if (parts[0].equals("n")) {
+                revokeUser(Long.valueOf(parts[1]), Long.parseLong(parts[2]));
+            } else if (parts[0].equals("u")) {
+                // Eski sürümdeki instance'lardan gelen saniye hassasiyetli anahtar: o saniyenin tamamı kapsanır
+                revokeUser(Long.valueOf(parts[1]), Long.parseLong(parts[2]) * 1000 + 999);
+            }
+        }
+    }
+
+    // Kaçırılmış olabilecek iptaller veritabanından tekrar yüklenir (iptaller sadece eklenir, silinen olmaz)
+    @Override
+    public void onFlush() {
+        load();
+    }
+
+    @Scheduled(fixedDelayString = "${app.token-revocation.evict-interval-ms:60000}")
+    public void evictExpired() {
+        long nowMs = System.currentTimeMillis();
+        long now = nowMs / 1000;
+        revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+        // notBefore'dan önce üretilen son token da en geç notBefore + erişim token süresi kadar geçerlidir
+        userNotBefore.values().removeIf(notBefore -> notBefore + accessTokenTtlMs < nowMs);
+    }
+
+    public static long toEpochSecond(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    public static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,148 @@
+package com.berailktrk.taskManager.infrastructure.tracing;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+// Harici bir collector olmadan trace incelemek için süreç içi exporter.
+// Son N span bellekte tutulur (/actuator/traces), dosya yolu verilirse
+// her span ayrıca JSON satırı olarak dosyaya eklenir.
+public class LocalSpanExporter implements SpanExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalSpanExporter.class);
+
+    private final int bufferSize;
+    private final Path exportFile;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ArrayDeque<TraceSpan> buffer;
+
+    public LocalSpanExporter(int bufferSize, String exportFile) {
+        this.bufferSize = bufferSize;
+        this.buffer = new ArrayDeque<>(bufferSize);
+        this.exportFile = (exportFile == null || exportFile.isBlank()) ? null : Path.of(exportFile);
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        List<TraceSpan> converted = new ArrayList<>(spans.size());
+        for (SpanData span : spans) {
+            converted.add(TraceSpan.from(span));
+        }
+
+        synchronized (buffer) {
+            for (TraceSpan span : converted) {
+                if (buffer.size() == bufferSize) {
+                    buffer.pollFirst();
+                }
+                buffer.addLast(span);
+            }
+        }
+
+        if (exportFile != null) {
+            return appendToFile(converted);
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    // Bellekteki span'leri trace id bazında gruplayarak döner (en yeni trace en başta)
+    public Map<String, List<TraceSpan>> recentTraces(int limit) {
+        List<TraceSpan> snapshot;
+        synchronized (buffer) {
+            snapshot = new ArrayList<>(buffer);
+        }
+
+        Map<String, List<TraceSpan>> traces = new LinkedHashMap<>();
+        for (int i = snapshot.size() - 1; i >= 0; i--) {
+            TraceSpan span = snapshot.get(i);
+            if (!traces.containsKey(span.traceId()) && traces.size() >= limit) {
+                continue;
+            }
+            traces.computeIfAbsent(span.traceId(), k -> new ArrayList<>()).add(span);
+        }
+        traces.values().forEach(list -> list.sort((a, b) -> Long.compare(a.startEpochNanos(), b.startEpochNanos())));
+        return traces;
+    }
+
+    public List<TraceSpan> trace(String traceId) {
+        List<TraceSpan> result = new ArrayList<>();
+        synchronized (buffer) {
+            for (TraceSpan span : buffer) {
+                if (span.traceId().equals(traceId)) {
+                    result.add(span);
+                }
+            }
+        }
+        result.sort((a, b) -> Long.compare(a.startEpochNanos(), b.startEpochNanos()));
+        return result;
+    }
+
+    private synchronized CompletableResultCode appendToFile(List<TraceSpan> spans) {
+        try (Writer writer = Files.newBufferedWriter(exportFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (TraceSpan span : spans) {
+                writer.write(objectMapper.writeValueAsString(span));
+                writer.write('\n');
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Trace dosyasına yazılamadı: {}", exportFile, e);
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    public record TraceSpan(
+        String traceId,
+        String spanId,
+        String parentSpanId,
+        String name,
+        String kind,
+        long startEpochNanos,
+        long durationMicros,
+        String status,
+        Map<String, String> attributes
+    ) {
+        static TraceSpan from(SpanData span) {
+            Map<String, String> attributes = new LinkedHashMap<>();
+            span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+            return new TraceSpan(
+                span.getTraceId(),
+                span.getSpanId(),
+                span.getParentSpanContext().isValid() ? span.getParentSpanId() : null,
+                span.getName(),
+                span.getKind().name(),
+                span.getStartEpochNanos(),
+                (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000,
+                span.getStatus().getStatusCode().name(),
+                attributes
+            );
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.berailktrk.taskManager.infrastructure.tracing;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+// /actuator/traces: bellekteki son trace'leri, /actuator/traces/{traceId}: tek bir trace'in span'lerini döner
+@Component
+@Endpoint(id = "traces")
+public class TracesEndpoint {
+
+    private final LocalSpanExporter localSpanExporter;
+
+    public TracesEndpoint(LocalSpanExporter localSpanExporter) {
+        this.localSpanExporter = localSpanExporter;
+    }
+
+    @ReadOperation
+    public Map<String, List<LocalSpanExporter.TraceSpan>> traces(@Nullable Integer limit) {
+        return localSpanExporter.recentTraces(limit != null ? limit : 20);
+    }
+
+    @ReadOperation
+    public List<LocalSpanExporter.TraceSpan> trace(@Selector String traceId) {
+        return localSpanExporter.trace(traceId);
+    }
+}
@@ -0,0 +1,65 @@
+package com.berailktrk.taskManager.infrastructure.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+// Controller -> service -> repository çağrılarını ayrı span'ler olarak işaretler.
+// HTTP isteğinin kök span'i Spring Boot'un ServerHttpObservationFilter'ından gelir.
+@Aspect
+public class TracingAspect {
+
+    private final ObservationRegistry observationRegistry;
+
+    public TracingAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("within(com.berailktrk.taskManager.presentation.controller..*)")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("controller", joinPoint);
+    }
+
+    @Around("within(com.berailktrk.taskManager.application..*)")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("service", joinPoint);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("repository", joinPoint);
+    }
+
+    private Object observe(String layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String className = signature.getDeclaringType().getSimpleName();
+        if (layer.equals("repository")) {
+            // Spring Data proxy'lerinde asıl arayüz adını kullan (TaskRepository gibi)
+            Class<?>[] interfaces = joinPoint.getThis() != null ? joinPoint.getThis().getClass().getInterfaces() : new Class<?>[0];
+            if (interfaces.length > 0) {
+                className = interfaces[0].getSimpleName();
+            }
+        }
+        String methodName = signature.getName();
+
+        Observation observation = Observation.createNotStarted("taskmanager." + layer, observationRegistry)
+            .contextualName(className + "." + methodName)
+            .lowCardinalityKeyValue("layer", layer)
+            .lowCardinalityKeyValue("class", className)
+            .lowCardinalityKeyValue("method", methodName)
+            .start();
+
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            observation.error(ex);
+            throw ex;
+        } finally {
+            observation.stop();
+        }
+    }
+}
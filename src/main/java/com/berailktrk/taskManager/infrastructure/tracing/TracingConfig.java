@@ -0,0 +1,49 @@
+package com.berailktrk.taskManager.infrastructure.tracing;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.observation.ObservationRegistry;
+
+// Tracing yapılandırması. Örnekleme oranı management.tracing.sampling.probability ile ayarlanır;
+// Spring Boot, bu sınıftaki SpanExporter bean'ini otomatik olarak BatchSpanProcessor'a bağlar.
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public LocalSpanExporter localSpanExporter(
+        @Value("${app.tracing.local-exporter.buffer-size:2000}") int bufferSize,
+        @Value("${app.tracing.local-exporter.file:}") String exportFile
+    ) {
+        return new LocalSpanExporter(bufferSize, exportFile);
+    }
+
+    @Bean
+    public TracingAspect tracingAspect(ObservationRegistry observationRegistry) {
+        return new TracingAspect(observationRegistry);
+    }
+
+    // Uygulamanın ana DataSource'unu JDBC span'leri üretecek şekilde sarar
+    @Bean
+    public static BeanPostProcessor tracingDataSourcePostProcessor(
+        ObjectProvider<ObservationRegistry> observationRegistry,
+        @Value("${app.tracing.jdbc.enabled:true}") boolean jdbcTracingEnabled
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (jdbcTracingEnabled && bean instanceof DataSource dataSource
+                        && beanName.equals("dataSource") && !(bean instanceof TracingDataSource)) {
+                    return new TracingDataSource(dataSource, observationRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
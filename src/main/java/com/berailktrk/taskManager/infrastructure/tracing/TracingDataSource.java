@@ -0,0 +1,145 @@
+package com.berailktrk.taskManager.infrastructure.tracing;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+// JDBC statement'larını span olarak kaydeden DataSource sarmalayıcısı.
+// SQL metni literal'lerden arındırılarak (sanitize) span'e eklenir; parametre değerleri asla yazılmaz.
+// Sadece aktif bir observation (HTTP isteği, job vb.) varken span açılır, böylece başlangıç DDL'i iz bırakmaz.
+public class TracingDataSource extends DelegatingDataSource {
+
+    private static final int MAX_SQL_LENGTH = 2000;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ObservationRegistry observationRegistry;
+
+    public TracingDataSource(DataSource targetDataSource, ObservationRegistry observationRegistry) {
+        super(targetDataSource);
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    // Literal'leri '?' ile değiştirir, IN listelerini tek bir yer tutucuya indirger
+    static String sanitize(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        String sanitized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        sanitized = NUMERIC_LITERAL.matcher(sanitized).replaceAll("?");
+        sanitized = IN_LIST.matcher(sanitized).replaceAll("(?...)");
+        sanitized = WHITESPACE.matcher(sanitized).replaceAll(" ").trim();
+        return sanitized.length() > MAX_SQL_LENGTH ? sanitized.substring(0, MAX_SQL_LENGTH) + "..." : sanitized;
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            TracingDataSource.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            new ConnectionHandler(connection)
+        );
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("unwrap") || method.getName().equals("isWrapperFor")) {
+                return invokeTarget(target, method, args);
+            }
+
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof PreparedStatement statement && args != null && args.length > 0 && args[0] instanceof String sql) {
+                return wrapStatement(statement, PreparedStatement.class, sql);
+            }
+            if (result instanceof Statement statement && !(result instanceof PreparedStatement)) {
+                return wrapStatement(statement, Statement.class, null);
+            }
+            return result;
+        }
+    }
+
+    private Object wrapStatement(Statement statement, Class<? extends Statement> type, String preparedSql) {
+        Class<?> proxyType = statement instanceof java.sql.CallableStatement ? java.sql.CallableStatement.class : type;
+        return Proxy.newProxyInstance(
+            TracingDataSource.class.getClassLoader(),
+            new Class<?>[] { proxyType },
+            new StatementHandler(statement, preparedSql)
+        );
+    }
+
+    private class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute") || observationRegistry.getCurrentObservation() == null) {
+                return invokeTarget(target, method, args);
+            }
+
+            String sql = preparedSql;
+            if (sql == null && args != null && args.length > 0 && args[0] instanceof String rawSql) {
+                sql = rawSql;
+            }
+
+            Observation observation = Observation.createNotStarted("taskmanager.jdbc", observationRegistry)
+                .contextualName("jdbc." + method.getName())
+                .lowCardinalityKeyValue("db.operation", method.getName())
+                .highCardinalityKeyValue("db.statement", String.valueOf(sanitize(sql)))
+                .start();
+
+            try (Observation.Scope scope = observation.openScope()) {
+                return invokeTarget(target, method, args);
+            } catch (Throwable ex) {
+                observation.error(ex);
+                throw ex;
+            } finally {
+                observation.stop();
+            }
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.berailktrk.taskManager.infrastructure.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Bellekteki kopyaları (index'ler, kuyruklar, mesajlar) veritabanıyla tutarlı tutmak için: transaction içinden
+// çağrılırsa işlem commit sonrası çalışır, rollback olursa hiç çalışmaz; transaction yoksa hemen çalışır.
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
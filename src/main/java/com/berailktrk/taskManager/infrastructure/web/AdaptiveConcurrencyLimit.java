@@ -0,0 +1,97 @@
+package com.berailktrk.taskManager.infrastructure.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Gradyan tabanlı uyarlanabilir eşzamanlılık limiti. Kısa pencerenin ortalama gecikmesi uzun vadeli
+// (yüksüz) gecikmeyle karşılaştırılır: gecikme artıyorsa kuyruk oluşuyordur ve limit orantılı olarak küçülür,
+// gecikme tabandaysa limit sqrt(limit) kadar kuyruk payıyla büyür.
+// Giriş (tryAcquire) kilitsizdir; sadece pencere kapanırken limit hesaplanırken kısa bir kilit alınır.
+public class AdaptiveConcurrencyLimit {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int windowSamples;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // Aşağıdaki alanlar 'this' kilidiyle korunur
+    private long windowRttSum;
+    private int windowCount;
+    private int windowMaxInFlight;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, int windowSamples) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowSamples = windowSamples;
+    }
+
+    // share: limitin bu isteğe açık oranı (0-1]
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // inFlightAtStart: istek kabul edildiği andaki eşzamanlı istek sayısı
+    public void release(long rttNanos, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+        onSample(rttNanos, inFlightAtStart);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart) {
+        windowRttSum += rttNanos;
+        windowCount++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtStart);
+
+        if (windowCount < windowSamples) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowCount;
+        int maxInFlight = windowMaxInFlight;
+        windowRttSum = 0;
+        windowCount = 0;
+        windowMaxInFlight = 0;
+
+        longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) / LONG_WINDOW;
+
+        // Uzun süre yüksek kalan gecikme tabana dönüştüyse (örn. kalıcı yük değişimi) taban hızla toparlansın
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // Trafik limitin yarısını bile kullanmıyorsa ölçüm limit hakkında bilgi vermez
+        if (maxInFlight < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double queueSize = Math.sqrt(limit);
+        double newLimit = limit * gradient + queueSize;
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+
+        limit = (int) Math.max(minLimit, Math.min(maxLimit, Math.round(newLimit)));
+    }
+}
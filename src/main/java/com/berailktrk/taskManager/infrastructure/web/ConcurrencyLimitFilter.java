@@ -0,0 +1,106 @@
+package com.berailktrk.taskManager.infrastructure.web;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// /api/** için uyarlanabilir eşzamanlılık limiti. Limit dolunca istekler Tomcat kuyruğunda beklemek yerine
+// hemen 503 ile reddedilir. Her endpoint sınıfı limitin sadece kendi payını (EndpointClass.concurrencyShare)
+// kullanabilir; böylece yük altında önce arama/toplu listeler, en son giriş ve okumalar reddedilir.
+@Component
+@Order(FilterOrder.CONCURRENCY_LIMIT)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimit limit;
+    private final Map<EndpointClass, Counter> shed = new EnumMap<>(EndpointClass.class);
+
+    public ConcurrencyLimitFilter(
+        @Value("${app.concurrency-limit.enabled:true}") boolean enabled,
+        @Value("${app.concurrency-limit.initial:50}") int initialLimit,
+        @Value("${app.concurrency-limit.min:10}") int minLimit,
+        @Value("${app.concurrency-limit.max:200}") int maxLimit,
+        @Value("${app.concurrency-limit.window-samples:50}") int windowSamples,
+        MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, windowSamples);
+
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            shed.put(endpointClass, Counter.builder("taskmanager.concurrency.shed")
+                .tag("class", endpointClass.key())
+                .register(meterRegistry));
+        }
+
+        Gauge.builder("taskmanager.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+            .register(meterRegistry);
+        Gauge.builder("taskmanager.concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInFlight)
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+            || !request.getRequestURI().startsWith(request.getContextPath() + "/api/")
+            || HttpMethod.OPTIONS.matches(request.getMethod())
+            || EndpointClass.isBatch(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Permit permit = tryAcquire(EndpointClass.of(request));
+        if (permit == null) {
+            response.setHeader("Retry-After", "1");
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("Service Unavailable: Sunucu şu anda yoğun, lütfen tekrar deneyin");
+            return;
+        }
+
+        try (permit) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    // Limitten sınıfın payıyla yer alır; yer yoksa null döner. Filtreden geçmeyen alt istekler (/api/batch) de
+    // bunu kullanır. İzin iş bitince kapatılmalıdır; kapatılırken geçen süre limit hesabına örnek olarak girer.
+    public Permit tryAcquire(EndpointClass endpointClass) {
+        if (!enabled) {
+            return Permit.NONE;
+        }
+
+        if (!limit.tryAcquire(endpointClass.getConcurrencyShare())) {
+            shed.get(endpointClass).increment();
+            return null;
+        }
+
+        int inFlightAtStart = limit.getInFlight();
+        long start = System.nanoTime();
+        return () -> limit.release(System.nanoTime() - start, inFlightAtStart);
+    }
+
+    public interface Permit extends AutoCloseable {
+
+        Permit NONE = () -> { };
+
+        @Override
+        void close();
+    }
+}
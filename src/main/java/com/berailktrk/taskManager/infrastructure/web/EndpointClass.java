@@ -0,0 +1,63 @@
+package com.berailktrk.taskManager.infrastructure.web;
+
+import java.util.Locale;
+
+import org.springframework.http.HttpMethod;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// API isteklerinin maliyet sınıfları. Hız limiti bütçeleri ve yük atma önceliği bu sınıflara göre belirlenir.
+public enum EndpointClass {
+    AUTH(1.0),    // giriş / kayıt
+    READ(1.0),    // tekil ve sayfalı okumalar
+    WRITE(0.9),   // oluşturma, güncelleme, silme
+    SEARCH(0.6),  // filtreli arama ve metin araması
+    EXPORT(0.4);  // sayfasız toplu listeler (tüm görevler, tüm kullanıcılar)
+
+    // Eşzamanlılık limitinin bu sınıfa açık kısmı: yük arttığında önce pahalı sınıflar reddedilir
+    private final double concurrencyShare;
+
+    EndpointClass(double concurrencyShare) {
+        this.concurrencyShare = concurrencyShare;
+    }
+
+    public double getConcurrencyShare() {
+        return concurrencyShare;
+    }
+
+    // Toplu okuma zarfı: filtreler zarfı limitten düşmez, içindeki her alt istek BatchController'da kendi sınıfından düşülür.
+    // Zarf da düşülseydi batch iki kez ödenir, eşzamanlılık limiti düşükken kendi alt isteklerinin yerini tutardı.
+    public static boolean isBatch(HttpServletRequest request) {
+        return request.getRequestURI().equals(request.getContextPath() + "/api/batch");
+    }
+
+    public static EndpointClass of(HttpServletRequest request) {
+        return of(request.getMethod(), request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    // /api/batch alt istekleri de bu sınıflandırmayla kendi bütçelerinden düşülür
+    public static EndpointClass of(String method, String path) {
+        if (path.equals("/api/auth/login") || path.equals("/api/auth/register")) {
+            return AUTH;
+        }
+
+        if (!HttpMethod.GET.matches(method)) {
+            return WRITE;
+        }
+
+        if (path.equals("/api/tasks/search") || path.equals("/api/tasks/quick-search")) {
+            return SEARCH;
+        }
+
+        if (path.equals("/api/tasks") || path.equals("/api/auth/users")) {
+            return EXPORT;
+        }
+
+        return READ;
+    }
+
+    // Özellik adlarında kullanılan küçük harfli ad (örn. app.rate-limit.search)
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,15 @@
+package com.berailktrk.taskManager.infrastructure.web;
+
+import org.springframework.core.Ordered;
+
+// Uygulama servlet filter'larının sırası. Spring Security zincirinden (-100) sonra çalışırlar;
+// hız limiti ve yük atma kararları zincirdeki JWT filter'ının çözdüğü kullanıcıya göre verilir.
+public final class FilterOrder {
+
+    public static final int RATE_LIMIT = Ordered.LOWEST_PRECEDENCE - 200;
+    // Hız limitine takılan istekler eşzamanlılık kotası harcamasın
+    public static final int CONCURRENCY_LIMIT = Ordered.LOWEST_PRECEDENCE - 100;
+
+    private FilterOrder() {
+    }
+}
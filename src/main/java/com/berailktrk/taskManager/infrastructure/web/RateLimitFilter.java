@@ -0,0 +1,181 @@
+package com.berailktrk.taskManager.infrastructure.web;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// /api/** istekleri için kullanıcı (token yoksa IP) ve endpoint sınıfı başına hız limiti.
+// Bütçeler app.rate-limit.<sınıf>=<istek>/<süre> ile verilir (örn. search=30/1m). Giriş/kayıt her zaman IP'ye göre sınırlanır.
+// Kovalar sınırlı sayıda şeride bölünmüş LRU haritalarda tutulur; en uzun süre kullanılmayan kova atılır
+// (atılan kova dolu kabul edilir, yani limit sadece gevşer).
+// IP, server.forward-headers-strategy ile proxy arkasında güvenilen X-Forwarded-For'dan çözülmüş istemci adresidir.
+@Component
+@Order(FilterOrder.RATE_LIMIT)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int STRIPES = 16;
+
+    private final boolean enabled;
+    private final Map<EndpointClass, Budget> budgets = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejected = new EnumMap<>(EndpointClass.class);
+    private final BucketStripe[] stripes = new BucketStripe[STRIPES];
+
+    private record Budget(int capacity, long emissionIntervalNanos, String policy) {
+    }
+
+    private record BucketKey(EndpointClass endpointClass, String client) {
+    }
+
+    public RateLimitFilter(
+        Environment environment,
+        @Value("${app.rate-limit.enabled:true}") boolean enabled,
+        @Value("${app.rate-limit.max-buckets:100000}") int maxBuckets,
+        MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String spec = environment.getRequiredProperty("app.rate-limit." + endpointClass.key());
+            String[] parts = spec.split("/");
+            int capacity = Integer.parseInt(parts[0].trim());
+            Duration period = DurationStyle.detectAndParse(parts[1].trim());
+            budgets.put(endpointClass, new Budget(capacity, period.toNanos() / capacity,
+                capacity + ";w=" + period.toSeconds()));
+            rejected.put(endpointClass, Counter.builder("taskmanager.ratelimit.rejected")
+                .tag("class", endpointClass.key())
+                .register(meterRegistry));
+        }
+
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new BucketStripe(Math.max(1, maxBuckets / STRIPES));
+        }
+
+        Gauge.builder("taskmanager.ratelimit.buckets", this, RateLimitFilter::bucketCount)
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+            || !request.getRequestURI().startsWith(request.getContextPath() + "/api/")
+            || HttpMethod.OPTIONS.matches(request.getMethod())
+            || EndpointClass.isBatch(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        EndpointClass endpointClass = EndpointClass.of(request);
+        Budget budget = budgets.get(endpointClass);
+        BucketKey key = new BucketKey(endpointClass, clientKey(request, endpointClass));
+
+        TokenBucket.Result result = bucketFor(key).tryConsume(System.nanoTime(), budget.capacity(), budget.emissionIntervalNanos());
+
+        response.setHeader("RateLimit-Limit", String.valueOf(budget.capacity()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(result.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(toSecondsCeil(result.resetNanos())));
+        response.setHeader("RateLimit-Policy", budget.policy());
+
+        if (!result.allowed()) {
+            long retryAfter = toSecondsCeil(result.retryAfterNanos());
+            rejected.get(endpointClass).increment();
+            response.setHeader("Retry-After", String.valueOf(retryAfter));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("Too Many Requests: İstek limiti aşıldı, " + retryAfter + " saniye sonra tekrar deneyin");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // Filtreden geçmeyen alt istekler (/api/batch) için kullanıcının aynı sınıftaki kovasından bir token düşer.
+    // İzin verilirse 0, verilmezse tekrar denemeden önce beklenecek saniye döner.
+    public long tryConsume(Long userId, EndpointClass endpointClass) {
+        if (!enabled) {
+            return 0;
+        }
+
+        Budget budget = budgets.get(endpointClass);
+        TokenBucket.Result result = bucketFor(new BucketKey(endpointClass, "u:" + userId))
+            .tryConsume(System.nanoTime(), budget.capacity(), budget.emissionIntervalNanos());
+        if (result.allowed()) {
+            return 0;
+        }
+
+        rejected.get(endpointClass).increment();
+        return Math.max(1, toSecondsCeil(result.retryAfterNanos()));
+    }
+
+    private String clientKey(HttpServletRequest request, EndpointClass endpointClass) {
+        if (endpointClass != EndpointClass.AUTH) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+                return "u:" + userId;
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private TokenBucket bucketFor(BucketKey key) {
+        return stripes[(key.hashCode() & 0x7fffffff) % STRIPES].get(key);
+    }
+
+    private int bucketCount() {
+        int count = 0;
+        for (BucketStripe stripe : stripes) {
+            count += stripe.size();
+        }
+        return count;
+    }
+
+    private static long toSecondsCeil(long nanos) {
+        return Math.max(0, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    // Erişim sıralı, boyutu sınırlı harita. Kilit sadece kova aranırken tutulur; tüketim kovanın kendisinde CAS ile yapılır.
+    private static final class BucketStripe {
+
+        private final Map<BucketKey, TokenBucket> buckets;
+
+        private BucketStripe(int maxSize) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<BucketKey, TokenBucket> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        synchronized TokenBucket get(BucketKey key) {
+            return buckets.computeIfAbsent(key, k -> new TokenBucket());
+        }
+
+        synchronized int size() {
+            return buckets.size();
+        }
+    }
+}
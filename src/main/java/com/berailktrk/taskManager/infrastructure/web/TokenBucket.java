@@ -0,0 +1,34 @@
+package com.berailktrk.taskManager.infrastructure.web;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Kilitsiz token bucket (GCRA). Kova durumu tek bir "teorik varış zamanı" (TAT) değeridir ve CAS ile güncellenir;
+// her token emissionInterval'de bir yenilenir, en fazla 'capacity' istek art arda geçebilir.
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    // İstek kabul edildiyse remaining >= 0, reddedildiyse retryAfterNanos > 0
+    record Result(boolean allowed, long remaining, long resetNanos, long retryAfterNanos) {
+    }
+
+    Result tryConsume(long now, int capacity, long emissionIntervalNanos) {
+        long burstWindow = capacity * emissionIntervalNanos;
+
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = tat == Long.MIN_VALUE ? now : Math.max(tat, now);
+            long newTat = base + emissionIntervalNanos;
+
+            if (newTat - now > burstWindow) {
+                long retryAfter = newTat - now - burstWindow;
+                return new Result(false, 0, base - now, retryAfter);
+            }
+
+            if (theoreticalArrival.compareAndSet(tat, newTat)) {
+                long remaining = (burstWindow - (newTat - now)) / emissionIntervalNanos;
+                return new Result(true, remaining, newTat - now, 0);
+            }
+        }
+    }
+}
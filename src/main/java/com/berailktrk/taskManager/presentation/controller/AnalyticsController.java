@@ -0,0 +1,198 @@
+package com.berailktrk.taskManager.presentation.controller;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.berailktrk.taskManager.application.usecase.TaskAnalyticsService;
+import com.berailktrk.taskManager.application.usecase.UserService;
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.infrastructure.security.JwtProvider;
+import com.berailktrk.taskManager.presentation.dto.LeadTimeResponse;
+import com.berailktrk.taskManager.presentation.dto.ThroughputResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/analytics")
+@Tag(name = "Analytics", description = "Görev tamamlanma hızı ve teslim süresi analitiği")
+public class AnalyticsController {
+
+    // from verilmezse son 30 gün
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    @Autowired
+    private TaskAnalyticsService taskAnalyticsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Operation(
+        summary = "Tamamlanma hızı (throughput)",
+        description = "Gün (interval=day) veya ISO hafta (interval=week) başına tamamlanan görev sayısı. " +
+                     "from/to YYYY-MM-DD biçimindedir (varsayılan: son 30 gün); assigneeId (0 = atanmamış) ve priority ile " +
+                     "filtrelenebilir. Veriler günlük rollup'lardan okunur; bugünün rakamları birkaç dakika geride kalabilir. " +
+                     "Sadece ADMIN ve MANAGER erişebilir.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Dönem başına tamamlanan görev sayıları"),
+        @ApiResponse(responseCode = "400", description = "Geçersiz tarih aralığı veya parametre"),
+        @ApiResponse(responseCode = "401", description = "Yetkisiz erişim"),
+        @ApiResponse(responseCode = "403", description = "Analitik görüntüleme yetkisi yok"),
+        @ApiResponse(responseCode = "500", description = "Sunucu hatası")
+    })
+    @GetMapping("/throughput")
+    public ResponseEntity<?> getThroughput(
+        @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+        @RequestParam(required = false) String from,
+        @RequestParam(required = false) String to,
+        @RequestParam(defaultValue = "day") String interval,
+        @RequestParam(required = false) Long assigneeId,
+        @RequestParam(required = false) String priority
+    ) {
+        try {
+            if (authorizationHeader == null || authorizationHeader.trim().isEmpty()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+
+            String token = extractToken(authorizationHeader);
+            if (!jwtProvider.validateToken(token)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+
+            Long currentUserId = jwtProvider.getUserIdFromToken(token);
+
+            LocalDate toDate = to != null ? LocalDate.parse(to) : LocalDate.now();
+            LocalDate fromDate = from != null ? LocalDate.parse(from) : toDate.minusDays(DEFAULT_RANGE_DAYS - 1);
+            TaskAnalyticsService.Interval intervalValue = TaskAnalyticsService.Interval.valueOf(interval.toUpperCase(Locale.ROOT));
+            TaskPriority priorityValue = priority != null && !priority.isBlank() ? TaskPriority.valueOf(priority.toUpperCase(Locale.ROOT)) : null;
+
+            List<TaskAnalyticsService.ThroughputPoint> points = taskAnalyticsService.getThroughput(
+                fromDate, toDate, intervalValue, assigneeId, priorityValue, currentUserId);
+            return ResponseEntity.ok(new ThroughputResponse(intervalValue, fromDate, toDate, points));
+
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: Geçersiz parametre: " + e.getMessage());
+        } catch (DataAccessException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Database Error: " + e.getMessage());
+        } catch (RuntimeException e) {
+            return errorResponse(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Server Error: " + e.getMessage());
+        }
+    }
+
+    @Operation(
+        summary = "Teslim süresi yüzdelikleri",
+        description = "Görevin oluşturulmasından tamamlanmasına kadar geçen sürenin yüzdelikleri (saniye). " +
+                     "groupBy=none|assignee|priority|assignee_priority ile gruplanır; percentiles=50,90,99 gibi bir liste " +
+                     "verilebilir. Günlük rollup histogramları birleştirilerek hesaplanır (~%1 hassasiyet). " +
+                     "Sadece ADMIN ve MANAGER erişebilir.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Gruplara göre teslim süresi dağılımı"),
+        @ApiResponse(responseCode = "400", description = "Geçersiz tarih aralığı veya parametre"),
+        @ApiResponse(responseCode = "401", description = "Yetkisiz erişim"),
+        @ApiResponse(responseCode = "403", description = "Analitik görüntüleme yetkisi yok"),
+        @ApiResponse(responseCode = "500", description = "Sunucu hatası")
+    })
+    @GetMapping("/lead-time")
+    public ResponseEntity<?> getLeadTime(
+        @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+        @RequestParam(required = false) String from,
+        @RequestParam(required = false) String to,
+        @RequestParam(defaultValue = "none") String groupBy,
+        @RequestParam(required = false) Long assigneeId,
+        @RequestParam(required = false) String priority,
+        @RequestParam(defaultValue = "50,75,90,95,99") String percentiles
+    ) {
+        try {
+            if (authorizationHeader == null || authorizationHeader.trim().isEmpty()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+
+            String token = extractToken(authorizationHeader);
+            if (!jwtProvider.validateToken(token)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+
+            Long currentUserId = jwtProvider.getUserIdFromToken(token);
+
+            LocalDate toDate = to != null ? LocalDate.parse(to) : LocalDate.now();
+            LocalDate fromDate = from != null ? LocalDate.parse(from) : toDate.minusDays(DEFAULT_RANGE_DAYS - 1);
+            TaskAnalyticsService.GroupBy groupByValue = TaskAnalyticsService.GroupBy.valueOf(groupBy.toUpperCase(Locale.ROOT));
+            TaskPriority priorityValue = priority != null && !priority.isBlank() ? TaskPriority.valueOf(priority.toUpperCase(Locale.ROOT)) : null;
+            List<Double> percentileValues = new ArrayList<>();
+            for (String value : percentiles.split(",")) {
+                percentileValues.add(Double.valueOf(value.trim()));
+            }
+
+            List<TaskAnalyticsService.LeadTimeGroup> groups = taskAnalyticsService.getLeadTimes(
+                fromDate, toDate, groupByValue, assigneeId, priorityValue, percentileValues, currentUserId);
+
+            // Atanan kullanıcı adları tek sorguda çözülür
+            Map<Long, String> usernames = userService.getUsernames(groups.stream()
+                .map(TaskAnalyticsService.LeadTimeGroup::assigneeId).filter(Objects::nonNull).collect(Collectors.toSet()));
+            return ResponseEntity.ok(new LeadTimeResponse(groupByValue, fromDate, toDate, groups, usernames));
+
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: Geçersiz parametre: " + e.getMessage());
+        } catch (DataAccessException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Database Error: " + e.getMessage());
+        } catch (RuntimeException e) {
+            return errorResponse(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Server Error: " + e.getMessage());
+        }
+    }
+
+    private ResponseEntity<?> errorResponse(RuntimeException e) {
+        String message = e.getMessage();
+
+        // Bulunamadı hataları
+        if (message.contains("bulunamadı")) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Not Found: " + message);
+        }
+
+        // Yetki hataları
+        if (message.contains("yetkiniz yok")) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Permission Error: " + message);
+        }
+
+        // Genel hata
+        return ResponseEntity.badRequest().body("Error: " + message);
+    }
+
+    // Helper method to extract token
+    private String extractToken(String authorizationHeader) {
+        if (authorizationHeader.startsWith("Bearer ")) {
+            return authorizationHeader.substring(7);
+        } else {
+            return authorizationHeader.trim();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.berailktrk.taskManager.presentation.controller;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -14,14 +16,22 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.berailktrk.taskManager.application.usecase.AuthTokenService;
+import com.berailktrk.taskManager.application.usecase.UserOffboardingService;
 import com.berailktrk.taskManager.application.usecase.UserService;
 import com.berailktrk.taskManager.domain.model.User;
+import com.berailktrk.taskManager.domain.model.UserOffboardingJob;
 import com.berailktrk.taskManager.infrastructure.security.JwtProvider;
 import com.berailktrk.taskManager.presentation.dto.AuthResponse;
 import com.berailktrk.taskManager.presentation.dto.LoginRequest;
 import com.berailktrk.taskManager.presentation.dto.PasswordUpdateRequest;
 import com.berailktrk.taskManager.presentation.dto.ProfileUpdateRequest;
+import com.berailktrk.taskManager.presentation.dto.RefreshTokenRequest;
 import com.berailktrk.taskManager.presentation.dto.RegisterRequest;
+import com.berailktrk.taskManager.presentation.dto.TokenResponse;
+import com.berailktrk.taskManager.presentation.dto.UserDirectoryResponse;
+import com.berailktrk.taskManager.presentation.dto.UserOffboardingResponse;
+import com.berailktrk.taskManager.presentation.dto.UserSummaryResponse;
 import com.berailktrk.taskManager.presentation.dto.UsernameUpdateRequest;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,11 +44,16 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 public class AuthController {
     private final UserService userService;
     private final JwtProvider jwtProvider;
+    private final UserOffboardingService userOffboardingService;
+    private final AuthTokenService authTokenService;
 
     @Autowired
-    public AuthController(UserService userService, JwtProvider jwtProvider) {
+    public AuthController(UserService userService, JwtProvider jwtProvider, UserOffboardingService userOffboardingService,
+                          AuthTokenService authTokenService) {
         this.userService = userService;
         this.jwtProvider = jwtProvider;
+        this.userOffboardingService = userOffboardingService;
+        this.authTokenService = authTokenService;
     }
 
     @Operation(summary = "Kullanıcı kaydı", description = "Yeni bir kullanıcı kaydı oluşturur.")
@@ -66,25 +81,80 @@ public class AuthController {
         }
     }
 
-    @Operation(summary = "Kullanıcı girişi", description = "Kullanıcı adı ve şifre ile giriş yapar, JWT token döner.")
+    @Operation(summary = "Kullanıcı girişi", description = "Kullanıcı adı ve şifre ile giriş yapar. Kısa ömürlü bir erişim token'ı (JWT) " +
+                     "ve süresi dolduğunda /refresh ile yenisini almak için tek kullanımlık bir refresh token döner.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Giriş başarılı, JWT token döner"),
+        @ApiResponse(responseCode = "200", description = "Giriş başarılı, erişim ve refresh token döner"),
         @ApiResponse(responseCode = "401", description = "Kullanıcı adı veya şifre hatalı")
     })
     @PostMapping("/login")
-    public ResponseEntity<String> login(@RequestBody LoginRequest request) {
+    public ResponseEntity<?> login(@RequestBody LoginRequest request) {
         try {
             return userService.authenticate(request.getUsername(), request.getPassword())
-                .map(user -> {
-                    String token = jwtProvider.generateToken(user.getId(), user.getRole().name());
-                    return ResponseEntity.ok(token);
-                })
+                .<ResponseEntity<?>>map(user -> ResponseEntity.ok(new TokenResponse(authTokenService.issueTokens(user))))
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Kullanıcı adı veya şifre hatalı!"));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Server Error: " + e.getMessage());
         }
     }
 
+    @Operation(summary = "Token yenileme", description = "Refresh token karşılığında yeni bir erişim token'ı ve yeni bir refresh token döner. " +
+                     "Gönderilen refresh token bir daha kullanılamaz; tekrar gönderilirse kullanıcının tüm oturumları kapatılır.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Yeni token çifti döndü"),
+        @ApiResponse(responseCode = "401", description = "Refresh token geçersiz, süresi dolmuş veya daha önce kullanılmış")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshTokenRequest request) {
+        try {
+            return authTokenService.refresh(request.getRefreshToken())
+                .<ResponseEntity<?>>map(tokens -> ResponseEntity.ok(new TokenResponse(tokens)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh token geçersiz veya süresi dolmuş"));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Server Error: " + e.getMessage());
+        }
+    }
+
+    @Operation(
+        summary = "Çıkış", 
+        description = "Kullanılan erişim token'ını ve gövdede gönderilirse refresh token'ı iptal eder.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Çıkış yapıldı"),
+        @ApiResponse(responseCode = "401", description = "Yetkisiz erişim")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(
+        @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+        @RequestBody(required = false) RefreshTokenRequest request
+    ) {
+        try {
+            // Token kontrolü
+            if (authorizationHeader == null || authorizationHeader.trim().isEmpty()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authorization header is missing");
+            }
+            
+            // Token'ı al (Bearer prefix'i varsa kaldır, yoksa direkt kullan)
+            String token;
+            if (authorizationHeader.startsWith("Bearer ")) {
+                token = authorizationHeader.substring(7);
+            } else {
+                token = authorizationHeader.trim();
+            }
+            
+            if (!jwtProvider.validateToken(token)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token is invalid or expired");
+            }
+            
+            authTokenService.logout(token, request != null ? request.getRefreshToken() : null);
+            return ResponseEntity.ok("Çıkış yapıldı.");
+            
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Bir hata oluştu: " + e.getMessage());
+        }
+    }
+
     @Operation(
         summary = "Profil görüntüleme", 
         description = "JWT token ile giriş yapan kullanıcının profil bilgilerini döner. Admin ve Manager'lar başka kullanıcıların profilini de görebilir.",
@@ -131,13 +201,13 @@ public class AuthController {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new AuthResponse("Bu kullanıcının profilini görme yetkiniz yok!"));
             }
             
-            return userService.findById(targetUserId)
-                .flatMap(user -> userService.getUserProfile(targetUserId)
-                    .map(details -> ResponseEntity.ok(new AuthResponse(
-                        user.getId(), user.getUsername(), user.getRole().name(),
-                        details.getAddress(), details.getPhoneNumber(), details.getBirthDate()
-                    )))
-                ).orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(new AuthResponse("Kullanıcı bulunamadı!")));
+            // Kullanıcı ve detayları tek sorguda gelir
+            return userService.getUserProfile(targetUserId)
+                .map(details -> ResponseEntity.ok(new AuthResponse(
+                    details.getUser().getId(), details.getUser().getUsername(), details.getUser().getRole().name(),
+                    details.getAddress(), details.getPhoneNumber(), details.getBirthDate()
+                )))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(new AuthResponse("Kullanıcı bulunamadı!")));
                 
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new AuthResponse(null, "Bir hata oluştu: " + e.getMessage(), null, null, null, null));
@@ -145,16 +215,24 @@ public class AuthController {
     }
 
     @Operation(
-        summary = "Tüm kullanıcıları listele", 
-        description = "Admin ve Manager'lar tüm kullanıcıları listeleyebilir.",
+        summary = "Kullanıcı dizini", 
+        description = "Admin ve Manager'lar kullanıcıları kullanıcı adına göre sıralı, sayfa sayfa listeleyebilir. " +
+                     "Sonraki sayfa için yanıttaki nextCursor değeri 'after' parametresi olarak gönderilir. " +
+                     "'prefix' verilirse sadece bu önekle başlayan kullanıcı adları döner (büyük/küçük harf duyarlı).",
         security = @SecurityRequirement(name = "Bearer Authentication")
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Kullanıcı listesi döndü"),
+        @ApiResponse(responseCode = "401", description = "Yetkisiz erişim"),
         @ApiResponse(responseCode = "403", description = "Bu işlemi yapma yetkiniz yok")
     })
     @GetMapping("/users")
-    public ResponseEntity<String> getAllUsers(@RequestHeader(value = "Authorization", required = false) String authorizationHeader) {
+    public ResponseEntity<?> getUserDirectory(
+        @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+        @RequestParam(required = false) String prefix,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "20") int size
+    ) {
         try {
             // Token kontrolü
             if (authorizationHeader == null || authorizationHeader.trim().isEmpty()) {
@@ -179,19 +257,59 @@ public class AuthController {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Bu işlemi yapma yetkiniz yok!");
             }
             
-            // Tüm kullanıcıları getir
-            var users = userService.getAllUsers();
-            StringBuilder response = new StringBuilder();
-            response.append("Kullanıcı Listesi:\n");
+            return ResponseEntity.ok(new UserDirectoryResponse(userService.getUserDirectory(prefix, after, size)));
             
-            for (var user : users) {
-                response.append("ID: ").append(user.getId())
-                       .append(", Kullanıcı Adı: ").append(user.getUsername())
-                       .append(", Rol: ").append(user.getRole().name())
-                       .append("\n");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Bir hata oluştu: " + e.getMessage());
+        }
+    }
+
+    @Operation(
+        summary = "Kullanıcı adı otomatik tamamlama", 
+        description = "Verilen önekle başlayan kullanıcı adlarını döner (büyük/küçük harf duyarsız). " +
+                     "Sonuçlar bellekteki index'ten okunur; görev atama formlarında kullanılır. Görev atayabilen " +
+                     "Admin ve Manager'lar kullanabilir.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Eşleşen kullanıcılar döndü"),
+        @ApiResponse(responseCode = "401", description = "Yetkisiz erişim"),
+        @ApiResponse(responseCode = "403", description = "Bu işlemi yapma yetkiniz yok")
+    })
+    @GetMapping("/users/autocomplete")
+    public ResponseEntity<?> autocompleteUsers(
+        @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+        @RequestParam(required = false) String prefix,
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        try {
+            // Token kontrolü
+            if (authorizationHeader == null || authorizationHeader.trim().isEmpty()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authorization header is missing");
             }
             
-            return ResponseEntity.ok(response.toString());
+            // Token'ı al (Bearer prefix'i varsa kaldır, yoksa direkt kullan)
+            String token;
+            if (authorizationHeader.startsWith("Bearer ")) {
+                token = authorizationHeader.substring(7);
+            } else {
+                token = authorizationHeader.trim();
+            }
+            
+            if (!jwtProvider.validateToken(token)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token is invalid or expired");
+            }
+            
+            // Kullanıcı dizini (GET /users) ile aynı kural: sadece görev atayabilenler
+            String currentUserRole = jwtProvider.getUserRoleFromToken(token);
+            if (!currentUserRole.equals("ROLE_ADMIN") && !currentUserRole.equals("ROLE_MANAGER")) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Bu işlemi yapma yetkiniz yok!");
+            }
+            
+            List<UserSummaryResponse> users = userService.autocomplete(prefix, limit).stream()
+                .map(UserSummaryResponse::new)
+                .toList();
+            return ResponseEntity.ok(users);
             
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Bir hata oluştu: " + e.getMessage());
@@ -245,12 +363,11 @@ public class AuthController {
                 targetUserId = currentUserId;
             }
             return userService.updateUserProfile(targetUserId, request.getAddress(), request.getPhoneNumber(), request.getBirthDate())
-                .flatMap(details -> userService.findById(targetUserId)
-                    .map(user -> ResponseEntity.ok(new AuthResponse(
-                        user.getId(), user.getUsername(), user.getRole().name(),
-                        details.getAddress(), details.getPhoneNumber(), details.getBirthDate()
-                    )))
-                ).orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(new AuthResponse(null, "Kullanıcı bulunamadı veya güncellenemedi!", null, null, null, null)));
+                .map(details -> ResponseEntity.ok(new AuthResponse(
+                    details.getUser().getId(), details.getUser().getUsername(), details.getUser().getRole().name(),
+                    details.getAddress(), details.getPhoneNumber(), details.getBirthDate()
+                )))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(new AuthResponse(null, "Kullanıcı bulunamadı veya güncellenemedi!", null, null, null, null)));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new AuthResponse(null, "Bir hata oluştu: " + e.getMessage(), null, null, null, null));
         }
@@ -258,7 +375,7 @@ public class AuthController {
 
     @Operation(
         summary = "Şifre güncelleme", 
-        description = "Kullanıcı mevcut şifresini girerek yeni şifre belirler.",
+        description = "Kullanıcı mevcut şifresini girerek yeni şifre belirler. Kullanıcının tüm oturumları (bu istekte kullanılan token dahil) kapatılır, tekrar giriş yapılmalıdır.",
         security = @SecurityRequirement(name = "Bearer Authentication")
     )
     @ApiResponses(value = {
@@ -352,20 +469,25 @@ public class AuthController {
 
     @Operation(
         summary = "Kullanıcı silme", 
-        description = "Admin kullanıcıları silebilir. Kullanıcı kendisini silemez, admin kendisini silemez.",
+        description = "Admin kullanıcıları silebilir. Kullanıcı kendisini silemez, admin kendisini silemez. " +
+                     "Kullanıcının görevleri taskAction ile ya başka bir kullanıcıya devredilir (REASSIGN, varsayılan; " +
+                     "reassignTo verilmezse silen admin'e) ya da silinir (DELETE; atandığı görevlerde atama kaldırılır). " +
+                     "İşlem arka planda çalışır; ilerleme dönen iş id'si ile /users/offboarding/{jobId} üzerinden izlenir.",
         security = @SecurityRequirement(name = "Bearer Authentication")
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Kullanıcı başarıyla silindi"),
+        @ApiResponse(responseCode = "202", description = "Kullanıcı silme işlemi başlatıldı"),
         @ApiResponse(responseCode = "400", description = "Kullanıcı silinemedi"),
         @ApiResponse(responseCode = "401", description = "Yetkisiz erişim"),
         @ApiResponse(responseCode = "403", description = "Bu işlemi yapma yetkiniz yok"),
         @ApiResponse(responseCode = "404", description = "Kullanıcı bulunamadı")
     })
     @DeleteMapping("/users/{userId}")
-    public ResponseEntity<String> deleteUser(
+    public ResponseEntity<?> deleteUser(
         @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
-        @PathVariable Long userId
+        @PathVariable Long userId,
+        @RequestParam(defaultValue = "REASSIGN") UserOffboardingJob.TaskAction taskAction,
+        @RequestParam(required = false) Long reassignTo
     ) {
         try {
             // Token kontrolü
@@ -398,14 +520,77 @@ public class AuthController {
                 return ResponseEntity.badRequest().body("Kendinizi silemezsiniz!");
             }
             
-            boolean result = userService.deleteUser(currentUserId, userId);
+            UserOffboardingJob job = userOffboardingService.startOffboarding(currentUserId, userId, taskAction, reassignTo);
             
-            if (result) {
-                return ResponseEntity.ok("Kullanıcı başarıyla silindi.");
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header("Location", "/api/auth/users/offboarding/" + job.getId())
+                .body(new UserOffboardingResponse(job));
+            
+        } catch (RuntimeException e) {
+            String message = e.getMessage();
+            
+            // Yetki hataları
+            if (message.contains("yetkiniz yok")) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Access Denied: " + message);
+            }
+            
+            // Bulunamadı hataları
+            if (message.contains("bulunamadı")) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Not Found: " + message);
+            }
+            
+            // Genel hata
+            return ResponseEntity.badRequest().body("Error: " + message);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Bir hata oluştu: " + e.getMessage());
+        }
+    }
+
+    @Operation(
+        summary = "Kullanıcı silme işleminin durumu", 
+        description = "Arka planda çalışan kullanıcı silme işinin durumunu ve işlenen görev sayılarını döner. " +
+                     "İş durumu veritabanında tutulur, her instance'tan sorgulanabilir; biten işler bir süre " +
+                     "(app.offboarding.job-retention) saklanır.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "İş durumu"),
+        @ApiResponse(responseCode = "401", description = "Yetkisiz erişim"),
+        @ApiResponse(responseCode = "403", description = "Bu işlemi yapma yetkiniz yok"),
+        @ApiResponse(responseCode = "404", description = "İş bulunamadı")
+    })
+    @GetMapping("/users/offboarding/{jobId}")
+    public ResponseEntity<?> getOffboardingStatus(
+        @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+        @PathVariable String jobId
+    ) {
+        try {
+            // Token kontrolü
+            if (authorizationHeader == null || authorizationHeader.trim().isEmpty()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authorization header is missing");
+            }
+            
+            // Token'ı al (Bearer prefix'i varsa kaldır, yoksa direkt kullan)
+            String token;
+            if (authorizationHeader.startsWith("Bearer ")) {
+                token = authorizationHeader.substring(7);
             } else {
-                return ResponseEntity.badRequest().body("Kullanıcı silinemedi. Kullanıcı bulunamadı veya yetkiniz yok.");
+                token = authorizationHeader.trim();
             }
             
+            if (!jwtProvider.validateToken(token)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token is invalid or expired");
+            }
+            
+            // Sadece ADMIN görebilir
+            if (!jwtProvider.getUserRoleFromToken(token).equals("ROLE_ADMIN")) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Bu işlemi yapma yetkiniz yok!");
+            }
+            
+            return userOffboardingService.getJob(jobId)
+                .<ResponseEntity<?>>map(job -> ResponseEntity.ok(new UserOffboardingResponse(job)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body("Not Found: İş bulunamadı"));
+            
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Bir hata oluştu: " + e.getMessage());
         }
@@ -0,0 +1,296 @@
+package com.berailktrk.taskManager.presentation.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import com.berailktrk.taskManager.application.usecase.TaskService;
+import com.berailktrk.taskManager.application.usecase.UserService;
+import com.berailktrk.taskManager.domain.model.TaskField;
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+import com.berailktrk.taskManager.domain.repository.SliceResult;
+import com.berailktrk.taskManager.infrastructure.security.JwtProvider;
+import com.berailktrk.taskManager.infrastructure.web.ConcurrencyLimitFilter;
+import com.berailktrk.taskManager.infrastructure.web.EndpointClass;
+import com.berailktrk.taskManager.infrastructure.web.RateLimitFilter;
+import com.berailktrk.taskManager.presentation.dto.AuthResponse;
+import com.berailktrk.taskManager.presentation.dto.BatchRequest;
+import com.berailktrk.taskManager.presentation.dto.BatchResponse;
+import com.berailktrk.taskManager.presentation.dto.TaskResponse;
+import com.berailktrk.taskManager.presentation.dto.TaskSliceResponse;
+import com.berailktrk.taskManager.presentation.dto.TaskStatistics;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+
+@RestController
+@RequestMapping("/api/batch")
+public class BatchController {
+
+    private static final Pattern TASK_BY_ID = Pattern.compile("/api/tasks/(\\d+)");
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Autowired
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    @Qualifier("batchExecutor")
+    private ThreadPoolTaskExecutor batchExecutor;
+
+    @Value("${app.batch.max-requests:20}")
+    private int maxRequests;
+
+    @Operation(
+        summary = "Toplu okuma isteği",
+        description = "Birden fazla GET isteğini tek seferde çalıştırır. Alt istekler paralel çalışır ve her biri tekil endpoint'in " +
+                     "yanıtını kendi durum koduyla aynı sırada döner. Her alt istek kendi endpoint sınıfının hız ve " +
+                     "eşzamanlılık limitinden düşülür; limit aşılırsa o alt istek 429 veya 503 döner. Batch isteğinin kendisi " +
+                     "limitlerden düşülmez. Desteklenen yollar: " +
+                     "/api/auth/profile, /api/tasks/my-tasks, /api/tasks/my-tasks-paginated, /api/tasks/statistics, " +
+                     "/api/tasks/{taskId}.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Alt isteklerin sonuçları (her biri kendi durum koduyla)"),
+        @ApiResponse(responseCode = "400", description = "Boş veya çok büyük batch isteği"),
+        @ApiResponse(responseCode = "401", description = "Yetkisiz erişim")
+    })
+    @PostMapping
+    public ResponseEntity<?> executeBatch(
+        @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+        @RequestBody BatchRequest batchRequest
+    ) {
+        // Token kontrolü (tüm alt istekler için tek sefer)
+        if (authorizationHeader == null || authorizationHeader.trim().isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authorization header is missing");
+        }
+        
+        String token = extractToken(authorizationHeader);
+        if (!jwtProvider.validateToken(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token is invalid or expired");
+        }
+        
+        List<BatchRequest.Item> items = batchRequest.getRequests();
+        if (items == null || items.isEmpty()) {
+            return ResponseEntity.badRequest().body("Error: Batch isteği boş olamaz");
+        }
+        if (items.size() > maxRequests) {
+            return ResponseEntity.badRequest().body("Error: Batch isteği en fazla " + maxRequests + " alt istek içerebilir");
+        }
+        
+        // Alt istekler token'ı tekrar doğrulamaz; kullanıcı ve rol burada bir kez çözülür
+        Long currentUserId = jwtProvider.getUserIdFromToken(token);
+        String currentUserRole = jwtProvider.getUserRoleFromToken(token);
+        
+        List<CompletableFuture<BatchResponse.Item>> futures = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            BatchRequest.Item item = items.get(i);
+            String id = item.getId() != null ? item.getId() : String.valueOf(i);
+            futures.add(CompletableFuture.supplyAsync(
+                () -> execute(id, item, currentUserId, currentUserRole), batchExecutor));
+        }
+        
+        List<BatchResponse.Item> responses = futures.stream()
+            .map(CompletableFuture::join)
+            .collect(Collectors.toList());
+        return ResponseEntity.ok(new BatchResponse(responses));
+    }
+    
+    // Tek alt isteği çalıştırır. Alt istek kendi endpoint sınıfının hız limitinden ve eşzamanlılık payından düşülür;
+    // limit aşılırsa sadece bu alt istek 429/503 döner.
+    private BatchResponse.Item execute(String id, BatchRequest.Item item, Long currentUserId, String currentUserRole) {
+        try {
+            if (item.getMethod() != null && !HttpMethod.GET.matches(item.getMethod().toUpperCase(Locale.ROOT))) {
+                return new BatchResponse.Item(id, HttpStatus.METHOD_NOT_ALLOWED.value(),
+                    "Error: Batch içinde sadece GET istekleri desteklenir");
+            }
+            if (item.getPath() == null || item.getPath().isBlank()) {
+                return new BatchResponse.Item(id, HttpStatus.BAD_REQUEST.value(), "Error: path boş olamaz");
+            }
+            
+            UriComponents uri = UriComponentsBuilder.fromUriString(item.getPath()).build();
+            EndpointClass endpointClass = EndpointClass.of(HttpMethod.GET.name(), uri.getPath());
+            
+            long retryAfter = rateLimitFilter.tryConsume(currentUserId, endpointClass);
+            if (retryAfter > 0) {
+                return new BatchResponse.Item(id, HttpStatus.TOO_MANY_REQUESTS.value(),
+                    "Too Many Requests: İstek limiti aşıldı, " + retryAfter + " saniye sonra tekrar deneyin");
+            }
+            
+            try (ConcurrencyLimitFilter.Permit permit = concurrencyLimitFilter.tryAcquire(endpointClass)) {
+                if (permit == null) {
+                    return new BatchResponse.Item(id, HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "Service Unavailable: Sunucu şu anda yoğun, lütfen tekrar deneyin");
+                }
+                
+                return new BatchResponse.Item(id, HttpStatus.OK.value(), dispatch(uri, currentUserId, currentUserRole));
+            }
+            
+        } catch (RuntimeException e) {
+            String message = e.getMessage();
+            
+            // Yetki hataları
+            if (message != null && message.contains("yetkiniz yok")) {
+                return new BatchResponse.Item(id, HttpStatus.FORBIDDEN.value(), "Permission Error: " + message);
+            }
+            
+            // Bulunamadı hataları
+            if (message != null && message.contains("bulunamadı")) {
+                return new BatchResponse.Item(id, HttpStatus.NOT_FOUND.value(), "Not Found: " + message);
+            }
+            
+            // Genel hata
+            return new BatchResponse.Item(id, HttpStatus.BAD_REQUEST.value(), "Error: " + message);
+        }
+    }
+    
+    // Alt istek tekil endpoint'in kullandığı servis metoduyla, zarfta doğrulanmış kullanıcı adına çalışır.
+    // Yetki ve doğrulama kuralları servislerde olduğu için sonuç ve hata mesajları tekil endpoint'inkilerle aynıdır.
+    private Object dispatch(UriComponents uri, Long currentUserId, String currentUserRole) {
+        String path = uri.getPath();
+        MultiValueMap<String, String> params = uri.getQueryParams();
+        String fields = param(params, "fields");
+        
+        if ("/api/auth/profile".equals(path)) {
+            Long userId = parseLong(param(params, "userId"));
+            if (userId != null && !currentUserRole.equals("ROLE_ADMIN") && !currentUserRole.equals("ROLE_MANAGER")) {
+                throw new RuntimeException("Bu kullanıcının profilini görme yetkiniz yok");
+            }
+            return userService.getUserProfile(userId != null ? userId : currentUserId)
+                .map(details -> new AuthResponse(
+                    details.getUser().getId(), details.getUser().getUsername(), details.getUser().getRole().name(),
+                    details.getAddress(), details.getPhoneNumber(), details.getBirthDate()
+                ))
+                .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
+        }
+        
+        if ("/api/tasks/my-tasks".equals(path)) {
+            if (fields != null && !fields.isBlank()) {
+                return taskService.getUserTaskFields(currentUserId, TaskField.parse(fields));
+            }
+            return taskService.getUserTasks(currentUserId).stream()
+                .map(TaskResponse::new)
+                .collect(Collectors.toList());
+        }
+        
+        if ("/api/tasks/my-tasks-paginated".equals(path)) {
+            int page = parseInt(param(params, "page"), 0);
+            int size = parseInt(param(params, "size"), 10);
+            SliceResult.TotalMode totalMode = parseTotalMode(param(params, "total"));
+            
+            // COUNT sorgusu olmadan sayfa: size + 1 satır okunur
+            if (totalMode != SliceResult.TotalMode.EXACT) {
+                SliceResult<?> slice = fields != null && !fields.isBlank()
+                    ? taskService.getUserTaskFieldsSlice(currentUserId, page, size, TaskField.parse(fields), totalMode)
+                    : taskService.getUserTasksSlice(currentUserId, page, size, totalMode).map(TaskResponse::new);
+                return new TaskSliceResponse(slice);
+            }
+            if (fields != null && !fields.isBlank()) {
+                return taskService.getUserTaskFieldsPaginated(currentUserId, page, size, TaskField.parse(fields));
+            }
+            return taskService.getUserTasksPaginated(currentUserId, page, size).map(TaskResponse::new);
+        }
+        
+        if ("/api/tasks/statistics".equals(path)) {
+            Map<String, Object> statisticsData = taskService.getTaskStatistics(currentUserId);
+            
+            @SuppressWarnings("unchecked")
+            Map<TaskStatus, Long> statusCounts = (Map<TaskStatus, Long>) statisticsData.get("statusCounts");
+            @SuppressWarnings("unchecked")
+            Map<TaskPriority, Long> priorityCounts = (Map<TaskPriority, Long>) statisticsData.get("priorityCounts");
+            
+            return new TaskStatistics(statusCounts, priorityCounts);
+        }
+        
+        Matcher taskById = TASK_BY_ID.matcher(path != null ? path : "");
+        if (taskById.matches()) {
+            Long taskId = Long.valueOf(taskById.group(1));
+            return new TaskResponse(taskService.getTaskById(taskId, currentUserId));
+        }
+        
+        throw new RuntimeException("Batch içinde desteklenmeyen yol bulunamadı: " + path);
+    }
+    
+    private SliceResult.TotalMode parseTotalMode(String value) {
+        if (value == null || value.isBlank()) {
+            return SliceResult.TotalMode.EXACT;
+        }
+        try {
+            return SliceResult.TotalMode.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Geçersiz total değeri: " + value);
+        }
+    }
+    
+    private String param(MultiValueMap<String, String> params, String name) {
+        String value = params.getFirst(name);
+        return value != null ? UriUtils.decode(value, StandardCharsets.UTF_8) : null;
+    }
+    
+    private Long parseLong(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Geçersiz sayı: " + value);
+        }
+    }
+    
+    private int parseInt(String value, int defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Geçersiz sayı: " + value);
+        }
+    }
+    
+    private String extractToken(String authorizationHeader) {
+        if (authorizationHeader.startsWith("Bearer ")) {
+            return authorizationHeader.substring(7);
+        } else {
+            return authorizationHeader.trim();
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package com.berailktrk.taskManager.presentation.controller;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -21,13 +26,26 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.berailktrk.taskManager.application.usecase.TaskService;
+import com.berailktrk.taskManager.application.usecase.UserService;
 import com.berailktrk.taskManager.domain.model.Task;
+import com.berailktrk.taskManager.domain.model.TaskField;
+import com.berailktrk.taskManager.domain.model.TaskHistory;
 import com.berailktrk.taskManager.domain.model.TaskPriority;
 import com.berailktrk.taskManager.domain.model.TaskStatus;
+import com.berailktrk.taskManager.domain.repository.SliceResult;
+import com.berailktrk.taskManager.domain.repository.TaskFacets;
 import com.berailktrk.taskManager.infrastructure.security.JwtProvider;
+import com.berailktrk.taskManager.presentation.dto.LabelResponse;
+import com.berailktrk.taskManager.presentation.dto.TaskFacetsResponse;
+import com.berailktrk.taskManager.presentation.dto.TaskHistoryResponse;
+import com.berailktrk.taskManager.presentation.dto.TaskLabelsRequest;
+import com.berailktrk.taskManager.presentation.dto.TaskLabelsResponse;
+import com.berailktrk.taskManager.presentation.dto.TaskPatchRequest;
 import com.berailktrk.taskManager.presentation.dto.TaskRequest;
 import com.berailktrk.taskManager.presentation.dto.TaskResponse;
 import com.berailktrk.taskManager.presentation.dto.TaskSearchRequest;
+import com.berailktrk.taskManager.presentation.dto.TaskSearchResponse;
+import com.berailktrk.taskManager.presentation.dto.TaskSliceResponse;
 import com.berailktrk.taskManager.presentation.dto.TaskStatistics;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -44,6 +62,9 @@ public class TaskController {
     @Autowired
     private TaskService taskService;
     
+    @Autowired
+    private UserService userService;
+    
     @Autowired
     private JwtProvider jwtProvider;
     
@@ -139,8 +160,86 @@ public class TaskController {
             Long currentUserId = jwtProvider.getUserIdFromToken(token);
             Task task = taskService.updateTask(taskId, request, currentUserId);
             TaskResponse response = new TaskResponse(task);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(String.valueOf(task.getVersion())).body(response);
             
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Conflict: Görev başka bir kullanıcı tarafından güncellendi, lütfen yenileyin");
+        } catch (RuntimeException e) {
+            String message = e.getMessage();
+            
+            // Validation hataları
+            if (message.contains("boş olamaz") || message.contains("uzun olamaz") || 
+                message.contains("geçmiş bir tarih")) {
+                return ResponseEntity.badRequest().body("Validation Error: " + message);
+            }
+            
+            // Yetki hataları
+            if (message.contains("yetkiniz yok") || message.contains("yapamazsınız")) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Permission Error: " + message);
+            }
+            
+            // Bulunamadı hataları
+            if (message.contains("bulunamadı")) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Not Found: " + message);
+            }
+            
+            // Genel hata
+            return ResponseEntity.badRequest().body("Error: " + message);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Server Error: " + e.getMessage());
+        }
+    }
+    
+    @Operation(
+        summary = "Kısmi görev güncelleme", 
+        description = "Sadece gönderilen alanları günceller. Sürüm gövdede (version) veya If-Match başlığında " +
+                     "gönderilirse, görev bu arada değişmişse 409 döner.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Görev başarıyla güncellendi"),
+        @ApiResponse(responseCode = "400", description = "Geçersiz veri"),
+        @ApiResponse(responseCode = "401", description = "Yetkisiz erişim"),
+        @ApiResponse(responseCode = "403", description = "Bu görevi güncelleme yetkiniz yok"),
+        @ApiResponse(responseCode = "404", description = "Görev bulunamadı"),
+        @ApiResponse(responseCode = "409", description = "Görev başka bir kullanıcı tarafından güncellendi"),
+        @ApiResponse(responseCode = "500", description = "Sunucu hatası")
+    })
+    @PatchMapping("/{taskId}")
+    public ResponseEntity<?> patchTask(
+        @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+        @RequestHeader(value = "If-Match", required = false) String ifMatch,
+        @PathVariable Long taskId,
+        @RequestBody TaskPatchRequest request
+    ) {
+        try {
+            // Token kontrolü
+            if (authorizationHeader == null || authorizationHeader.trim().isEmpty()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authorization header is missing");
+            }
+            
+            String token = extractToken(authorizationHeader);
+            if (!jwtProvider.validateToken(token)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token is invalid or expired");
+            }
+            
+            // Beklenen sürüm: gövdedeki version, yoksa If-Match
+            Long expectedVersion = request.getVersion();
+            if (expectedVersion == null && ifMatch != null && !ifMatch.isBlank()) {
+                try {
+                    expectedVersion = Long.parseLong(ifMatch.replace("W/", "").replace("\"", "").trim());
+                } catch (NumberFormatException e) {
+                    return ResponseEntity.badRequest().body("Validation Error: If-Match başlığı geçersiz");
+                }
+            }
+            
+            Long currentUserId = jwtProvider.getUserIdFromToken(token);
+            Task task = taskService.patchTask(taskId, request, expectedVersion, currentUserId);
+            TaskResponse response = new TaskResponse(task);
+            return ResponseEntity.ok().eTag(String.valueOf(task.getVersion())).body(response);
+            
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Conflict: " + e.getMessage());
         } catch (RuntimeException e) {
             String message = e.getMessage();
             
@@ -227,7 +326,7 @@ public class TaskController {
     
     @Operation(
         summary = "Görev detayı getirme", 
-        description = "Belirli bir görevin detaylarını getirir.",
+        description = "Belirli bir görevin detaylarını getirir. Arşivlenmiş görevler de id ile getirilir (archived=true).",
         security = @SecurityRequirement(name = "Bearer Authentication")
     )
     @ApiResponses(value = {
@@ -257,7 +356,226 @@ public class TaskController {
             Long currentUserId = jwtProvider.getUserIdFromToken(token);
             Task task = taskService.getTaskById(taskId, currentUserId);
             TaskResponse response = new TaskResponse(task);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(String.valueOf(task.getVersion())).body(response);
+            
+        } catch (RuntimeException e) {
+            String message = e.getMessage();
+            
+            // Yetki hataları
+            if (message.contains("yetkiniz yok")) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Permission Error: " + message);
+            }
+            
+            // Bulunamadı hataları
+            if (message.contains("bulunamadı")) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Not Found: " + message);
+            }
+            
+            // Genel hata
+            return ResponseEntity.badRequest().body("Error: " + message);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Server Error: " + e.getMessage());
+        }
+    }
+    
+    @Operation(
+        summary = "Görev geçmişi",
+        description = "Görevin durum, öncelik, atama ve diğer alanlarındaki değişiklikleri kimin ne zaman yaptığını " +
+                     "en yeniden eskiye doğru sayfalı olarak getirir. Silinmiş görevlerin geçmişini görevi oluşturan " +
+                     "kullanıcı veya ADMIN/MANAGER görebilir.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Görev geçmişi"),
+        @ApiResponse(responseCode = "400", description = "Geçersiz istek"),
+        @ApiResponse(responseCode = "401", description = "Yetkisiz erişim"),
+        @ApiResponse(responseCode = "403", description = "Bu görevi görme yetkiniz yok"),
+        @ApiResponse(responseCode = "404", description = "Görev bulunamadı"),
+        @ApiResponse(responseCode = "500", description = "Sunucu hatası")
+    })
+    @GetMapping("/{taskId}/history")
+    public ResponseEntity<?> getTaskHistory(
+        @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+        @PathVariable Long taskId,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        try {
+            // Token kontrolü
+            if (authorizationHeader == null || authorizationHeader.trim().isEmpty()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authorization header is missing");
+            }
+            
+            String token = extractToken(authorizationHeader);
+            if (!jwtProvider.validateToken(token)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token is invalid or expired");
+            }
+            
+            Long currentUserId = jwtProvider.getUserIdFromToken(token);
+            Page<TaskHistory> history = taskService.getTaskHistory(taskId, page, size, currentUserId);
+            
+            // Sayfadaki kullanıcı adları tek sorguda çözülür
+            Map<Long, String> usernames = userService.getUsernames(
+                history.getContent().stream().map(TaskHistory::getChangedBy).collect(Collectors.toSet()));
+            Page<TaskHistoryResponse> responses = history.map(h -> new TaskHistoryResponse(h, usernames.get(h.getChangedBy())));
+            return ResponseEntity.ok(responses);
+            
+        } catch (RuntimeException e) {
+            String message = e.getMessage();
+            
+            // Yetki hataları
+            if (message.contains("yetkiniz yok")) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Permission Error: " + message);
+            }
+            
+            // Bulunamadı hataları
+            if (message.contains("bulunamadı")) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Not Found: " + message);
+            }
+            
+            // Genel hata
+            return ResponseEntity.badRequest().body("Error: " + message);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Server Error: " + e.getMessage());
+        }
+    }
+    
+    @Operation(
+        summary = "Etiketleri listeleme",
+        description = "Tanımlı tüm etiketleri ada göre sıralı getirir. Admin/Manager için her etiketin aktif görev sayısı da döner.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Etiket listesi"),
+        @ApiResponse(responseCode = "401", description = "Yetkisiz erişim"),
+        @ApiResponse(responseCode = "404", description = "Kullanıcı bulunamadı"),
+        @ApiResponse(responseCode = "500", description = "Sunucu hatası")
+    })
+    @GetMapping("/labels")
+    public ResponseEntity<?> getLabels(
+        @RequestHeader(value = "Authorization", required = false) String authorizationHeader
+    ) {
+        try {
+            // Token kontrolü
+            if (authorizationHeader == null || authorizationHeader.trim().isEmpty()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authorization header is missing");
+            }
+            
+            String token = extractToken(authorizationHeader);
+            if (!jwtProvider.validateToken(token)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token is invalid or expired");
+            }
+            
+            Long currentUserId = jwtProvider.getUserIdFromToken(token);
+            List<LabelResponse> labels = taskService.getLabels(currentUserId).stream().map(LabelResponse::new).toList();
+            return ResponseEntity.ok(labels);
+            
+        } catch (RuntimeException e) {
+            String message = e.getMessage();
+            
+            // Yetki hataları
+            if (message.contains("yetkiniz yok")) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Permission Error: " + message);
+            }
+            
+            // Bulunamadı hataları
+            if (message.contains("bulunamadı")) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Not Found: " + message);
+            }
+            
+            // Genel hata
+            return ResponseEntity.badRequest().body("Error: " + message);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Server Error: " + e.getMessage());
+        }
+    }
+    
+    @Operation(
+        summary = "Görev etiketleri",
+        description = "Görevin etiketlerini ada göre sıralı getirir. Arşivlenmiş görevlerin etiketleri de okunabilir.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Görevin etiketleri"),
+        @ApiResponse(responseCode = "401", description = "Yetkisiz erişim"),
+        @ApiResponse(responseCode = "403", description = "Bu görevi görme yetkiniz yok"),
+        @ApiResponse(responseCode = "404", description = "Görev bulunamadı"),
+        @ApiResponse(responseCode = "500", description = "Sunucu hatası")
+    })
+    @GetMapping("/{taskId}/labels")
+    public ResponseEntity<?> getTaskLabels(
+        @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+        @PathVariable Long taskId
+    ) {
+        try {
+            // Token kontrolü
+            if (authorizationHeader == null || authorizationHeader.trim().isEmpty()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authorization header is missing");
+            }
+            
+            String token = extractToken(authorizationHeader);
+            if (!jwtProvider.validateToken(token)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token is invalid or expired");
+            }
+            
+            Long currentUserId = jwtProvider.getUserIdFromToken(token);
+            return ResponseEntity.ok(new TaskLabelsResponse(taskId, taskService.getTaskLabels(taskId, currentUserId)));
+            
+        } catch (RuntimeException e) {
+            String message = e.getMessage();
+            
+            // Yetki hataları
+            if (message.contains("yetkiniz yok")) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Permission Error: " + message);
+            }
+            
+            // Bulunamadı hataları
+            if (message.contains("bulunamadı")) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Not Found: " + message);
+            }
+            
+            // Genel hata
+            return ResponseEntity.badRequest().body("Error: " + message);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Server Error: " + e.getMessage());
+        }
+    }
+    
+    @Operation(
+        summary = "Görev etiketlerini değiştirme",
+        description = "Görevin etiketlerini verilen liste ile değiştirir; listede olmayan etiketler kaldırılır, yeni etiketler " +
+                     "otomatik oluşturulur. Etiket adları küçük harfe çevrilir; harf, rakam, '_', '.' ve '-' içerebilir. " +
+                     "Görevi güncelleme yetkisi gerekir.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Etiketler güncellendi"),
+        @ApiResponse(responseCode = "400", description = "Geçersiz etiket adı veya etiket sayısı sınırı aşıldı"),
+        @ApiResponse(responseCode = "401", description = "Yetkisiz erişim"),
+        @ApiResponse(responseCode = "403", description = "Bu görevi güncelleme yetkiniz yok"),
+        @ApiResponse(responseCode = "404", description = "Görev bulunamadı"),
+        @ApiResponse(responseCode = "500", description = "Sunucu hatası")
+    })
+    @PutMapping("/{taskId}/labels")
+    public ResponseEntity<?> setTaskLabels(
+        @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+        @PathVariable Long taskId,
+        @RequestBody TaskLabelsRequest request
+    ) {
+        try {
+            // Token kontrolü
+            if (authorizationHeader == null || authorizationHeader.trim().isEmpty()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authorization header is missing");
+            }
+            
+            String token = extractToken(authorizationHeader);
+            if (!jwtProvider.validateToken(token)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Token is invalid or expired");
+            }
+            
+            Long currentUserId = jwtProvider.getUserIdFromToken(token);
+            List<String> labels = taskService.setTaskLabels(taskId, request.getLabels(), currentUserId);
+            return ResponseEntity.ok(new TaskLabelsResponse(taskId, labels));
             
         } catch (RuntimeException e) {
             String message = e.getMessage();
@@ -281,17 +599,20 @@ public class TaskController {
     
     @Operation(
         summary = "Kullanıcının görevlerini listeleme", 
-        description = "Kullanıcının oluşturduğu veya atandığı görevleri listeler.",
+        description = "Kullanıcının oluşturduğu veya atandığı görevleri listeler. " +
+                     "fields=id,title,status gibi bir alan listesi verilirse sadece bu alanlar sorgulanır ve döner.",
         security = @SecurityRequirement(name = "Bearer Authentication")
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Görev listesi"),
+        @ApiResponse(responseCode = "400", description = "Geçersiz alan"),
         @ApiResponse(responseCode = "401", description = "Yetkisiz erişim"),
         @ApiResponse(responseCode = "500", description = "Sunucu hatası")
     })
     @GetMapping("/my-tasks")
-    public ResponseEntity<List<TaskResponse>> getMyTasks(
-        @RequestHeader(value = "Authorization", required = false) String authorizationHeader
+    public ResponseEntity<?> getMyTasks(
+        @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+        @RequestParam(required = false) String fields
     ) {
         try {
             // Token kontrolü
@@ -305,6 +626,12 @@ public class TaskController {
             }
             
             Long currentUserId = jwtProvider.getUserIdFromToken(token);
+            
+            // Sparse fieldset: kolon seçimi SQL'e kadar iner
+            if (fields != null && !fields.isBlank()) {
+                return ResponseEntity.ok(taskService.getUserTaskFields(currentUserId, TaskField.parse(fields)));
+            }
+            
             List<Task> tasks = taskService.getUserTasks(currentUserId);
             List<TaskResponse> responses = tasks.stream()
                 .map(TaskResponse::new)
@@ -319,6 +646,11 @@ public class TaskController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
             }
             
+            // Geçersiz alan listesi
+            if (message.contains("Geçersiz alan")) {
+                return ResponseEntity.badRequest().body("Error: " + message);
+            }
+            
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -383,7 +715,16 @@ public class TaskController {
     @Operation(
         summary = "Görev arama ve filtreleme",
         description = "Görevleri başlık, durum, öncelik gibi kriterlere göre arar ve filtreler. " +
-                     "Admin/Manager tüm görevleri, diğer kullanıcılar sadece kendi görevlerini görebilir.",
+                     "Admin/Manager tüm görevleri, diğer kullanıcılar sadece kendi görevlerini görebilir. " +
+                     "Arşivlenmiş görevler sadece includeArchived=true ile dahil edilir. " +
+                     "labels=\"backend AND urgent-customer NOT blocked\" gibi bir etiket ifadesi (AND/OR/NOT, parantez; " +
+                     "yan yana yazılan etiketler AND ile bağlanır) diğer filtrelerle birlikte uygulanır. " +
+                     "fields=id,title,status gibi bir alan listesi verilirse sadece bu alanlar sorgulanır ve döner. " +
+                     "facets=true ile sonuç {results, facets} olarak döner; facets aynı filtreye uyan görevlerin durum, öncelik, " +
+                     "atanan kullanıcı ve bitiş tarihi aralığı (PAST_DUE, TODAY, NEXT_7_DAYS, LATER, NONE) sayımlarıdır. " +
+                     "total=exact (varsayılan) her istekte toplam kaydı sayar; total=none COUNT çalıştırmaz, sadece hasNext döner; " +
+                     "total=approximate hasNext ile birlikte kısa süreli önbellekten veya bellek index'inden gelen " +
+                     "yaklaşık bir toplam döner (totalApproximate=true). none/approximate includeArchived ile kullanılamaz.",
         security = @SecurityRequirement(name = "Bearer Authentication")
     )
     @ApiResponses(value = {
@@ -401,7 +742,12 @@ public class TaskController {
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
         @RequestParam(defaultValue = "createdAt") String sortBy,
-        @RequestParam(defaultValue = "desc") String sortDirection
+        @RequestParam(defaultValue = "desc") String sortDirection,
+        @RequestParam(defaultValue = "false") boolean includeArchived,
+        @RequestParam(required = false) String labels,
+        @RequestParam(required = false) String fields,
+        @RequestParam(defaultValue = "false") boolean facets,
+        @RequestParam(defaultValue = "exact") String total
     ) {
         try {
             if (authorizationHeader == null || authorizationHeader.trim().isEmpty()) {
@@ -441,10 +787,39 @@ public class TaskController {
             searchRequest.setSize(size);
             searchRequest.setSortBy(sortBy);
             searchRequest.setSortDirection(sortDirection);
+            searchRequest.setIncludeArchived(includeArchived);
+            searchRequest.setLabels(labels);
+            
+            SliceResult.TotalMode totalMode;
+            try {
+                totalMode = SliceResult.TotalMode.valueOf(total.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+            
+            // Sparse fieldset: kolon seçimi SQL'e kadar iner
+            Object results;
+            if (totalMode != SliceResult.TotalMode.EXACT) {
+                // COUNT sorgusu olmadan sayfa: size + 1 satır okunur
+                SliceResult<?> slice = fields != null && !fields.isBlank()
+                    ? taskService.searchTaskFieldsSlice(searchRequest, TaskField.parse(fields), totalMode, currentUserId)
+                    : taskService.searchTasksSlice(searchRequest, totalMode, currentUserId).map(TaskResponse::new);
+                results = new TaskSliceResponse(slice);
+            } else if (fields != null && !fields.isBlank()) {
+                results = taskService.searchTaskFields(searchRequest, TaskField.parse(fields), currentUserId);
+            } else {
+                results = taskService.searchTasks(searchRequest, currentUserId).map(TaskResponse::new);
+            }
             
-            Page<Task> tasks = taskService.searchTasks(searchRequest, currentUserId);
-            Page<TaskResponse> responses = tasks.map(TaskResponse::new);
-            return ResponseEntity.ok(responses);
+            if (!facets) {
+                return ResponseEntity.ok(results);
+            }
+            
+            // Facet'ler tek geçişte hesaplanır; atanan kullanıcı adları tek sorguda çözülür
+            TaskFacets taskFacets = taskService.searchTaskFacets(searchRequest, currentUserId);
+            Map<Long, String> usernames = userService.getUsernames(taskFacets.assignee().stream()
+                .map(TaskFacets.AssigneeCount::userId).filter(Objects::nonNull).collect(Collectors.toSet()));
+            return ResponseEntity.ok(new TaskSearchResponse(results, new TaskFacetsResponse(taskFacets, usernames)));
             
         } catch (DataAccessException e) {
             // Database hataları
@@ -549,19 +924,24 @@ public class TaskController {
     
     @Operation(
         summary = "Kullanıcının görevlerini sayfalama ile getirme",
-        description = "Kullanıcının görevlerini sayfalama ile getirir.",
+        description = "Kullanıcının görevlerini sayfalama ile getirir. " +
+                     "fields=id,title,status gibi bir alan listesi verilirse sadece bu alanlar sorgulanır ve döner. " +
+                     "total=none ile COUNT sorgusu çalıştırılmaz (sadece hasNext), total=approximate ile yaklaşık toplam döner.",
         security = @SecurityRequirement(name = "Bearer Authentication")
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Görev listesi"),
+        @ApiResponse(responseCode = "400", description = "Geçersiz alan veya total değeri"),
         @ApiResponse(responseCode = "401", description = "Yetkisiz erişim"),
         @ApiResponse(responseCode = "500", description = "Sunucu hatası")
     })
     @GetMapping("/my-tasks-paginated")
-    public ResponseEntity<Page<TaskResponse>> getMyTasksPaginated(
+    public ResponseEntity<?> getMyTasksPaginated(
         @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "10") int size
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) String fields,
+        @RequestParam(defaultValue = "exact") String total
     ) {
         try {
             if (authorizationHeader == null || authorizationHeader.trim().isEmpty()) {
@@ -574,11 +954,39 @@ public class TaskController {
             }
             
             Long currentUserId = jwtProvider.getUserIdFromToken(token);
+            
+            SliceResult.TotalMode totalMode;
+            try {
+                totalMode = SliceResult.TotalMode.valueOf(total.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+            
+            // COUNT sorgusu olmadan sayfa: size + 1 satır okunur
+            if (totalMode != SliceResult.TotalMode.EXACT) {
+                SliceResult<?> slice = fields != null && !fields.isBlank()
+                    ? taskService.getUserTaskFieldsSlice(currentUserId, page, size, TaskField.parse(fields), totalMode)
+                    : taskService.getUserTasksSlice(currentUserId, page, size, totalMode).map(TaskResponse::new);
+                return ResponseEntity.ok(new TaskSliceResponse(slice));
+            }
+            
+            // Sparse fieldset: kolon seçimi SQL'e kadar iner
+            if (fields != null && !fields.isBlank()) {
+                Set<TaskField> taskFields = TaskField.parse(fields);
+                return ResponseEntity.ok(taskService.getUserTaskFieldsPaginated(currentUserId, page, size, taskFields));
+            }
+            
             Page<Task> tasks = taskService.getUserTasksPaginated(currentUserId, page, size);
             Page<TaskResponse> responses = tasks.map(TaskResponse::new);
             
             return ResponseEntity.ok(responses);
             
+        } catch (RuntimeException e) {
+            // Geçersiz alan listesi
+            if (e.getMessage() != null && e.getMessage().contains("Geçersiz alan")) {
+                return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+            }
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -0,0 +1,25 @@
+package com.berailktrk.taskManager.presentation.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchRequest {
+    private List<Item> requests;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Item {
+        // İstemcinin yanıtı eşleştirmek için verdiği anahtar (verilmezse sıra numarası kullanılır)
+        private String id;
+        private String method = "GET";
+        // Örn. /api/tasks/my-tasks?fields=id,title
+        private String path;
+    }
+}
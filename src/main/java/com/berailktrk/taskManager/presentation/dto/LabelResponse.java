@@ -0,0 +1,21 @@
+package com.berailktrk.taskManager.presentation.dto;
+
+import com.berailktrk.taskManager.domain.repository.LabelCount;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LabelResponse {
+
+    private String name;
+    private Long taskCount;
+
+    public LabelResponse(LabelCount count) {
+        this.name = count.name();
+        this.taskCount = count.taskCount();
+    }
+}
@@ -0,0 +1,62 @@
+package com.berailktrk.taskManager.presentation.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.berailktrk.taskManager.application.usecase.TaskAnalyticsService;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Süreler saniye cinsindendir; yüzdelik anahtarları "p50", "p99.9" biçimindedir
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeadTimeResponse {
+
+    private String groupBy;
+    private LocalDate from;
+    private LocalDate to;
+    private List<Group> groups;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Group {
+        // Gruplanmayan boyutta null; assigneeId atanmamış görevlerde de null
+        private Long assigneeId;
+        private String assigneeUsername;
+        private String priority;
+        private long count;
+        private double meanSeconds;
+        private long maxSeconds;
+        private Map<String, Long> percentileSeconds;
+    }
+
+    public LeadTimeResponse(TaskAnalyticsService.GroupBy groupBy, LocalDate from, LocalDate to,
+                            List<TaskAnalyticsService.LeadTimeGroup> groups, Map<Long, String> usernames) {
+        this.groupBy = groupBy.name();
+        this.from = from;
+        this.to = to;
+        this.groups = groups.stream()
+            .map(group -> {
+                Map<String, Long> percentiles = new LinkedHashMap<>();
+                group.percentileSeconds().forEach((percentile, value) ->
+                    percentiles.put("p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString(), value));
+                return new Group(
+                    group.assigneeId(),
+                    group.assigneeId() != null ? usernames.get(group.assigneeId()) : null,
+                    group.priority() != null ? group.priority().name() : null,
+                    group.count(),
+                    group.meanSeconds(),
+                    group.maxSeconds(),
+                    percentiles
+                );
+            })
+            .toList();
+    }
+}
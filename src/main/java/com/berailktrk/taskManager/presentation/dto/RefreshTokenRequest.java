@@ -0,0 +1,10 @@
+package com.berailktrk.taskManager.presentation.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RefreshTokenRequest {
+    private String refreshToken;
+}
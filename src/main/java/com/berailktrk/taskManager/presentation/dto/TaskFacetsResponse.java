@@ -0,0 +1,46 @@
+package com.berailktrk.taskManager.presentation.dto;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.berailktrk.taskManager.domain.repository.TaskFacets;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFacetsResponse {
+
+    private long total;
+    private Map<String, Long> status;
+    private Map<String, Long> priority;
+    private List<AssigneeFacet> assignee;
+    private Map<String, Long> due;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AssigneeFacet {
+        // Atanmamış görevlerde null
+        private Long userId;
+        private String username;
+        private long count;
+    }
+
+    public TaskFacetsResponse(TaskFacets facets, Map<Long, String> usernames) {
+        this.total = facets.total();
+        this.status = new LinkedHashMap<>();
+        facets.status().forEach((key, count) -> status.put(key.name(), count));
+        this.priority = new LinkedHashMap<>();
+        facets.priority().forEach((key, count) -> priority.put(key.name(), count));
+        this.assignee = facets.assignee().stream()
+            .map(a -> new AssigneeFacet(a.userId(), a.userId() != null ? usernames.get(a.userId()) : null, a.count()))
+            .toList();
+        this.due = new LinkedHashMap<>();
+        facets.due().forEach((key, count) -> due.put(key.name(), count));
+    }
+}
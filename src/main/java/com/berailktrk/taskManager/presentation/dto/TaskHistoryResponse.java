@@ -0,0 +1,37 @@
+package com.berailktrk.taskManager.presentation.dto;
+
+import java.time.LocalDateTime;
+
+import com.berailktrk.taskManager.domain.model.TaskHistory;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskHistoryResponse {
+
+    private Long seq;
+    private TaskHistory.Action action;
+    private String field;
+    private String oldValue;
+    private String newValue;
+    private Long changedByUserId;
+    private String changedByUsername;
+    private LocalDateTime changedAt;
+
+    public TaskHistoryResponse(TaskHistory history, String changedByUsername) {
+        this.seq = history.getSeq();
+        this.action = history.getAction();
+        this.field = history.getField();
+        this.oldValue = history.getOldValue();
+        this.newValue = history.getNewValue();
+        this.changedByUserId = history.getChangedBy();
+        this.changedByUsername = changedByUsername;
+        this.changedAt = history.getChangedAt();
+    }
+}
@@ -0,0 +1,13 @@
+package com.berailktrk.taskManager.presentation.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// Görevin etiketlerinin tamamı; listede olmayan etiketler görevden kaldırılır
+@Getter
+@Setter
+public class TaskLabelsRequest {
+    private List<String> labels;
+}
@@ -0,0 +1,16 @@
+package com.berailktrk.taskManager.presentation.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskLabelsResponse {
+
+    private Long taskId;
+    private List<String> labels;
+}
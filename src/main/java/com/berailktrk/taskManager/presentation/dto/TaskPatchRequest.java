@@ -0,0 +1,68 @@
+package com.berailktrk.taskManager.presentation.dto;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Getter;
+
+// PATCH isteği: sadece gövdede gelen alanlar değiştirilir. Bir alanın hiç gönderilmemesi ile
+// açıkça null gönderilmesi (örn. atamayı kaldırmak için "assignedToUserId": null) ayırt edilir.
+@Getter
+public class TaskPatchRequest {
+    
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private Long assignedToUserId;
+    private LocalDateTime dueDate;
+    
+    // İstemcinin gördüğü sürüm; If-Match başlığı ile de gönderilebilir
+    private Long version;
+    
+    @JsonIgnore
+    private final Set<String> presentFields = new HashSet<>();
+    
+    public boolean has(String field) {
+        return presentFields.contains(field);
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+        presentFields.add("title");
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+        presentFields.add("description");
+    }
+    
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+        presentFields.add("status");
+    }
+    
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+        presentFields.add("priority");
+    }
+    
+    public void setAssignedToUserId(Long assignedToUserId) {
+        this.assignedToUserId = assignedToUserId;
+        presentFields.add("assignedToUserId");
+    }
+    
+    public void setDueDate(LocalDateTime dueDate) {
+        this.dueDate = dueDate;
+        presentFields.add("dueDate");
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -29,6 +29,10 @@ public class TaskResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime dueDate;
+    private Long version;
+    // Sadece arşivlenmiş / süresi dolmuş görevlerde gönderilir
+    private Boolean archived;
+    private Boolean overdue;
     
     // Constructor
     public TaskResponse(Task task) {
@@ -40,6 +44,15 @@ public class TaskResponse {
         this.createdAt = task.getCreatedAt();
         this.updatedAt = task.getUpdatedAt();
         this.dueDate = task.getDueDate();
+        this.version = task.getVersion();
+        
+        if (task.isArchived()) {
+            this.archived = true;
+        }
+        
+        if (task.isOverdue()) {
+            this.overdue = true;
+        }
         
         if (task.getAssignedTo() != null) {
             this.assignedToUserId = task.getAssignedTo().getId();
@@ -18,4 +18,8 @@ public class TaskSearchRequest {
     private Integer size = 10;
     private String sortBy = "createdAt";
     private String sortDirection = "desc";
+    // true ise tasks_archive tablosundaki görevler de sonuçlara eklenir
+    private Boolean includeArchived = false;
+    // Etiket ifadesi, ör. "backend AND urgent-customer NOT blocked" (AND/OR/NOT ve parantez)
+    private String labels;
 } 
\ No newline at end of file
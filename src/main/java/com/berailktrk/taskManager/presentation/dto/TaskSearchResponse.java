@@ -0,0 +1,15 @@
+package com.berailktrk.taskManager.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// facets=true ile yapılan aramalarda sayfa ve facet sayımları birlikte döner
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResponse {
+
+    private Object results;
+    private TaskFacetsResponse facets;
+}
@@ -0,0 +1,33 @@
+package com.berailktrk.taskManager.presentation.dto;
+
+import java.util.List;
+
+import com.berailktrk.taskManager.domain.repository.SliceResult;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// total=none|approximate ile yapılan sayfalı isteklerin yanıtı. hasNext size + 1 satır okunarak belirlenir;
+// total=none'da total null'dur, totalApproximate=true ise toplam kısa süre geride kalmış olabilir.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSliceResponse {
+
+    private List<?> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long total;
+    private boolean totalApproximate;
+
+    public TaskSliceResponse(SliceResult<?> result) {
+        this.content = result.slice().getContent();
+        this.page = result.slice().getNumber();
+        this.size = result.slice().getSize();
+        this.hasNext = result.slice().hasNext();
+        this.total = result.total();
+        this.totalApproximate = result.totalApproximate();
+    }
+}
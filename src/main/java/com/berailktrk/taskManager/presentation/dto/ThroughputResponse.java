@@ -0,0 +1,31 @@
+package com.berailktrk.taskManager.presentation.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.berailktrk.taskManager.application.usecase.TaskAnalyticsService;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThroughputResponse {
+
+    private String interval;
+    private LocalDate from;
+    private LocalDate to;
+    private long total;
+    private List<TaskAnalyticsService.ThroughputPoint> points;
+
+    public ThroughputResponse(TaskAnalyticsService.Interval interval, LocalDate from, LocalDate to,
+                              List<TaskAnalyticsService.ThroughputPoint> points) {
+        this.interval = interval.name();
+        this.from = from;
+        this.to = to;
+        this.total = points.stream().mapToLong(TaskAnalyticsService.ThroughputPoint::completed).sum();
+        this.points = points;
+    }
+}
@@ -0,0 +1,26 @@
+package com.berailktrk.taskManager.presentation.dto;
+
+import com.berailktrk.taskManager.application.usecase.AuthTokenService;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenResponse {
+
+    private String accessToken;
+    private String refreshToken;
+    private String tokenType;
+    // Erişim token'ının geçerlilik süresi (saniye)
+    private Long expiresIn;
+
+    public TokenResponse(AuthTokenService.TokenPair tokens) {
+        this.accessToken = tokens.accessToken();
+        this.refreshToken = tokens.refreshToken();
+        this.tokenType = "Bearer";
+        this.expiresIn = tokens.expiresInSeconds();
+    }
+}
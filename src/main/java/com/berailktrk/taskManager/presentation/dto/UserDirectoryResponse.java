@@ -0,0 +1,30 @@
+package com.berailktrk.taskManager.presentation.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+import com.berailktrk.taskManager.domain.repository.UserSummary;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDirectoryResponse {
+
+    private List<UserSummaryResponse> users;
+    // Sonraki sayfa için 'after' parametresi; son sayfada yer almaz
+    private String nextCursor;
+
+    public UserDirectoryResponse(Slice<UserSummary> slice) {
+        this.users = slice.getContent().stream().map(UserSummaryResponse::new).toList();
+        if (slice.hasNext() && !users.isEmpty()) {
+            this.nextCursor = users.get(users.size() - 1).getUsername();
+        }
+    }
+}
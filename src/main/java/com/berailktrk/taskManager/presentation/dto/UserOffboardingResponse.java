@@ -0,0 +1,57 @@
+package com.berailktrk.taskManager.presentation.dto;
+
+import java.time.LocalDateTime;
+
+import com.berailktrk.taskManager.domain.model.UserOffboardingJob;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserOffboardingResponse {
+
+    private String jobId;
+    private Long userId;
+    private UserOffboardingJob.TaskAction taskAction;
+    private Long reassignToUserId;
+    private UserOffboardingJob.Status status;
+    // İş başlarken sayılan görev satırları (aktif + arşiv); iş sürerken oluşturulanlar dahil değildir
+    private Long totalTasks;
+    private Long processedTasks;
+    private Long reassignedTasks;
+    private Long deletedTasks;
+    private Long unassignedTasks;
+    private Integer progressPercent;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private String error;
+
+    public UserOffboardingResponse(UserOffboardingJob job) {
+        this.jobId = job.getId();
+        this.userId = job.getUserId();
+        this.taskAction = job.getTaskAction();
+        this.reassignToUserId = job.getReassignToUserId();
+        this.status = job.getStatus();
+        this.totalTasks = job.getTotalTasks();
+        this.processedTasks = job.getProcessedTasks();
+        this.reassignedTasks = job.getReassignedTasks();
+        this.deletedTasks = job.getDeletedTasks();
+        this.unassignedTasks = job.getUnassignedTasks();
+        this.createdAt = job.getCreatedAt();
+        this.finishedAt = job.getFinishedAt();
+        this.error = job.getError();
+
+        if (job.getStatus() == UserOffboardingJob.Status.COMPLETED) {
+            this.progressPercent = 100;
+        } else if (job.getTotalTasks() == 0) {
+            this.progressPercent = 0;
+        } else {
+            this.progressPercent = (int) Math.min(99, job.getProcessedTasks() * 100 / job.getTotalTasks());
+        }
+    }
+}
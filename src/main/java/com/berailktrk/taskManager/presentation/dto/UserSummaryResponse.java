@@ -0,0 +1,23 @@
+package com.berailktrk.taskManager.presentation.dto;
+
+import com.berailktrk.taskManager.domain.repository.UserSummary;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryResponse {
+
+    private Long id;
+    private String username;
+    private String role;
+
+    public UserSummaryResponse(UserSummary summary) {
+        this.id = summary.id();
+        this.username = summary.username();
+        this.role = summary.role().name();
+    }
+}
@@ -29,10 +29,11 @@ document.getElementById('loginForm').addEventListener('submit', async function(e
         });
         
         if (response.ok) {
-            const token = await response.text();
+            const tokens = await response.json();
             
-            // Token'ı localStorage'a kaydet (Bearer prefix'i ile)
-            localStorage.setItem('authToken', `Bearer ${token}`);
+            // Erişim token'ını localStorage'a kaydet (Bearer prefix'i ile); süresi dolunca refresh token ile yenilenir
+            localStorage.setItem('authToken', `Bearer ${tokens.accessToken}`);
+            localStorage.setItem('refreshToken', tokens.refreshToken);
             
             // Başarı mesajı göster
             showAlert('Giriş başarılı! Yönlendiriliyorsunuz...', 'success');
@@ -14,22 +14,125 @@ window.addEventListener('load', function() {
     // Token'ı kontrol et (artık gerekli değil çünkü auth.js'de Bearer prefix'i ekleniyor)
     console.log('Token kontrol ediliyor...');
     
-    loadUserProfile();
-    loadTasks();
-    loadStatistics();
+    loadDashboard();
 });
 
+// Authorization header'ı eklenmiş fetch. Erişim token'ı kısa ömürlü olduğu için 401 gelirse
+// refresh token ile yeni token alınıp istek bir kez tekrarlanır; yenileme de başarısızsa çıkış yapılır.
+async function apiFetch(url, options = {}) {
+    const withToken = () => ({
+        ...options,
+        headers: { ...(options.headers || {}), 'Authorization': localStorage.getItem('authToken') }
+    });
+    
+    let response = await fetch(url, withToken());
+    if (response.status === 401 && await refreshTokens()) {
+        response = await fetch(url, withToken());
+    }
+    if (response.status === 401) {
+        clearSession();
+    }
+    return response;
+}
+
+// Aynı anda gelen 401'ler tek bir yenileme isteği kullanır (refresh token tek kullanımlıktır)
+let refreshInFlight = null;
+
+function refreshTokens() {
+    if (!refreshInFlight) {
+        refreshInFlight = (async () => {
+            const refreshToken = localStorage.getItem('refreshToken');
+            if (!refreshToken) {
+                return false;
+            }
+            try {
+                const response = await fetch(`${API_BASE_URL}/auth/refresh`, {
+                    method: 'POST',
+                    headers: { 'Content-Type': 'application/json' },
+                    body: JSON.stringify({ refreshToken: refreshToken })
+                });
+                if (!response.ok) {
+                    return false;
+                }
+                const tokens = await response.json();
+                localStorage.setItem('authToken', `Bearer ${tokens.accessToken}`);
+                localStorage.setItem('refreshToken', tokens.refreshToken);
+                return true;
+            } catch (error) {
+                console.error('Token yenilenemedi:', error);
+                return false;
+            } finally {
+                refreshInFlight = null;
+            }
+        })();
+    }
+    return refreshInFlight;
+}
+
+// Profil, görevler ve istatistikler tek istekte (/api/batch) yüklenir
+async function loadDashboard() {
+    try {
+        console.log('Dashboard verileri yükleniyor...');
+        const response = await apiFetch(`${API_BASE_URL}/batch`, {
+            method: 'POST',
+            headers: {
+                'Content-Type': 'application/json'
+            },
+            body: JSON.stringify({
+                requests: [
+                    { id: 'profile', path: '/api/auth/profile' },
+                    { id: 'tasks', path: '/api/tasks/my-tasks?fields=id,title,description,status,priority' },
+                    { id: 'statistics', path: '/api/tasks/statistics' }
+                ]
+            })
+        });
+        
+        console.log('Batch response status:', response.status);
+        
+        if (!response.ok) {
+            // Batch kullanılamıyorsa ayrı isteklere geri dön
+            const errorText = await response.text();
+            console.error('Batch isteği başarısız:', response.status, errorText);
+            loadUserProfile();
+            loadTasks();
+            loadStatistics();
+            return;
+        }
+        
+        const batch = await response.json();
+        const results = {};
+        batch.responses.forEach(item => results[item.id] = item);
+        
+        if (results.profile.status === 200) {
+            document.getElementById('username').textContent = results.profile.body.username;
+        } else {
+            console.error('Profil yüklenemedi:', results.profile.status, results.profile.body);
+        }
+        
+        if (results.tasks.status === 200) {
+            console.log('Görevler yüklendi:', results.tasks.body.length, 'adet');
+            displayTasks(results.tasks.body);
+        } else {
+            console.error('Görevler yüklenemedi:', results.tasks.status, results.tasks.body);
+            showAlert('Görevler yüklenemedi: ' + results.tasks.status, 'danger');
+        }
+        
+        if (results.statistics.status === 200) {
+            displayStatistics(results.statistics.body);
+        } else {
+            console.error('İstatistikler yüklenemedi:', results.statistics.status, results.statistics.body);
+        }
+    } catch (error) {
+        console.error('Bağlantı hatası:', error);
+        showAlert('Bağlantı hatası: ' + error.message, 'danger');
+    }
+}
+
 // Kullanıcı profilini yükle
 async function loadUserProfile() {
     try {
         console.log('Profil yükleniyor...');
-        const token = localStorage.getItem('authToken');
-        
-        const response = await fetch(`${API_BASE_URL}/auth/profile`, {
-            headers: {
-                'Authorization': token
-            }
-        });
+        const response = await apiFetch(`${API_BASE_URL}/auth/profile`);
         
         console.log('Profil response status:', response.status);
         
@@ -50,13 +153,8 @@ async function loadUserProfile() {
 async function loadTasks() {
     try {
         console.log('Görevler yükleniyor...');
-        const token = localStorage.getItem('authToken');
-        
-        const response = await fetch(`${API_BASE_URL}/tasks/my-tasks`, {
-            headers: {
-                'Authorization': token
-            }
-        });
+        // Liste görünümü sadece bu alanları kullanır; kullanıcı join'leri sorgulanmaz
+        const response = await apiFetch(`${API_BASE_URL}/tasks/my-tasks?fields=id,title,description,status,priority`);
         
         console.log('Görevler response status:', response.status);
         
@@ -134,11 +232,10 @@ async function addTask() {
     const status = document.getElementById('taskStatus').value;
     
     try {
-        const response = await fetch(`${API_BASE_URL}/tasks`, {
+        const response = await apiFetch(`${API_BASE_URL}/tasks`, {
             method: 'POST',
             headers: {
-                'Content-Type': 'application/json',
-                'Authorization': localStorage.getItem('authToken')
+                'Content-Type': 'application/json'
             },
             body: JSON.stringify({
                 title: title,
@@ -167,23 +264,14 @@ async function addTask() {
 async function loadStatistics() {
     try {
         console.log('İstatistikler yükleniyor...');
-        const token = localStorage.getItem('authToken');
-        
-        const response = await fetch(`${API_BASE_URL}/tasks/statistics`, {
-            headers: {
-                'Authorization': token
-            }
-        });
+        const response = await apiFetch(`${API_BASE_URL}/tasks/statistics`);
         
         console.log('İstatistik response status:', response.status);
         
         if (response.ok) {
             const stats = await response.json();
             console.log('İstatistikler yüklendi');
-            document.getElementById('totalTasks').textContent = stats.totalTasks || 0;
-            document.getElementById('pendingTasks').textContent = stats.pendingTasks || 0;
-            document.getElementById('inProgressTasks').textContent = stats.inProgressTasks || 0;
-            document.getElementById('completedTasks').textContent = stats.completedTasks || 0;
+            displayStatistics(stats);
         } else {
             const errorText = await response.text();
             console.error('İstatistikler yüklenemedi:', response.status, errorText);
@@ -193,6 +281,14 @@ async function loadStatistics() {
     }
 }
 
+// İstatistikleri görüntüle
+function displayStatistics(stats) {
+    document.getElementById('totalTasks').textContent = stats.totalTasks || 0;
+    document.getElementById('pendingTasks').textContent = stats.pendingTasks || 0;
+    document.getElementById('inProgressTasks').textContent = stats.inProgressTasks || 0;
+    document.getElementById('completedTasks').textContent = stats.completedTasks || 0;
+}
+
 // Yardımcı fonksiyonlar
 function getPriorityClass(priority) {
     switch(priority) {
@@ -256,8 +352,26 @@ function showAlert(message, type) {
     }, 5000);
 }
 
-function logout() {
+async function logout() {
+    // Token'lar sunucuda da iptal edilir; istek başarısız olsa bile yerel oturum kapatılır
+    try {
+        await fetch(`${API_BASE_URL}/auth/logout`, {
+            method: 'POST',
+            headers: {
+                'Content-Type': 'application/json',
+                'Authorization': localStorage.getItem('authToken')
+            },
+            body: JSON.stringify({ refreshToken: localStorage.getItem('refreshToken') })
+        });
+    } catch (error) {
+        console.error('Çıkış isteği başarısız:', error);
+    }
+    clearSession();
+}
+
+function clearSession() {
     localStorage.removeItem('authToken');
+    localStorage.removeItem('refreshToken');
     window.location.href = 'login.html';
 }
 
@@ -0,0 +1,104 @@
+package com.berailktrk.taskManager.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.berailktrk.taskManager.domain.model.User;
+import com.berailktrk.taskManager.infrastructure.security.JwtProvider;
+import com.berailktrk.taskManager.presentation.dto.RegisterRequest;
+
+// Oturum token'ları: refresh token'ın döndürülmesi, kullanılmış refresh token tekrar gelince tüm oturumların
+// kapatılması ve çıkışta sadece o oturumun token'larının iptal edilmesi.
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:auth_tokens;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "jwt.secret=0123456789012345678901234567890123456789012345678901234567890123456789",
+    "app.invalidation.transport=loopback"
+})
+class AuthTokenServiceTests {
+
+    @Autowired
+    private AuthTokenService authTokenService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        RegisterRequest register = new RegisterRequest();
+        register.setUsername("tokens-" + System.nanoTime());
+        register.setPassword("secret123");
+        user = userService.register(register);
+    }
+
+    @Test
+    void refreshRotatesTheTokenPair() {
+        AuthTokenService.TokenPair first = authTokenService.issueTokens(user);
+
+        AuthTokenService.TokenPair second = authTokenService.refresh(first.refreshToken()).orElseThrow();
+        assertNotEquals(first.refreshToken(), second.refreshToken());
+        assertTrue(jwtProvider.validateToken(second.accessToken()));
+
+        // Döndürülen token da bir kez kullanılabilir
+        assertTrue(authTokenService.refresh(second.refreshToken()).isPresent());
+    }
+
+    @Test
+    void reusedRefreshTokenRevokesAllSessions() throws InterruptedException {
+        AuthTokenService.TokenPair first = authTokenService.issueTokens(user);
+        AuthTokenService.TokenPair second = authTokenService.refresh(first.refreshToken()).orElseThrow();
+        AuthTokenService.TokenPair otherSession = authTokenService.issueTokens(user);
+
+        assertTrue(authTokenService.refresh(first.refreshToken()).isEmpty());
+
+        assertFalse(jwtProvider.validateToken(second.accessToken()));
+        assertFalse(jwtProvider.validateToken(otherSession.accessToken()));
+        assertTrue(authTokenService.refresh(second.refreshToken()).isEmpty());
+        assertTrue(authTokenService.refresh(otherSession.refreshToken()).isEmpty());
+
+        // İptal milisaniye hassasiyetindedir: aynı saniye içinde sonradan açılan oturum geçerlidir
+        Thread.sleep(2);
+        assertTrue(jwtProvider.validateToken(authTokenService.issueTokens(user).accessToken()));
+    }
+
+    @Test
+    void logoutRevokesOnlyThatSession() {
+        AuthTokenService.TokenPair session = authTokenService.issueTokens(user);
+        AuthTokenService.TokenPair otherSession = authTokenService.issueTokens(user);
+
+        authTokenService.logout(session.accessToken(), session.refreshToken());
+
+        assertFalse(jwtProvider.validateToken(session.accessToken()));
+        assertTrue(jwtProvider.validateToken(otherSession.accessToken()));
+        assertTrue(authTokenService.refresh(otherSession.refreshToken()).isPresent());
+    }
+
+    @Test
+    void logoutRefreshTokenCannotBeUsedAgain() {
+        AuthTokenService.TokenPair session = authTokenService.issueTokens(user);
+
+        authTokenService.logout(session.accessToken(), session.refreshToken());
+
+        assertTrue(authTokenService.refresh(session.refreshToken()).isEmpty());
+    }
+
+    @Test
+    void unknownRefreshTokenIsRejected() {
+        assertTrue(authTokenService.refresh("bilinmeyen-token").isEmpty());
+        assertTrue(authTokenService.refresh(" ").isEmpty());
+    }
+}
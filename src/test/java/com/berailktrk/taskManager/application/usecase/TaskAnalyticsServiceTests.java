@@ -0,0 +1,187 @@
+package com.berailktrk.taskManager.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.berailktrk.taskManager.domain.model.Role;
+import com.berailktrk.taskManager.domain.model.Task;
+import com.berailktrk.taskManager.domain.model.TaskDailyRollup;
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+import com.berailktrk.taskManager.domain.model.TaskStatusTransition;
+import com.berailktrk.taskManager.domain.model.User;
+import com.berailktrk.taskManager.domain.repository.TaskDailyRollupRepository;
+import com.berailktrk.taskManager.domain.repository.TaskStatusTransitionRepository;
+import com.berailktrk.taskManager.domain.repository.UserRepository;
+
+// Teslim süresi histogramları: sıkıştırılmış kodlamanın geri okunması, bir günün tamamlanmalarının atanan kullanıcı
+// ve öncelik başına rollup'a dönüştürülmesi ve günlük histogramların gruplara göre birleştirilmesi.
+class TaskAnalyticsServiceTests {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+    private static final long ADMIN_ID = 1L;
+
+    private TaskStatusTransitionRepository transitionRepository;
+    private TaskDailyRollupRepository rollupRepository;
+    private TaskAnalyticsService service;
+
+    @BeforeEach
+    void setUp() {
+        transitionRepository = mock(TaskStatusTransitionRepository.class);
+        rollupRepository = mock(TaskDailyRollupRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        User admin = new User();
+        admin.setId(ADMIN_ID);
+        admin.setRole(Role.ROLE_ADMIN);
+        when(userRepository.findById(ADMIN_ID)).thenReturn(Optional.of(admin));
+
+        service = new TaskAnalyticsService(mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(service, "transitionRepository", transitionRepository);
+        ReflectionTestUtils.setField(service, "rollupRepository", rollupRepository);
+        ReflectionTestUtils.setField(service, "userRepository", userRepository);
+        ReflectionTestUtils.setField(service, "recomputeDays", 1);
+        ReflectionTestUtils.setField(service, "maxRangeDays", 366);
+        ReflectionTestUtils.setField(service, "significantDigits", 2);
+    }
+
+    @Test
+    void encodedHistogramDecodesToTheSameValues() {
+        Histogram histogram = histogram(60, 3_600, 3_600, 86_400, 30 * 86_400);
+
+        Histogram decoded = decode(encode(histogram));
+
+        assertEquals(histogram, decoded);
+        assertEquals(5, decoded.getTotalCount());
+        assertEquals(histogram.getValueAtPercentile(50), decoded.getValueAtPercentile(50));
+        assertEquals(histogram.getMaxValue(), decoded.getMaxValue());
+    }
+
+    @Test
+    void dayIsRolledUpPerAssigneeAndPriority() {
+        LocalDateTime completedAt = DAY.atTime(15, 0);
+        when(transitionRepository.findByToStatusBetween(TaskStatus.COMPLETED, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay()))
+            .thenReturn(List.of(
+                completion(7L, TaskPriority.HIGH, completedAt.minusHours(2), completedAt),
+                completion(7L, TaskPriority.HIGH, completedAt.minusHours(4), completedAt),
+                completion(7L, TaskPriority.LOW, completedAt.minusDays(3), completedAt),
+                completion(null, TaskPriority.HIGH, completedAt.minusMinutes(30), completedAt),
+                // Saat farkından dolayı tamamlanma oluşturmadan önce görünürse süre 0 sayılır
+                completion(null, TaskPriority.HIGH, completedAt.plusMinutes(1), completedAt)));
+
+        assertEquals(1, service.refreshRollups(DAY));
+
+        verify(rollupRepository).deleteByDay(DAY);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskDailyRollup>> saved = ArgumentCaptor.forClass(List.class);
+        verify(rollupRepository).saveAll(saved.capture());
+        List<TaskDailyRollup> rollups = saved.getValue().stream()
+            .sorted(Comparator.comparing(TaskDailyRollup::getAssigneeId).thenComparing(TaskDailyRollup::getPriority))
+            .toList();
+
+        assertEquals(3, rollups.size());
+        assertRollup(rollups.get(0), TaskDailyRollup.UNASSIGNED, TaskPriority.HIGH, 0, 1_800);
+        assertRollup(rollups.get(1), 7L, TaskPriority.LOW, Duration.ofDays(3).toSeconds());
+        assertRollup(rollups.get(2), 7L, TaskPriority.HIGH, 7_200, 14_400);
+    }
+
+    @Test
+    void dailyHistogramsAreMergedByGroup() {
+        when(rollupRepository.findInRange(eq(DAY), eq(DAY.plusDays(1)), any(), any())).thenReturn(List.of(
+            rollup(DAY, 7L, TaskPriority.HIGH, 100, 200),
+            rollup(DAY.plusDays(1), 7L, TaskPriority.HIGH, 300),
+            rollup(DAY, 8L, TaskPriority.LOW, 1_000),
+            rollup(DAY.plusDays(1), TaskDailyRollup.UNASSIGNED, TaskPriority.HIGH, 50, 60, 70, 80)));
+
+        List<TaskAnalyticsService.LeadTimeGroup> all = service.getLeadTimes(DAY, DAY.plusDays(1),
+            TaskAnalyticsService.GroupBy.NONE, null, null, List.of(50.0, 100.0), ADMIN_ID);
+        assertEquals(1, all.size());
+        assertEquals(8, all.get(0).count());
+        assertEquals(expected(1_000), all.get(0).maxSeconds());
+        assertEquals(Map.of(50.0, expected(80), 100.0, expected(1_000)), all.get(0).percentileSeconds());
+
+        List<TaskAnalyticsService.LeadTimeGroup> byAssignee = service.getLeadTimes(DAY, DAY.plusDays(1),
+            TaskAnalyticsService.GroupBy.ASSIGNEE, null, null, List.of(100.0), ADMIN_ID);
+        assertEquals(3, byAssignee.size());
+        // En çok görevi olan grup önce; atanmamış görevler null satırında
+        assertNull(byAssignee.get(0).assigneeId());
+        assertEquals(4, byAssignee.get(0).count());
+        assertEquals(7L, byAssignee.get(1).assigneeId());
+        assertEquals(3, byAssignee.get(1).count());
+        assertEquals(expected(300), byAssignee.get(1).maxSeconds());
+        assertNull(byAssignee.get(1).priority());
+
+        List<TaskAnalyticsService.LeadTimeGroup> byPriority = service.getLeadTimes(DAY, DAY.plusDays(1),
+            TaskAnalyticsService.GroupBy.PRIORITY, null, null, List.of(100.0), ADMIN_ID);
+        assertEquals(List.of(TaskPriority.HIGH, TaskPriority.LOW),
+            byPriority.stream().map(TaskAnalyticsService.LeadTimeGroup::priority).toList());
+        assertEquals(List.of(7L, 1L), byPriority.stream().map(TaskAnalyticsService.LeadTimeGroup::count).toList());
+    }
+
+    private void assertRollup(TaskDailyRollup rollup, long assigneeId, TaskPriority priority, long... seconds) {
+        assertEquals(DAY, rollup.getDay());
+        assertEquals(assigneeId, rollup.getAssigneeId());
+        assertEquals(priority, rollup.getPriority());
+        assertEquals(seconds.length, rollup.getCompletedCount());
+        assertEquals(histogram(seconds), decode(rollup.getLeadTimeHistogram()));
+    }
+
+    private TaskStatusTransition completion(Long assigneeId, TaskPriority priority, LocalDateTime createdAt,
+                                            LocalDateTime completedAt) {
+        Task task = new Task();
+        task.setId(1L);
+        task.setStatus(TaskStatus.COMPLETED);
+        task.setPriority(priority);
+        task.setCreatedAt(createdAt);
+        if (assigneeId != null) {
+            User assignee = new User();
+            assignee.setId(assigneeId);
+            task.setAssignedTo(assignee);
+        }
+        return new TaskStatusTransition(task, TaskStatus.IN_PROGRESS, ADMIN_ID, completedAt);
+    }
+
+    private TaskDailyRollup rollup(LocalDate day, long assigneeId, TaskPriority priority, long... seconds) {
+        return new TaskDailyRollup(day, assigneeId, priority, seconds.length, encode(histogram(seconds)), LocalDateTime.now());
+    }
+
+    // Histogram hassasiyetinde beklenen değer (significant-digits=2)
+    private long expected(long seconds) {
+        return histogram(seconds).getMaxValue();
+    }
+
+    private Histogram histogram(long... seconds) {
+        Histogram histogram = (Histogram) ReflectionTestUtils.invokeMethod(service, "newHistogram");
+        for (long value : seconds) {
+            histogram.recordValue(value);
+        }
+        return histogram;
+    }
+
+    private static byte[] encode(Histogram histogram) {
+        return ReflectionTestUtils.invokeMethod(TaskAnalyticsService.class, "encode", histogram);
+    }
+
+    private static Histogram decode(byte[] bytes) {
+        return ReflectionTestUtils.invokeMethod(TaskAnalyticsService.class, "decode", (Object) bytes);
+    }
+}
@@ -0,0 +1,151 @@
+package com.berailktrk.taskManager.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.berailktrk.taskManager.domain.model.Role;
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+import com.berailktrk.taskManager.domain.model.User;
+import com.berailktrk.taskManager.domain.repository.LabelExpression;
+import com.berailktrk.taskManager.domain.repository.TaskFacets;
+import com.berailktrk.taskManager.domain.repository.TaskRepository;
+import com.berailktrk.taskManager.domain.repository.TaskSearchCriteria;
+import com.berailktrk.taskManager.domain.repository.UserRepository;
+import com.berailktrk.taskManager.presentation.dto.RegisterRequest;
+import com.berailktrk.taskManager.presentation.dto.TaskRequest;
+
+// Facet sayımlarının iki yolu aynı sonucu vermeli: kolon index'indeki tek tarama ve index hazır değilken
+// kullanılan gruplu JPA sorgusu. Oluşturma, güncelleme ve silmeden sonra da durum, öncelik, atanan kullanıcı ve
+// bitiş tarihi aralıkları aynı sayılmalı.
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:column_facets;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "jwt.secret=0123456789012345678901234567890123456789012345678901234567890123456789",
+    "app.invalidation.transport=loopback"
+})
+class TaskColumnFacetsTests {
+
+    private static final int ASSIGNEE_LIMIT = 20;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskColumnIndex taskColumnIndex;
+
+    @Autowired
+    private TaskLabelIndex taskLabelIndex;
+
+    private Long adminId;
+    private Long memberId;
+    private Long otherId;
+
+    @BeforeEach
+    void setUp() {
+        User admin = register("admin");
+        admin.setRole(Role.ROLE_ADMIN);
+        adminId = userRepository.save(admin).getId();
+        memberId = register("member").getId();
+        otherId = register("other").getId();
+    }
+
+    @Test
+    void indexAndJpaFacetsMatch() {
+        LocalDateTime now = LocalDateTime.now();
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        Long[] assignees = {null, memberId, otherId, memberId};
+        // Sınırlar üç gün sonrasına göre hesaplanır; ilk tarihler o ana göre geçmiş veya bugün içinde kalır
+        LocalDateTime[] dueDates = {null, now.plusHours(1), now.plusDays(2), now.plusDays(3).plusMinutes(5),
+            now.plusDays(5), now.plusDays(12), now.plusDays(40)};
+
+        List<Long> taskIds = new ArrayList<>();
+        for (int i = 0; i < 28; i++) {
+            TaskRequest request = new TaskRequest();
+            request.setTitle("Facet testi " + i);
+            request.setStatus(statuses[i % statuses.length]);
+            request.setPriority(priorities[(i / 2) % priorities.length]);
+            request.setAssignedToUserId(assignees[i % assignees.length]);
+            request.setDueDate(dueDates[i % dueDates.length]);
+            Long taskId = taskService.createTask(request, adminId).getId();
+            taskIds.add(taskId);
+            if (i % 3 == 0) {
+                taskService.setTaskLabels(taskId, List.of("backend"), adminId);
+            }
+        }
+        // Üyenin kendi oluşturduğu görev: kullanıcı filtresinde oluşturan olarak sayılır
+        TaskRequest own = new TaskRequest();
+        own.setTitle("Kendi görevi");
+        own.setPriority(TaskPriority.LOW);
+        own.setDueDate(now.plusDays(6));
+        taskIds.add(taskService.createTask(own, memberId).getId());
+
+        // Sonradan değişen ve silinen görevler iki yolda da aynı görünmeli
+        TaskRequest change = new TaskRequest();
+        change.setTitle("Değişen görev");
+        change.setPriority(TaskPriority.URGENT);
+        change.setAssignedToUserId(otherId);
+        change.setDueDate(now.plusDays(20));
+        taskService.updateTask(taskIds.get(1), change, adminId);
+        taskService.deleteTask(taskIds.get(2), adminId);
+
+        TaskFacets.DueBoundaries boundaries = TaskFacets.DueBoundaries.at(now.plusDays(3));
+        List<TaskColumnIndex.Filter> filters = List.of(
+            new TaskColumnIndex.Filter(null, null, null),
+            new TaskColumnIndex.Filter(TaskStatus.IN_PROGRESS, null, null),
+            new TaskColumnIndex.Filter(null, TaskPriority.HIGH, null),
+            new TaskColumnIndex.Filter(TaskStatus.PENDING, TaskPriority.LOW, null),
+            new TaskColumnIndex.Filter(null, null, memberId),
+            new TaskColumnIndex.Filter(TaskStatus.COMPLETED, null, otherId));
+
+        for (TaskColumnIndex.Filter filter : filters) {
+            TaskFacets fromIndex = taskColumnIndex.facets(filter, null, boundaries, ASSIGNEE_LIMIT).orElseThrow();
+            TaskFacets fromJpa = taskRepository.countFacets(
+                new TaskSearchCriteria(null, filter.status(), filter.priority(), filter.userId()), boundaries, ASSIGNEE_LIMIT);
+            assertEquals(fromJpa, fromIndex, filter.toString());
+        }
+        TaskFacets all = taskColumnIndex.facets(filters.get(0), null, boundaries, ASSIGNEE_LIMIT).orElseThrow();
+        assertEquals(28, all.total());
+        assertEquals(6, all.due().get(TaskFacets.DueBucket.PAST_DUE));
+
+        // Etiket filtresi: index yolu sadece etiket bitmap'indeki görevleri gezer
+        LabelExpression backend = LabelExpression.parse("backend");
+        RoaringBitmap labelled = taskLabelIndex.evaluate(backend).orElseThrow();
+        for (TaskColumnIndex.Filter filter : filters) {
+            TaskFacets fromIndex = taskColumnIndex.facets(filter, labelled, boundaries, ASSIGNEE_LIMIT).orElseThrow();
+            TaskFacets fromJpa = taskRepository.countFacets(
+                new TaskSearchCriteria(null, filter.status(), filter.priority(), filter.userId(), null, backend),
+                boundaries, ASSIGNEE_LIMIT);
+            assertEquals(fromJpa, fromIndex, "backend " + filter);
+        }
+    }
+
+    private User register(String name) {
+        RegisterRequest register = new RegisterRequest();
+        register.setUsername(name + "-" + System.nanoTime());
+        register.setPassword("secret123");
+        return userService.register(register);
+    }
+}
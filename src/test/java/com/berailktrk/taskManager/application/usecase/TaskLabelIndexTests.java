@@ -0,0 +1,136 @@
+package com.berailktrk.taskManager.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import com.berailktrk.taskManager.domain.repository.LabelExpression;
+import com.berailktrk.taskManager.infrastructure.invalidation.LoopbackInvalidationBus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Etiket bitmap index'i bellek içi bir veritabanından kurulur: AND/OR/NOT değerlendirmesi, commit sonrası
+// değişiklikler ve yeniden kurulum sürerken gelen değişikliklerin yeni index'e tekrar uygulanması.
+class TaskLabelIndexTests {
+
+    private DataSource dataSource;
+    private Runnable beforeLoad = () -> { };
+    private TaskLabelIndex index;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:labels;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE tasks (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE labels (id BIGINT PRIMARY KEY, name VARCHAR(64))");
+        jdbcTemplate.execute("CREATE TABLE task_labels (task_id BIGINT, label_id BIGINT)");
+        for (long taskId = 1; taskId <= 6; taskId++) {
+            jdbcTemplate.update("INSERT INTO tasks VALUES (?)", taskId);
+        }
+        jdbcTemplate.update("INSERT INTO labels VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+        // 1{a,b} 2{a} 3{b,c} 4{c} 5{} 6{a,c}; 99 arşivde olduğu için index'e girmez
+        jdbcTemplate.update("INSERT INTO task_labels VALUES (1, 1), (1, 2), (2, 1), (3, 2), (3, 3), (4, 3), (6, 1), (6, 3), (99, 1)");
+
+        DataSourceTransactionManager delegate = new DataSourceTransactionManager(dataSource);
+        PlatformTransactionManager transactionManager = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                beforeLoad.run();
+                return delegate.getTransaction(definition);
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                delegate.commit(status);
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                delegate.rollback(status);
+            }
+        };
+        index = new TaskLabelIndex(null, null, dataSource, transactionManager,
+            new LoopbackInvalidationBus(500, 7900, 100, new SimpleMeterRegistry()), 100);
+        ReflectionTestUtils.setField(index, "enabled", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+    }
+
+    @Test
+    void indexIsUnavailableUntilBuilt() {
+        assertTrue(index.evaluate(LabelExpression.parse("a")).isEmpty());
+        assertTrue(index.labelCounts().isEmpty());
+    }
+
+    @Test
+    void expressionsAreEvaluatedOverActiveTasks() {
+        index.rebuild();
+
+        assertEquals(List.of(1L, 2L, 6L), matching("a"));
+        assertEquals(List.of(1L), matching("a AND b"));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 6L), matching("a OR c"));
+        assertEquals(List.of(3L, 4L, 5L), matching("NOT a"));
+        assertEquals(List.of(1L, 2L), matching("a NOT c"));
+        assertEquals(List.of(3L, 4L), matching("NOT a AND NOT (b AND NOT c) AND NOT NOT c"));
+        assertEquals(List.of(5L), matching("NOT (a OR b OR c)"));
+        assertEquals(List.of(1L, 3L, 4L), matching("(a AND b) OR c AND NOT a"));
+        assertEquals(List.of(), matching("missing"));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), matching("NOT missing"));
+        assertEquals(Map.of("a", 3L, "b", 2L, "c", 3L), index.labelCounts().orElseThrow());
+    }
+
+    @Test
+    void changesAreAppliedToTheIndex() {
+        index.rebuild();
+
+        index.onTaskLabelsChanged(2L, List.of("b", "d"));
+        index.onTaskCreated(7L);
+        index.onTasksRemoved(List.of(1L));
+
+        assertEquals(List.of(6L), matching("a"));
+        assertEquals(List.of(2L, 3L), matching("b"));
+        assertEquals(List.of(2L), matching("d"));
+        assertEquals(List.of(4L, 5L, 7L), matching("NOT a AND NOT b"));
+        assertEquals(Map.of("a", 1L, "b", 2L, "c", 3L, "d", 1L), index.labelCounts().orElseThrow());
+    }
+
+    @Test
+    void changesDuringRebuildAreReplayedOntoTheNewIndex() {
+        index.rebuild();
+
+        // Kurulum başladıktan sonra commit olan ama yüklenen veriye yansımamış yazmalar: yeni index bunları kaybetmemeli
+        beforeLoad = () -> {
+            beforeLoad = () -> { };
+            index.onTaskLabelsChanged(4L, Set.of("a", "c"));
+            index.onTaskCreated(7L);
+            index.onTasksRemoved(List.of(6L));
+        };
+        index.rebuild();
+
+        assertEquals(List.of(1L, 2L, 4L), matching("a"));
+        assertEquals(List.of(2L, 4L, 5L, 7L), matching("NOT b"));
+    }
+
+    private List<Long> matching(String expression) {
+        return TaskLabelIndex.toTaskIds(index.evaluate(LabelExpression.parse(expression)).orElseThrow());
+    }
+}
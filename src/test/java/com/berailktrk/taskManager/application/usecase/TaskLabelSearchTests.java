@@ -0,0 +1,137 @@
+package com.berailktrk.taskManager.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+
+import com.berailktrk.taskManager.domain.model.Task;
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.repository.LabelExpression;
+import com.berailktrk.taskManager.domain.repository.LabelRepository;
+import com.berailktrk.taskManager.domain.repository.TaskRepository;
+import com.berailktrk.taskManager.domain.repository.TaskSearchCriteria;
+import com.berailktrk.taskManager.presentation.dto.RegisterRequest;
+import com.berailktrk.taskManager.presentation.dto.TaskRequest;
+
+// Etiket aramasının iki yolu aynı sonucu vermeli: bitmap index'i ve index hazır değilken kullanılan SQL EXISTS
+// alt sorguları. Ayrıca aynı yeni etiketi eşzamanlı kullanan istekler birbirini hataya düşürmemeli.
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:label_search;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "jwt.secret=0123456789012345678901234567890123456789012345678901234567890123456789",
+    "app.invalidation.transport=loopback"
+})
+class TaskLabelSearchTests {
+
+    private static final List<String> EXPRESSIONS = List.of(
+        "backend", "backend AND urgent", "backend OR frontend", "NOT backend", "backend urgent NOT blocked",
+        "(backend OR frontend) AND NOT (urgent OR blocked)", "NOT (backend OR frontend OR urgent OR blocked)",
+        "missing", "NOT missing OR backend");
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private TaskLabelIndex taskLabelIndex;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        RegisterRequest register = new RegisterRequest();
+        register.setUsername("labels-" + System.nanoTime());
+        register.setPassword("secret123");
+        userId = userService.register(register).getId();
+    }
+
+    @Test
+    void indexAndSqlFallbackReturnTheSameTasks() {
+        List<List<String>> labelSets = List.of(
+            List.of("backend"), List.of("backend", "urgent"), List.of("backend", "urgent", "blocked"),
+            List.of("frontend"), List.of("frontend", "blocked"), List.of(), List.of("urgent"), List.of("backend", "frontend"));
+        for (List<String> labels : labelSets) {
+            taskService.setTaskLabels(createTask(), labels, userId);
+        }
+        // Sonradan değişen etiketler de iki yolda aynı görünmeli
+        Long changed = createTask();
+        taskService.setTaskLabels(changed, List.of("backend", "blocked"), userId);
+        taskService.setTaskLabels(changed, List.of("frontend"), userId);
+
+        for (String text : EXPRESSIONS) {
+            LabelExpression expression = LabelExpression.parse(text);
+            Set<Long> fromIndex = new TreeSet<>(TaskLabelIndex.toTaskIds(taskLabelIndex.evaluate(expression).orElseThrow()));
+            Set<Long> fromSql = taskRepository.findTasks(new TaskSearchCriteria(null, null, null, null, null, expression),
+                    Pageable.unpaged()).stream()
+                .map(Task::getId)
+                .collect(Collectors.toCollection(TreeSet::new));
+            assertEquals(fromSql, fromIndex, text);
+        }
+    }
+
+    @Test
+    void concurrentFirstUseOfTheSameLabelSucceeds() throws Exception {
+        int requests = 8;
+        List<Long> taskIds = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            taskIds.add(createTask());
+        }
+        List<String> labels = List.of("race-a", "race-b", "race-c");
+
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (Long taskId : taskIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return taskService.setTaskLabels(taskId, labels, userId);
+                }));
+            }
+            start.countDown();
+            for (Future<List<String>> future : futures) {
+                assertEquals(labels, future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(3, labelRepository.findByNameIn(labels).size());
+        for (Long taskId : taskIds) {
+            assertEquals(labels, taskService.getTaskLabels(taskId, userId));
+        }
+    }
+
+    private Long createTask() {
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Etiket testi");
+        request.setPriority(TaskPriority.MEDIUM);
+        return taskService.createTask(request, userId).getId();
+    }
+}
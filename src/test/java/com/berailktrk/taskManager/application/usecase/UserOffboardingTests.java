@@ -0,0 +1,256 @@
+package com.berailktrk.taskManager.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.berailktrk.taskManager.domain.model.Role;
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.model.User;
+import com.berailktrk.taskManager.domain.model.UserOffboardingJob;
+import com.berailktrk.taskManager.domain.repository.ArchivedTaskRepository;
+import com.berailktrk.taskManager.domain.repository.UserOffboardingJobRepository;
+import com.berailktrk.taskManager.domain.repository.UserRepository;
+import com.berailktrk.taskManager.presentation.dto.RegisterRequest;
+import com.berailktrk.taskManager.presentation.dto.TaskRequest;
+
+// Kullanıcı silme işi: görevlerin devredilmesi veya silinip atamaların kaldırılması, kullanıcının sadece görevi
+// kalmadığında silinmesi, tur sınırı, işin tek bir yürütücü tarafından sahiplenilmesi ve heartbeat'i eskiyen işin devralınması.
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:offboarding;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "jwt.secret=0123456789012345678901234567890123456789012345678901234567890123456789",
+    "app.invalidation.transport=loopback",
+    "app.offboarding.lease=2m",
+    "app.offboarding.recovery-interval-ms=3600000"
+})
+class UserOffboardingTests {
+
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    @Autowired
+    private UserOffboardingService offboardingService;
+
+    @Autowired
+    private UserOffboardingJobRepository jobRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long adminId;
+    private Long targetId;
+    private Long otherId;
+    private Long createdTaskId;
+    private Long assignedTaskId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        User admin = register("admin");
+        admin.setRole(Role.ROLE_ADMIN);
+        adminId = userRepository.save(admin).getId();
+        targetId = register("target").getId();
+        otherId = register("other").getId();
+
+        // Biri silinen kullanıcının oluşturduğu, diğeri admin'in oluşturup ona atadığı görev
+        createdTaskId = createTask(targetId, null);
+        assignedTaskId = createTask(adminId, targetId);
+    }
+
+    @Test
+    void reassignMovesCreatedAndAssignedTasksThenDeletesTheUser() {
+        UserOffboardingJob job = awaitFinished(offboardingService.startOffboarding(
+            adminId, targetId, UserOffboardingJob.TaskAction.REASSIGN, otherId).getId());
+
+        assertEquals(UserOffboardingJob.Status.COMPLETED, job.getStatus());
+        assertEquals(2, job.getReassignedTasks());
+        assertEquals(Arrays.asList(otherId, null), owners(createdTaskId));
+        assertEquals(Arrays.asList(adminId, otherId), owners(assignedTaskId));
+        assertFalse(userRepository.existsById(targetId));
+    }
+
+    @Test
+    void deleteRemovesCreatedTasksAndClearsAssignments() {
+        UserOffboardingJob job = awaitFinished(offboardingService.startOffboarding(
+            adminId, targetId, UserOffboardingJob.TaskAction.DELETE, null).getId());
+
+        assertEquals(UserOffboardingJob.Status.COMPLETED, job.getStatus());
+        assertEquals(1, job.getDeletedTasks());
+        assertEquals(1, job.getUnassignedTasks());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE id = ?", Integer.class, createdTaskId));
+        // Başkasının oluşturduğu görev silinmez, sadece ataması kaldırılır
+        assertEquals(Arrays.asList(adminId, null), owners(assignedTaskId));
+        assertFalse(userRepository.existsById(targetId));
+    }
+
+    @Test
+    void userIsKeptAndJobFailsWhileTasksRemainAfterTheLastRound() {
+        // Arşivde her turda yeni bir görev belirmiş gibi: kullanıcı silinmemeli, iş tur sınırında bitmeli
+        ArchivedTaskRepository archivedTasks = (ArchivedTaskRepository) ReflectionTestUtils.getField(
+            offboardingService, "archivedTaskRepository");
+        ArchivedTaskRepository remaining = mock(ArchivedTaskRepository.class);
+        when(remaining.countByCreatedByOrAssignedToUserId(anyLong())).thenReturn(1L);
+        ReflectionTestUtils.setField(offboardingService, "archivedTaskRepository", remaining);
+        try {
+            UserOffboardingJob job = awaitFinished(offboardingService.startOffboarding(
+                adminId, targetId, UserOffboardingJob.TaskAction.DELETE, null).getId());
+
+            assertEquals(UserOffboardingJob.Status.FAILED, job.getStatus());
+            assertTrue(job.getError().contains("yeni görevler oluşturuldu"), job.getError());
+            // Başlangıçtaki toplam sayım + üç turun her birinin sonundaki kontrol
+            verify(remaining, times(4)).countByCreatedByOrAssignedToUserId(targetId);
+        } finally {
+            ReflectionTestUtils.setField(offboardingService, "archivedTaskRepository", archivedTasks);
+        }
+
+        assertTrue(userRepository.existsById(targetId));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE id = ?", Integer.class, createdTaskId));
+    }
+
+    @Test
+    void onlyOneClaimWinsUntilTheHeartbeatGoesStale() throws Exception {
+        String jobId = jobRepository.save(
+            new UserOffboardingJob(targetId, UserOffboardingJob.TaskAction.DELETE, null, adminId, 0)).getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        int claimers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(claimers);
+        CountDownLatch start = new CountDownLatch(1);
+        int won = 0;
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < claimers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return claim(jobId, now);
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> future : futures) {
+                won += future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, won);
+
+        // Heartbeat taze olduğu sürece iş başka yürütücüye verilmez; lease dolunca devralınabilir
+        assertFalse(jobRepository.findStaleIds(List.of(UserOffboardingJob.Status.RUNNING), now.minus(LEASE)).contains(jobId));
+        assertEquals(0, claim(jobId, now.plusSeconds(1)));
+        LocalDateTime later = now.plus(LEASE).plusSeconds(1);
+        assertTrue(jobRepository.findStaleIds(List.of(UserOffboardingJob.Status.RUNNING), later.minus(LEASE)).contains(jobId));
+        assertEquals(1, claim(jobId, later));
+    }
+
+    @Test
+    void jobWithAStaleHeartbeatIsResumedAndCompleted() {
+        // Çöken bir instance'ın yarım bıraktığı iş: RUNNING ama heartbeat lease süresinden eski
+        String staleJobId = jobRepository.save(
+            new UserOffboardingJob(targetId, UserOffboardingJob.TaskAction.REASSIGN, otherId, adminId, 2)).getId();
+        assertEquals(1, claim(staleJobId, LocalDateTime.now().minus(LEASE).minusMinutes(1)));
+
+        // Heartbeat'i taze olan iş başka bir instance'ta sürüyor sayılır ve devralınmaz
+        Long busyUserId = register("busy").getId();
+        String busyJobId = jobRepository.save(
+            new UserOffboardingJob(busyUserId, UserOffboardingJob.TaskAction.DELETE, null, adminId, 0)).getId();
+        assertEquals(1, claim(busyJobId, LocalDateTime.now()));
+
+        offboardingService.recoverStaleJobs();
+
+        UserOffboardingJob job = awaitFinished(staleJobId);
+        assertEquals(UserOffboardingJob.Status.COMPLETED, job.getStatus());
+        assertEquals(Arrays.asList(otherId, null), owners(createdTaskId));
+        assertFalse(userRepository.existsById(targetId));
+
+        // İşler tek thread'de sırayla yürüdüğü için devralınan iş bittiğinde diğeri de ele alınmış olurdu
+        UserOffboardingJob busy = jobRepository.findById(busyJobId).orElseThrow();
+        assertEquals(UserOffboardingJob.Status.RUNNING, busy.getStatus());
+        assertNull(busy.getFinishedAt());
+        assertTrue(userRepository.existsById(busyUserId));
+    }
+
+    private int claim(String jobId, LocalDateTime now) {
+        return transactionTemplate.execute(status -> jobRepository.claim(jobId, now, now.minus(LEASE)));
+    }
+
+    private UserOffboardingJob awaitFinished(String jobId) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (System.nanoTime() < deadline) {
+            UserOffboardingJob job = jobRepository.findById(jobId).orElseThrow();
+            if (job.isFinished()) {
+                return job;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new AssertionError("Kullanıcı silme işi bitmedi: " + jobId);
+    }
+
+    // [created_by, assigned_to]
+    private List<Long> owners(Long taskId) {
+        return jdbcTemplate.queryForObject("SELECT created_by, assigned_to FROM tasks WHERE id = ?",
+            (rs, rowNum) -> Arrays.asList(rs.getObject(1, Long.class), rs.getObject(2, Long.class)), taskId);
+    }
+
+    private User register(String name) {
+        RegisterRequest register = new RegisterRequest();
+        register.setUsername(name + "-" + System.nanoTime());
+        register.setPassword("secret123");
+        return userService.register(register);
+    }
+
+    private Long createTask(Long creatorId, Long assigneeId) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Devir testi");
+        request.setPriority(TaskPriority.MEDIUM);
+        request.setAssignedToUserId(assigneeId);
+        return taskService.createTask(request, creatorId).getId();
+    }
+}
@@ -0,0 +1,100 @@
+package com.berailktrk.taskManager.domain.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.berailktrk.taskManager.domain.repository.LabelExpression.And;
+import com.berailktrk.taskManager.domain.repository.LabelExpression.Label;
+import com.berailktrk.taskManager.domain.repository.LabelExpression.Not;
+import com.berailktrk.taskManager.domain.repository.LabelExpression.Or;
+
+// Etiket ifadesi ayrıştırıcısı: öncelik (NOT > AND > OR), örtük AND, parantezler, anahtar kelimelerin
+// büyük/küçük harf duyarsızlığı ve hatalı ifadelerin mesajları.
+class LabelExpressionTests {
+
+    @Test
+    void singleLabelIsNormalized() {
+        assertEquals(label("backend"), LabelExpression.parse("  BackEnd "));
+    }
+
+    @Test
+    void andBindsTighterThanOr() {
+        assertEquals(or(label("a"), and(label("b"), label("c"))), LabelExpression.parse("a OR b AND c"));
+        assertEquals(or(and(label("a"), label("b")), label("c")), LabelExpression.parse("a AND b OR c"));
+    }
+
+    @Test
+    void notBindsTighterThanAnd() {
+        assertEquals(and(not(label("a")), label("b")), LabelExpression.parse("NOT a AND b"));
+        assertEquals(not(not(label("a"))), LabelExpression.parse("not not a"));
+    }
+
+    @Test
+    void adjacentTermsAreJoinedWithAnd() {
+        assertEquals(and(label("backend"), label("urgent-customer"), not(label("blocked"))),
+            LabelExpression.parse("backend urgent-customer NOT blocked"));
+        assertEquals(or(and(label("a"), label("b")), label("c")), LabelExpression.parse("a b or c"));
+    }
+
+    @Test
+    void parenthesesOverridePrecedence() {
+        assertEquals(and(or(label("api"), label("web")), not(label("wontfix"))),
+            LabelExpression.parse("(api OR web) AND NOT wontfix"));
+        assertEquals(not(or(label("a"), label("b"))), LabelExpression.parse("NOT(a or b)"));
+        assertEquals(and(label("a"), or(label("b"), label("c"))), LabelExpression.parse("a(b OR c)"));
+    }
+
+    @Test
+    void labelNamesAreCollectedInOrder() {
+        assertEquals(List.of("a", "b", "c"), List.copyOf(LabelExpression.parse("(a OR b) NOT c a").labelNames()));
+    }
+
+    @Test
+    void invalidExpressionsAreRejected() {
+        assertError("", "ifade boş");
+        assertError("a AND", "ifade eksik");
+        assertError("NOT", "ifade eksik");
+        assertError("(a OR b", "')' eksik");
+        assertError("a OR b)", "beklenmeyen ')'");
+        assertError("AND a", "beklenmeyen 'AND'");
+        assertError("a OR OR b", "beklenmeyen 'OR'");
+        assertError("()", "beklenmeyen ')'");
+        assertError("a$b", "Geçersiz etiket adı");
+        assertError("a".repeat(LabelExpression.MAX_NAME_LENGTH + 1), "Geçersiz etiket adı");
+        assertError("a ".repeat(LabelExpression.MAX_EXPRESSION_LENGTH), "en fazla");
+    }
+
+    @Test
+    void keywordsAreNotValidLabelNames() {
+        for (String keyword : Set.of("and", "Or", "NOT")) {
+            assertThrows(RuntimeException.class, () -> LabelExpression.normalizeName(keyword));
+        }
+    }
+
+    private static void assertError(String text, String expectedMessagePart) {
+        RuntimeException error = assertThrows(RuntimeException.class, () -> LabelExpression.parse(text));
+        assertTrue(error.getMessage().contains(expectedMessagePart), error.getMessage());
+    }
+
+    private static LabelExpression label(String name) {
+        return new Label(name);
+    }
+
+    private static LabelExpression and(LabelExpression... operands) {
+        return new And(List.of(operands));
+    }
+
+    private static LabelExpression or(LabelExpression... operands) {
+        return new Or(List.of(operands));
+    }
+
+    private static LabelExpression not(LabelExpression operand) {
+        return new Not(operand);
+    }
+}
@@ -0,0 +1,130 @@
+package com.berailktrk.taskManager.infrastructure.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Eşzamanlı aynı okumalar tek yüklemede birleşir, hata bekleyen herkese iletilir, sonuç saklanmaz ve
+// farklı anahtarlar birbirini beklemez.
+class SingleFlightTests {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(meterRegistry);
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Object result = new Object();
+
+        List<Future<Object>> futures = callConcurrently(() -> {
+            loads.incrementAndGet();
+            await(release);
+            return result;
+        });
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<Object> future : futures) {
+            assertSame(result, future.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+
+        // Sonuç saklanmaz: yükleme bittikten sonraki çağrı yeniden yükler
+        singleFlight.execute("op", List.of(1L), loads::incrementAndGet);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void failureIsPropagatedToEveryWaitingCaller() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Object>> futures = callConcurrently(() -> {
+            await(release);
+            throw new RuntimeException("Görev bulunamadı");
+        });
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<Object> future : futures) {
+            ExecutionException error = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+            assertEquals("Görev bulunamadı", error.getCause().getMessage());
+        }
+
+        // Hata da saklanmaz; anahtar serbest kalmıştır
+        assertEquals("tekrar", singleFlight.execute("op", List.of(1L), () -> "tekrar"));
+    }
+
+    @Test
+    void differentArgumentsLoadSeparately() {
+        AtomicInteger loads = new AtomicInteger();
+
+        // Dıştaki yükleme sürerken farklı anahtarla gelen çağrı beklemeden kendi yüklemesini yapar
+        Object outer = singleFlight.execute("op", List.of(1L), () -> {
+            loads.incrementAndGet();
+            return singleFlight.execute("op", List.of(2L), loads::incrementAndGet);
+        });
+
+        assertEquals(2, outer);
+        assertEquals(2, loads.get());
+    }
+
+    private List<Future<Object>> callConcurrently(Supplier<Object> loader) {
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> singleFlight.execute("op", List.of(1L), loader)));
+        }
+        return futures;
+    }
+
+    // Lider yükleme yaparken diğer çağıranların bekleyen tarafa geçmesi beklenir
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (coalesced() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, coalesced());
+    }
+
+    private double coalesced() {
+        return meterRegistry.counter("taskmanager.singleflight.coalesced", "operation", "op").count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.berailktrk.taskManager.infrastructure.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// İki ayrı bellek içi veritabanıyla (primary ve replica) yönlendirme kuralları: read-only transaction replica'ya,
+// gecikme max-lag'i aşınca primary'ye, kullanıcının yazmasından sonraki pencere içinde yine primary'ye gider.
+class ReplicaRoutingDataSourceTests {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaHealth replicaHealth;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        // Replica'nın gecikmesi testte bu tablodan okunur
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_lag (seconds DOUBLE)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_lag VALUES (0)");
+
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(MAX_LAG);
+        replicaHealth = new ReplicaHealth(replica, "SELECT seconds FROM replica_lag", MAX_LAG, tracker);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, replicaHealth, tracker);
+        routing.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+        assertEquals("primary", readWrite.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = ?", MAX_LAG.toSeconds() + 1);
+        replicaHealth.checkLag();
+        assertEquals("primary", readOnly.execute(status -> currentDatabase()));
+
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 0");
+        replicaHealth.checkLag();
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimary() {
+        new JdbcTemplate(replica).execute("DROP TABLE replica_lag");
+        replicaHealth.checkLag();
+        assertEquals("primary", readOnly.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void readsAfterOwnWriteArePinnedToPrimary() {
+        authenticate(42L);
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO writes VALUES (42)"));
+        assertEquals(List.of(42L), new JdbcTemplate(primary).queryForList("SELECT user_id FROM writes", Long.class));
+
+        // Yazan kullanıcı pencere boyunca primary'den okur, diğer kullanıcılar replica'dan okumaya devam eder
+        assertEquals("primary", readOnly.execute(status -> currentDatabase()));
+        authenticate(7L);
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinReads() {
+        authenticate(42L);
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO writes VALUES (42)");
+            status.setRollbackOnly();
+        });
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class);
+    }
+
+    private void authenticate(Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE db_role (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO db_role VALUES (?)", name);
+        jdbcTemplate.execute("CREATE TABLE writes (user_id BIGINT)");
+        return dataSource;
+    }
+}
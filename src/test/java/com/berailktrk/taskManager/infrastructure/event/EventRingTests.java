@@ -0,0 +1,194 @@
+package com.berailktrk.taskManager.infrastructure.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Halkanın eşzamanlı üretici/tüketici davranışı: kayıp ya da çift olay olmaması, DROP_NEWEST/DROP_OLDEST
+// sayaçları, BLOCK zaman aşımı ve işlenen slotların boşaltılması.
+class EventRingTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EventRing<Long> ring;
+
+    @AfterEach
+    void tearDown() {
+        if (ring != null) {
+            ring.stop();
+        }
+    }
+
+    @Test
+    void concurrentProducersDeliverEveryEventExactlyOnceToEachConsumer() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        // Küçük halka üreticileri sürekli tüketicileri beklemeye zorlar
+        ring = new EventRing<>("test", 64, EventRing.Backpressure.BLOCK, Duration.ofSeconds(10), meterRegistry);
+        List<Long> first = Collections.synchronizedList(new ArrayList<>());
+        List<Long> second = Collections.synchronizedList(new ArrayList<>());
+        ring.addConsumer("first", 16, first::addAll);
+        ring.addConsumer("second", 5, second::addAll);
+        ring.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                long base = (long) p * perProducer;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        assertTrue(ring.publish(base + i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        ring.stop();
+
+        for (List<Long> received : List.of(first, second)) {
+            assertEquals(producers * perProducer, received.size());
+            assertEquals(producers * perProducer, received.stream().distinct().count());
+            // Her üreticinin olayları kendi yayın sırasıyla gelir
+            long[] last = new long[producers];
+            Arrays.fill(last, -1);
+            for (long event : received) {
+                int producer = (int) (event / perProducer);
+                assertTrue(event > last[producer]);
+                last[producer] = event;
+            }
+        }
+        assertEquals(producers * perProducer, counter("taskmanager.events.published", null));
+        assertEquals(0, counter("taskmanager.events.dropped", "all"));
+        assertEquals(0, ring.retainedEvents());
+    }
+
+    @Test
+    void dropNewestRejectsWhenFullAndCountsRejections() {
+        ring = new EventRing<>("test", 8, EventRing.Backpressure.DROP_NEWEST, Duration.ZERO, meterRegistry);
+        List<Long> received = Collections.synchronizedList(new ArrayList<>());
+        ring.addConsumer("consumer", 4, received::addAll);
+
+        // Tüketici henüz başlamadığı için halka 8 olayda dolar
+        int accepted = 0;
+        for (long i = 0; i < 20; i++) {
+            if (ring.publish(i)) {
+                accepted++;
+            }
+        }
+        assertEquals(8, accepted);
+        assertEquals(12, counter("taskmanager.events.dropped", "all"));
+
+        ring.start();
+        ring.stop();
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L), received);
+        assertEquals(0, counter("taskmanager.events.dropped", "consumer"));
+    }
+
+    @Test
+    void dropOldestOverwritesAndCountsSkippedEventsPerConsumer() {
+        ring = new EventRing<>("test", 8, EventRing.Backpressure.DROP_OLDEST, Duration.ZERO, meterRegistry);
+        List<Long> received = Collections.synchronizedList(new ArrayList<>());
+        ring.addConsumer("consumer", 4, received::addAll);
+
+        for (long i = 0; i < 20; i++) {
+            assertTrue(ring.publish(i));
+        }
+        assertEquals(0, counter("taskmanager.events.dropped", "all"));
+
+        ring.start();
+        ring.stop();
+        // Sadece son 8 olay halkada kalır; atlanan 12 olay tüketicinin sayacına yazılır
+        assertEquals(List.of(12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L), received);
+        assertEquals(12, counter("taskmanager.events.dropped", "consumer"));
+        assertEquals(20, counter("taskmanager.events.published", null));
+    }
+
+    @Test
+    void blockTimesOutWhenConsumerDoesNotMakeRoom() {
+        ring = new EventRing<>("test", 2, EventRing.Backpressure.BLOCK, Duration.ofMillis(50), meterRegistry);
+        ring.addConsumer("consumer", 1, events -> { });
+
+        assertTrue(ring.publish(1L));
+        assertTrue(ring.publish(2L));
+
+        long started = System.nanoTime();
+        assertFalse(ring.publish(3L));
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        assertTrue(waitedMillis >= 50, "üretici blockTimeout kadar beklemeli, bekleme: " + waitedMillis + " ms");
+        assertEquals(1, counter("taskmanager.events.dropped", "all"));
+    }
+
+    @Test
+    void blockedProducerResumesWhenConsumerMakesRoom() throws Exception {
+        ring = new EventRing<>("test", 2, EventRing.Backpressure.BLOCK, Duration.ofSeconds(10), meterRegistry);
+        List<Long> received = Collections.synchronizedList(new ArrayList<>());
+        ring.addConsumer("consumer", 1, received::addAll);
+        assertTrue(ring.publish(1L));
+        assertTrue(ring.publish(2L));
+
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> ring.publish(3L));
+        Thread.sleep(100);
+        assertFalse(blocked.isDone());
+
+        ring.start();
+        assertTrue(blocked.get(5, TimeUnit.SECONDS));
+        ring.stop();
+        assertEquals(List.of(1L, 2L, 3L), received);
+    }
+
+    @Test
+    void consumedSlotsAreReleasedOnlyAfterEveryConsumerPassedThem() throws Exception {
+        ring = new EventRing<>("test", 16, EventRing.Backpressure.BLOCK, Duration.ofSeconds(1), meterRegistry);
+        CountDownLatch slowConsumer = new CountDownLatch(1);
+        CountDownLatch fastDone = new CountDownLatch(10);
+        ring.addConsumer("fast", 16, events -> events.forEach(event -> fastDone.countDown()));
+        ring.addConsumer("slow", 16, events -> {
+            try {
+                slowConsumer.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ring.start();
+
+        for (long i = 0; i < 10; i++) {
+            assertTrue(ring.publish(i));
+        }
+        assertTrue(fastDone.await(5, TimeUnit.SECONDS));
+        // Yavaş tüketici henüz işlemediği için olaylar halkada tutulur
+        assertEquals(10, ring.retainedEvents());
+
+        slowConsumer.countDown();
+        ring.stop();
+        assertEquals(0, ring.retainedEvents());
+    }
+
+    private double counter(String name, String consumer) {
+        var search = meterRegistry.get(name).tag("ring", "test");
+        if (consumer != null) {
+            search = search.tag("consumer", consumer);
+        }
+        return search.counter().count();
+    }
+}
@@ -0,0 +1,93 @@
+package com.berailktrk.taskManager.infrastructure.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.berailktrk.taskManager.domain.event.TaskCreatedEvent;
+import com.berailktrk.taskManager.domain.event.TaskDeletedEvent;
+import com.berailktrk.taskManager.domain.event.TaskEvent;
+import com.berailktrk.taskManager.domain.event.TaskUpdatedEvent;
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+
+// Geçmiş kayıtlarının seq sırası: sürümlü olaylar sürümü, sürümsüz olaylar (silme, etiket, toplu atama) görevin
+// o ana kadarki en büyük seq'inin bir fazlasını alır; aynı batch'teki önceki satırlar da hesaba katılır.
+class TaskHistoryWriterTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TaskHistoryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:history;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE task_history (id BIGINT AUTO_INCREMENT PRIMARY KEY, task_id BIGINT, seq BIGINT, "
+            + "action VARCHAR(16), field VARCHAR(32), old_value TEXT, new_value TEXT, changed_by BIGINT, changed_at TIMESTAMP)");
+
+        writer = new TaskHistoryWriter(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+        ReflectionTestUtils.setField(writer, "batchSize", 500);
+        ReflectionTestUtils.setField(writer, "rowsPerStatement", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void deletionInTheSameBatchSortsAfterTheUpdates() {
+        writer.onEvents(List.of(created(1L), updated(1L, 1L, "title", "priority"), updated(1L, 2L, "status"), deleted(1L)));
+
+        assertEquals(List.of("CREATED:0", "UPDATED:1", "UPDATED:1", "UPDATED:2", "DELETED:3"), history(1L));
+    }
+
+    @Test
+    void unversionedEventsContinueFromTheStoredHistory() {
+        writer.onEvents(List.of(created(1L), updated(1L, 1L, "title"), created(2L)));
+
+        // Toplu atama iki kez (oluşturan ve atanan) sürümsüz olay yayınlar; ikisi de ayrı seq almalı
+        writer.onEvents(List.of(updated(1L, null, "createdByUserId"), updated(2L, null, "labels"),
+            updated(1L, null, "assignedToUserId"), deleted(1L), deleted(2L)));
+
+        assertEquals(List.of("CREATED:0", "UPDATED:1", "UPDATED:2", "UPDATED:3", "DELETED:4"), history(1L));
+        assertEquals(List.of("CREATED:0", "UPDATED:1", "DELETED:2"), history(2L));
+    }
+
+    private List<String> history(Long taskId) {
+        return jdbcTemplate.queryForList(
+            "SELECT action || ':' || seq FROM task_history WHERE task_id = ? ORDER BY seq, id", String.class, taskId);
+    }
+
+    private static TaskEvent created(Long taskId) {
+        return new TaskCreatedEvent(taskId, 1L, NOW, 0L, TaskStatus.PENDING, TaskPriority.MEDIUM, 1L, null, null);
+    }
+
+    private static TaskEvent updated(Long taskId, Long version, String... fields) {
+        Map<String, TaskUpdatedEvent.FieldChange> changes = new LinkedHashMap<>();
+        for (String field : fields) {
+            changes.put(field, new TaskUpdatedEvent.FieldChange("eski", "yeni"));
+        }
+        return new TaskUpdatedEvent(taskId, 1L, NOW, version, changes);
+    }
+
+    private static TaskEvent deleted(Long taskId) {
+        return new TaskDeletedEvent(taskId, 1L, NOW, null);
+    }
+}
@@ -0,0 +1,224 @@
+package com.berailktrk.taskManager.infrastructure.invalidation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Bus'ın ortak kısmı: aynı anahtarın tek gönderilmesi, max-payload-bytes sınırında paketlere bölme, eşiği aşan
+// bölgenin flush'a dönüşmesi, kendi mesajlarını atlama ve commit sonrası yayın. Paketleme thread'i başlatılmaz,
+// flush() testte elle çağrılır.
+class InvalidationBusTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void duplicateKeysAreSentOnce() {
+        RecordingBus bus = new RecordingBus(500, 7900);
+        bus.publish("user", "42");
+        bus.publish("user", "42");
+        bus.publish("user", "7");
+        bus.flush();
+
+        assertEquals(1, bus.sent.size());
+        assertEquals(Set.of("user:42", "user:7"), lines(bus.sent));
+        assertEquals(2, meterRegistry.get("taskmanager.invalidation.messages").tag("direction", "out").counter().count());
+
+        // Gönderilenler kuyruktan çıkar
+        bus.flush();
+        assertEquals(1, bus.sent.size());
+    }
+
+    @Test
+    void payloadsAreSplitAtMaxPayloadBytes() {
+        int maxPayloadBytes = 64;
+        RecordingBus bus = new RecordingBus(500, maxPayloadBytes);
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 40; i++) {
+            // Çok baytlı karakterler sınırın karakter değil bayt üzerinden hesaplandığını doğrular
+            String key = "görev-" + i;
+            bus.publish("task", key);
+            expected.add("task:" + key);
+        }
+        bus.flush();
+
+        assertTrue(bus.sent.size() > 1);
+        for (String payload : bus.sent) {
+            assertTrue(payload.getBytes(StandardCharsets.UTF_8).length <= maxPayloadBytes, payload);
+            assertEquals(bus.nodeId, payload.split("\n")[0]);
+        }
+        assertEquals(expected, lines(bus.sent));
+    }
+
+    @Test
+    void regionOverThresholdIsFlushedAsAWhole() {
+        LoopbackInvalidationBus bus = new LoopbackInvalidationBus(3, 7900, 100, meterRegistry);
+        RecordingListener users = new RecordingListener();
+        RecordingListener tasks = new RecordingListener();
+        bus.subscribe("user", users);
+        bus.subscribe("task", tasks);
+
+        for (int i = 0; i < 4; i++) {
+            bus.publish("user", String.valueOf(i));
+        }
+        bus.publish("task", "1");
+        bus.publish("task", "2");
+        bus.publish("task", "3");
+        bus.flush();
+
+        // Eşiği aşan bölge tek flush alır, eşikteki bölge anahtarlarını alır
+        assertEquals(1, users.flushes);
+        assertEquals(List.of(), users.invalidated);
+        assertEquals(0, tasks.flushes);
+        assertEquals(List.of(Set.of("1", "2", "3")), tasks.invalidated);
+        assertEquals(1, meterRegistry.get("taskmanager.invalidation.flushes").counter().count());
+    }
+
+    @Test
+    void publishedFlushKeyFlushesTheRegion() {
+        LoopbackInvalidationBus bus = new LoopbackInvalidationBus(500, 7900, 100, meterRegistry);
+        RecordingListener users = new RecordingListener();
+        bus.subscribe("user", users);
+
+        bus.publish("user", "42");
+        bus.publish("user", InvalidationBus.FLUSH_KEY);
+        bus.flush();
+
+        assertEquals(1, users.flushes);
+        assertEquals(List.of(), users.invalidated);
+    }
+
+    @Test
+    void ownMessagesAreIgnoredForeignMessagesAreDelivered() {
+        RecordingBus bus = new RecordingBus(500, 7900);
+        RecordingListener users = new RecordingListener();
+        bus.subscribe("user", users);
+
+        bus.publish("user", "42");
+        bus.flush();
+        bus.receive(bus.sent.get(0));
+        assertEquals(List.of(), users.invalidated);
+
+        bus.receive("othernode\nuser:42\nuser:7\ntask:1");
+        assertEquals(List.of(Set.of("42", "7")), users.invalidated);
+        assertEquals(3, meterRegistry.get("taskmanager.invalidation.messages").tag("direction", "in").counter().count());
+    }
+
+    @Test
+    void loopbackDeliversOwnMessages() {
+        LoopbackInvalidationBus bus = new LoopbackInvalidationBus(500, 7900, 100, meterRegistry);
+        RecordingListener users = new RecordingListener();
+        bus.subscribe("user", users);
+
+        bus.publish("user", "42");
+        bus.flush();
+        assertEquals(List.of(Set.of("42")), users.invalidated);
+    }
+
+    @Test
+    void publishInsideTransactionIsQueuedOnlyAfterCommit() {
+        RecordingBus bus = new RecordingBus(500, 7900);
+
+        TransactionSynchronizationManager.initSynchronization();
+        bus.publish("user", "1");
+        bus.flush();
+        assertEquals(List.of(), bus.sent);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        bus.flush();
+        assertEquals(List.of(), bus.sent);
+
+        TransactionSynchronizationManager.initSynchronization();
+        bus.publish("user", "2");
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        bus.flush();
+        assertEquals(Set.of("user:2"), lines(bus.sent));
+    }
+
+    @Test
+    void failedSendIsRetriedOnNextFlush() {
+        RecordingBus bus = new RecordingBus(500, 7900);
+        bus.failures = 1;
+        bus.publish("user", "42");
+        bus.flush();
+        assertEquals(List.of(), bus.sent);
+
+        bus.flush();
+        assertEquals(Set.of("user:42"), lines(bus.sent));
+    }
+
+    // Testte transaction yöneticisinin commit/rollback sonrası yaptığını taklit eder
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+
+    private static Set<String> lines(List<String> payloads) {
+        Set<String> lines = new HashSet<>();
+        for (String payload : payloads) {
+            String[] parts = payload.split("\n");
+            for (int i = 1; i < parts.length; i++) {
+                assertTrue(lines.add(parts[i]), "tekrar gönderilen satır: " + parts[i]);
+            }
+        }
+        return lines;
+    }
+
+    private class RecordingBus extends AbstractInvalidationBus {
+
+        private final List<String> sent = new ArrayList<>();
+        private int failures;
+
+        RecordingBus(int maxKeysPerRegion, int maxPayloadBytes) {
+            super(maxKeysPerRegion, maxPayloadBytes, 100, meterRegistry);
+        }
+
+        @Override
+        protected void send(List<String> payloads) {
+            if (failures > 0) {
+                failures--;
+                throw new IllegalStateException("bağlantı yok");
+            }
+            sent.addAll(payloads);
+        }
+    }
+
+    private static class RecordingListener implements InvalidationListener {
+
+        private final List<Set<String>> invalidated = new ArrayList<>();
+        private int flushes;
+
+        @Override
+        public void onInvalidate(Set<String> keys) {
+            invalidated.add(keys);
+        }
+
+        @Override
+        public void onFlush() {
+            flushes++;
+        }
+    }
+}
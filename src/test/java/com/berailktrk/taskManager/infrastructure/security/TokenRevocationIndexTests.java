@@ -0,0 +1,116 @@
+package com.berailktrk.taskManager.infrastructure.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.berailktrk.taskManager.domain.model.TokenRevocation;
+import com.berailktrk.taskManager.domain.repository.TokenRevocationRepository;
+import com.berailktrk.taskManager.infrastructure.invalidation.LoopbackInvalidationBus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Bellekteki token iptal listesi: tek token iptali, kullanıcı bazlı notBefore'un milisaniye hassasiyeti,
+// diğer instance'lardan gelen anahtarlar, veritabanından yükleme ve süresi dolan kayıtların atılması.
+class TokenRevocationIndexTests {
+
+    private static final long TTL_MS = 900_000;
+
+    private TokenRevocationRepository repository;
+    private TokenRevocationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(TokenRevocationRepository.class);
+        index = new TokenRevocationIndex(repository,
+            new LoopbackInvalidationBus(500, 7900, 100, new SimpleMeterRegistry()), TTL_MS);
+    }
+
+    @Test
+    void revokedTokenIsRejectedByJti() {
+        long expiresAt = System.currentTimeMillis() / 1000 + 600;
+        index.revokeToken("jti-1", expiresAt);
+
+        assertTrue(index.isRevoked("jti-1", 1L, System.currentTimeMillis()));
+        assertFalse(index.isRevoked("jti-2", 1L, System.currentTimeMillis()));
+    }
+
+    @Test
+    void userNotBeforeIsComparedAtMillisecondPrecision() {
+        long notBefore = 1_700_000_000_123L;
+        index.revokeUser(1L, notBefore);
+
+        assertTrue(index.isRevoked("a", 1L, notBefore - 1));
+        assertTrue(index.isRevoked("b", 1L, notBefore));
+        // Aynı saniye içinde ama iptalden sonra üretilen token geçerlidir
+        assertFalse(index.isRevoked("c", 1L, notBefore + 1));
+        assertFalse(index.isRevoked("d", 2L, notBefore - 1));
+    }
+
+    @Test
+    void laterNotBeforeWinsRegardlessOfArrivalOrder() {
+        long notBefore = 1_700_000_000_500L;
+        index.revokeUser(1L, notBefore);
+        index.revokeUser(1L, notBefore - 400);
+
+        assertTrue(index.isRevoked("a", 1L, notBefore));
+        assertFalse(index.isRevoked("b", 1L, notBefore + 1));
+    }
+
+    @Test
+    void revocationsFromOtherInstancesAreApplied() {
+        long notBefore = 1_700_000_000_250L;
+        index.onInvalidate(Set.of(
+            TokenRevocationIndex.tokenKey("remote-jti", System.currentTimeMillis() / 1000 + 600),
+            TokenRevocationIndex.userKey(1L, notBefore),
+            // Eski sürümün saniye hassasiyetli anahtarı o saniyenin tamamını kapsar
+            "u:2:1700000000",
+            "bozuk-anahtar"));
+
+        assertTrue(index.isRevoked("remote-jti", 9L, 0));
+        assertTrue(index.isRevoked("a", 1L, notBefore));
+        assertFalse(index.isRevoked("b", 1L, notBefore + 1));
+        assertTrue(index.isRevoked("c", 2L, 1_700_000_000_999L));
+        assertFalse(index.isRevoked("d", 2L, 1_700_000_001_000L));
+    }
+
+    @Test
+    void revocationsAreLoadedFromTheDatabase() {
+        LocalDateTime now = LocalDateTime.now();
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of(
+            TokenRevocation.ofToken("stored-jti", now.plusMinutes(10)),
+            TokenRevocation.ofUser(1L, now, now.plusMinutes(15))));
+
+        index.load();
+
+        long notBefore = TokenRevocationIndex.toEpochMilli(now);
+        assertTrue(index.isRevoked("stored-jti", 9L, System.currentTimeMillis()));
+        assertTrue(index.isRevoked("a", 1L, notBefore));
+        assertFalse(index.isRevoked("b", 1L, notBefore + 1));
+    }
+
+    @Test
+    void expiredEntriesAreEvicted() {
+        long nowMs = System.currentTimeMillis();
+        index.revokeToken("expired", nowMs / 1000 - 1);
+        index.revokeToken("active", nowMs / 1000 + 600);
+        index.revokeUser(1L, nowMs - TTL_MS - 1_000);
+        index.revokeUser(2L, nowMs - 1_000);
+
+        index.evictExpired();
+
+        assertFalse(index.isRevoked("expired", 9L, nowMs));
+        assertTrue(index.isRevoked("active", 9L, nowMs));
+        assertFalse(index.isRevoked("a", 1L, nowMs - TTL_MS - 2_000));
+        assertTrue(index.isRevoked("b", 2L, nowMs - 2_000));
+    }
+}
@@ -0,0 +1,92 @@
+package com.berailktrk.taskManager.infrastructure.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+// Gradyan limiti: gecikme tabandayken limit büyür, gecikme artınca küçülür; sınırlar ve düşük kullanımda
+// limitin değişmemesi. Örnekler sahte gecikmelerle pencere pencere verilir.
+class AdaptiveConcurrencyLimitTests {
+
+    private static final int WINDOW = 10;
+
+    @Test
+    void limitGrowsWhileLatencyStaysAtBaseline() {
+        AdaptiveConcurrencyLimit limiter = new AdaptiveConcurrencyLimit(20, 5, 100, WINDOW);
+
+        int previous = limiter.getLimit();
+        for (int i = 0; i < 5; i++) {
+            window(limiter, 10, limiter.getLimit());
+            assertTrue(limiter.getLimit() > previous, "limit: " + limiter.getLimit());
+            previous = limiter.getLimit();
+        }
+
+        for (int i = 0; i < 200; i++) {
+            window(limiter, 10, limiter.getLimit());
+        }
+        assertEquals(100, limiter.getLimit());
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimit limiter = new AdaptiveConcurrencyLimit(50, 5, 100, WINDOW);
+        window(limiter, 10, 50);
+        int baseline = limiter.getLimit();
+
+        int previous = baseline;
+        for (int i = 0; i < 5; i++) {
+            window(limiter, 100, limiter.getLimit());
+            assertTrue(limiter.getLimit() < previous, "limit: " + limiter.getLimit());
+            previous = limiter.getLimit();
+        }
+
+        // Gecikme yüksek kalsa da limit alt sınırın altına inmez
+        AdaptiveConcurrencyLimit floored = new AdaptiveConcurrencyLimit(50, 30, 100, WINDOW);
+        window(floored, 10, 50);
+        for (int i = 0; i < 20; i++) {
+            window(floored, 100, floored.getLimit());
+        }
+        assertEquals(30, floored.getLimit());
+    }
+
+    @Test
+    void limitIsKeptWhenTrafficUsesLessThanHalfOfIt() {
+        AdaptiveConcurrencyLimit limiter = new AdaptiveConcurrencyLimit(20, 5, 100, WINDOW);
+
+        window(limiter, 10, 2);
+        window(limiter, 500, 2);
+
+        assertEquals(20, limiter.getLimit());
+    }
+
+    @Test
+    void shareLimitsTheRequestClass() {
+        AdaptiveConcurrencyLimit limiter = new AdaptiveConcurrencyLimit(10, 5, 100, WINDOW);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire(0.4));
+        }
+        assertFalse(limiter.tryAcquire(0.4));
+        // Daha büyük paya sahip sınıf aynı anda kalan yeri kullanabilir
+        assertTrue(limiter.tryAcquire(1.0));
+        assertEquals(5, limiter.getInFlight());
+
+        // Toplam dört istek kalana kadar küçük paylı sınıf beklemeye devam eder
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(10), 4);
+        assertFalse(limiter.tryAcquire(0.4));
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(10), 4);
+        assertTrue(limiter.tryAcquire(0.4));
+    }
+
+    // Tek pencerelik örnek: her istek kabul edilip verilen gecikmeyle tamamlanır
+    private static void window(AdaptiveConcurrencyLimit limiter, long rttMillis, int inFlightAtStart) {
+        for (int i = 0; i < WINDOW; i++) {
+            assertTrue(limiter.tryAcquire(1.0));
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(rttMillis), inFlightAtStart);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.berailktrk.taskManager.infrastructure.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.model.TaskStatus;
+import com.berailktrk.taskManager.presentation.dto.TaskResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Accept başlığına göre JSON, CBOR veya Smile yanıtı seçilir; ikili yanıtlar aynı mapper ile geri okunduğunda
+// görevler (tarihler dahil) aynen elde edilir.
+class BinaryFormatNegotiationTests {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final List<TaskResponse> tasks = List.of(task(1L, "Rapor hazırla"), task(2L, "Sunumu gözden geçir"));
+    private MockMvc mockMvc;
+
+    @RestController
+    class TasksController {
+        @GetMapping("/tasks")
+        List<TaskResponse> tasks() {
+            return tasks;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        BinaryFormatConfig config = new BinaryFormatConfig();
+        ObjectMapper json = new Jackson2ObjectMapperBuilder()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        mockMvc = MockMvcBuilders.standaloneSetup(new TasksController())
+            .setMessageConverters(
+                new MappingJackson2HttpMessageConverter(json),
+                config.cborHttpMessageConverter(new Jackson2ObjectMapperBuilder()),
+                config.smileHttpMessageConverter(new Jackson2ObjectMapperBuilder()))
+            .build();
+    }
+
+    @Test
+    void cborResponseRoundTrips() throws Exception {
+        byte[] body = fetch(CBOR);
+        assertEquals(tasks, decode(BinaryFormatConfig.cborMapper(new Jackson2ObjectMapperBuilder()), body));
+    }
+
+    @Test
+    void smileResponseRoundTrips() throws Exception {
+        byte[] body = fetch(SMILE);
+        assertEquals(tasks, decode(BinaryFormatConfig.smileMapper(new Jackson2ObjectMapperBuilder()), body));
+    }
+
+    @Test
+    void jsonRemainsTheDefault() throws Exception {
+        mockMvc.perform(get("/tasks"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(content().string(Matchers.containsString("\"dueDate\":\"2025-01-16T09:30:12\"")));
+    }
+
+    private byte[] fetch(MediaType mediaType) throws Exception {
+        return mockMvc.perform(get("/tasks").accept(mediaType))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(mediaType))
+            .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private List<TaskResponse> decode(ObjectMapper mapper, byte[] body) throws Exception {
+        return mapper.readValue(body, new TypeReference<List<TaskResponse>>() { });
+    }
+
+    private static TaskResponse task(Long id, String title) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 15, 9, 30, 12);
+        TaskResponse task = new TaskResponse();
+        task.setId(id);
+        task.setTitle(title);
+        task.setStatus(TaskStatus.values()[0]);
+        task.setPriority(TaskPriority.values()[0]);
+        task.setCreatedByUserId(7L);
+        task.setCreatedByUsername("ayse");
+        task.setCreatedAt(createdAt);
+        task.setDueDate(createdAt.plusDays(1));
+        task.setVersion(0L);
+        return task;
+    }
+}
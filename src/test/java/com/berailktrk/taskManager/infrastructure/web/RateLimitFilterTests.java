@@ -0,0 +1,127 @@
+package com.berailktrk.taskManager.infrastructure.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Hız limiti: token bucket'ın art arda geçişe (burst) izin vermesi ve zamanla dolması, filtrenin başlıkları ve
+// 429 yanıtı, istemci başına ayrı kovalar ve /api/batch zarfının limitten düşülmemesi.
+class RateLimitFilterTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = newFilter();
+    }
+
+    @Test
+    void bucketAllowsABurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket();
+
+        assertEquals(2, bucket.tryConsume(0, 3, SECOND).remaining());
+        assertEquals(1, bucket.tryConsume(0, 3, SECOND).remaining());
+        assertEquals(0, bucket.tryConsume(0, 3, SECOND).remaining());
+
+        TokenBucket.Result rejected = bucket.tryConsume(0, 3, SECOND);
+        assertFalse(rejected.allowed());
+        assertEquals(SECOND, rejected.retryAfterNanos());
+    }
+
+    @Test
+    void bucketRefillsOneTokenPerEmissionInterval() {
+        TokenBucket bucket = new TokenBucket();
+        for (int i = 0; i < 3; i++) {
+            assertTrue(bucket.tryConsume(0, 3, SECOND).allowed());
+        }
+
+        // Yarım saniye sonra token henüz dolmamıştır; kalan bekleme süresi bildirilir
+        assertEquals(SECOND / 2, bucket.tryConsume(SECOND / 2, 3, SECOND).retryAfterNanos());
+        assertTrue(bucket.tryConsume(SECOND, 3, SECOND).allowed());
+        assertFalse(bucket.tryConsume(SECOND, 3, SECOND).allowed());
+
+        // Uzun bekleme kovayı kapasitenin üstüne taşımaz
+        long later = 100 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertTrue(bucket.tryConsume(later, 3, SECOND).allowed());
+        }
+        assertFalse(bucket.tryConsume(later, 3, SECOND).allowed());
+    }
+
+    @Test
+    void filterRejectsOnceTheBudgetIsSpent() throws Exception {
+        MockHttpServletResponse first = perform("GET", "/api/tasks/1", "10.0.0.1");
+        assertEquals(200, first.getStatus());
+        assertEquals("2", first.getHeader("RateLimit-Limit"));
+        assertEquals("1", first.getHeader("RateLimit-Remaining"));
+        assertEquals("2;w=60", first.getHeader("RateLimit-Policy"));
+
+        assertEquals("0", perform("GET", "/api/tasks/1", "10.0.0.1").getHeader("RateLimit-Remaining"));
+
+        MockHttpServletResponse rejected = perform("GET", "/api/tasks/1", "10.0.0.1");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("30", rejected.getHeader("Retry-After"));
+
+        // Başka istemci ve başka endpoint sınıfı kendi kovasını kullanır
+        assertEquals(200, perform("GET", "/api/tasks/1", "10.0.0.2").getStatus());
+        assertEquals(200, perform("PUT", "/api/tasks/1", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void batchEnvelopeIsNotCharged() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletResponse response = perform("POST", "/api/batch", "10.0.0.1");
+            assertEquals(200, response.getStatus());
+            assertNull(response.getHeader("RateLimit-Remaining"));
+        }
+
+        // Alt istekler kullanıcının kendi sınıfındaki kovasından düşülür
+        assertEquals(0, filter.tryConsume(7L, EndpointClass.READ));
+        assertEquals(0, filter.tryConsume(7L, EndpointClass.READ));
+        assertEquals(30, filter.tryConsume(7L, EndpointClass.READ));
+    }
+
+    @Test
+    void budgetsResolveUnderATurkishDefaultLocale() {
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            assertEquals(0, newFilter().tryConsume(7L, EndpointClass.WRITE));
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    private static RateLimitFilter newFilter() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("app.rate-limit.auth", "2/1m")
+            .withProperty("app.rate-limit.read", "2/1m")
+            .withProperty("app.rate-limit.write", "2/1m")
+            .withProperty("app.rate-limit.search", "2/1m")
+            .withProperty("app.rate-limit.export", "2/1m");
+        return new RateLimitFilter(environment, true, 1000, new SimpleMeterRegistry());
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,96 @@
+package com.berailktrk.taskManager.presentation.controller;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.berailktrk.taskManager.application.usecase.TaskService;
+import com.berailktrk.taskManager.application.usecase.UserService;
+import com.berailktrk.taskManager.domain.model.TaskPriority;
+import com.berailktrk.taskManager.domain.model.User;
+import com.berailktrk.taskManager.infrastructure.security.JwtProvider;
+import com.berailktrk.taskManager.presentation.dto.RegisterRequest;
+import com.berailktrk.taskManager.presentation.dto.TaskRequest;
+
+// PATCH yanıtındaki ETag güncellemeden sonraki sürümü taşımalı: istemci onu If-Match ile geri gönderdiğinde
+// sonraki PATCH kabul edilir, eski sürümle gelen istek ise 409 alır.
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:task_patch;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "jwt.secret=0123456789012345678901234567890123456789012345678901234567890123456789"
+})
+@AutoConfigureMockMvc
+class TaskPatchTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    private String authorization;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        RegisterRequest register = new RegisterRequest();
+        register.setUsername("patch-" + System.nanoTime());
+        register.setPassword("secret123");
+        User user = userService.register(register);
+        authorization = "Bearer " + jwtProvider.generateToken(user.getId(), user.getRole().name());
+
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Sürüm testi");
+        request.setPriority(TaskPriority.MEDIUM);
+        taskId = taskService.createTask(request, user.getId()).getId();
+    }
+
+    @Test
+    void patchWithTheReturnedEtagSucceeds() throws Exception {
+        String initial = mockMvc.perform(get("/api/tasks/{taskId}", taskId).header(HttpHeaders.AUTHORIZATION, authorization))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String first = patchTask(initial, "{\"title\":\"Birinci güncelleme\"}")
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(initial, first);
+
+        String second = patchTask(first, "{\"priority\":\"HIGH\"}")
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(first, second);
+
+        // Artık eski olan sürümle gelen güncelleme reddedilir
+        patchTask(first, "{\"title\":\"Eski sürümle güncelleme\"}")
+            .andExpect(status().isConflict());
+    }
+
+    private ResultActions patchTask(String ifMatch, String body) throws Exception {
+        return mockMvc.perform(patch("/api/tasks/{taskId}", taskId)
+            .header(HttpHeaders.AUTHORIZATION, authorization)
+            .header(HttpHeaders.IF_MATCH, ifMatch)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body));
+    }
+}